@@ -1,12 +1,42 @@
 package com.example.demo;
 
+import com.example.demo.config.AdmissionControlProperties;
+import com.example.demo.config.AutocompleteProperties;
+import com.example.demo.config.ChangeLogProperties;
+import com.example.demo.config.ChangeStreamProperties;
+import com.example.demo.config.ConsultantWriteProperties;
+import com.example.demo.config.FuzzyMatchProperties;
+import com.example.demo.config.NetworkProperties;
+import com.example.demo.config.ReferenceDataProperties;
 import com.example.demo.config.ScoringProperties;
+import com.example.demo.config.SearchProperties;
+import com.example.demo.config.SimilarityProperties;
+import com.example.demo.config.SlowQueryProperties;
+import com.example.demo.config.SubgraphProperties;
+import com.example.demo.config.WarmUpProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(ScoringProperties.class)
+@EnableConfigurationProperties({
+        ScoringProperties.class,
+        ConsultantWriteProperties.class,
+        SlowQueryProperties.class,
+        WarmUpProperties.class,
+        SearchProperties.class,
+        AutocompleteProperties.class,
+        FuzzyMatchProperties.class,
+        SimilarityProperties.class,
+        NetworkProperties.class,
+        SubgraphProperties.class,
+        ReferenceDataProperties.class,
+        ChangeLogProperties.class,
+        ChangeStreamProperties.class,
+        AdmissionControlProperties.class
+})
+@EnableScheduling
 
 public class DataDrivenStaffingApplication {
 
@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "admission-control")
+
+public record AdmissionControlProperties(
+        boolean enabled,
+        List<Route> routes
+) {
+
+    /**
+     * One bulkhead. A request is admitted by the first route with a matching path pattern; requests matching no
+     * route are not limited. Without a {@code latencyThreshold} the limit stays at {@code initialLimit}.
+     */
+    public record Route(
+            String name,
+            List<String> paths,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            int queueSize,
+            Duration maxQueueWait,
+            Duration latencyThreshold,
+            double backoffRatio,
+            int rejectStatus,
+            Duration retryAfter
+    ) {}
+}
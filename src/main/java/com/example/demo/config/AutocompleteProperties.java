@@ -0,0 +1,9 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "autocomplete")
+
+public record AutocompleteProperties(
+        int maxSuggestions
+) {}
@@ -0,0 +1,15 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "change-log")
+
+public record ChangeLogProperties(
+        boolean enabled,
+        Duration pollInterval,
+        int batchSize,
+        Duration retention,
+        Duration purgeInterval
+) {}
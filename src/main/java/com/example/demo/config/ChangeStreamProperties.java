@@ -0,0 +1,13 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "change-stream")
+
+public record ChangeStreamProperties(
+        int bufferSize,
+        Duration heartbeatInterval,
+        Duration timeout
+) {}
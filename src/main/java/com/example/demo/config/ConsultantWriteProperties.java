@@ -0,0 +1,14 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "consultant-writes")
+
+public record ConsultantWriteProperties(
+        int lockStripes,
+        int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff
+) {}
@@ -1,5 +1,6 @@
 package com.example.demo.config;
 
+import com.example.demo.index.RoleDictionary;
 import com.example.demo.model.Company;
 import com.example.demo.model.Consultant;
 import com.example.demo.model.Project;
@@ -7,6 +8,7 @@ import com.example.demo.model.Skill;
 import com.example.demo.model.relationship.AssignedTo;
 import com.example.demo.model.relationship.HasSkill;
 import com.example.demo.model.relationship.RequiresSkill;
+import com.example.demo.repository.RoleDefinition;
 import org.neo4j.driver.Driver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +16,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
 
@@ -29,9 +32,12 @@ public class DataLoader {
 
     private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
 
+    static final int LOAD_ORDER = 0;
+
     @Bean
     @Profile("!test")
-    CommandLineRunner loadData(Neo4jTemplate neo4jTemplate, Driver driver) {
+    @Order(LOAD_ORDER)
+    CommandLineRunner loadData(Neo4jTemplate neo4jTemplate, Driver driver, RoleDictionary roleDictionary) {
         return args -> {
             // Clear existing data
             try (var session = driver.session()) {
@@ -77,7 +83,7 @@ public class DataLoader {
                 project.setStartDate(LocalDateTime.parse(row[2]));
                 project.setEndDate(LocalDateTime.parse(row[3]));
                 project.setRequirements(parseSemicolonList(row[4]));
-                project.setRoles(parseRolesMap(row[5]));
+                setRoles(project, parseRolesMap(row[5]), roleDictionary);
 
                 project = neo4jTemplate.save(project);
                 projectMap.put(project.getName(), project);
@@ -149,7 +155,11 @@ public class DataLoader {
 
                 AssignedTo at = new AssignedTo();
                 at.setProject(project);
-                at.setRole(row[2]);
+                RoleDefinition role = roleDictionary.intern(row[2]);
+                if (role != null) {
+                    at.setRole(role.name());
+                    at.setRoleId(role.roleId());
+                }
                 at.setAllocationPercent(Integer.parseInt(row[3]));
                 at.setIsActive(true);
                 if (row.length > 4 && !row[4].isBlank()) {
@@ -252,11 +262,25 @@ public class DataLoader {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Interns the parsed project roles through the role dictionary, so differently written titles
+     * of the same role are merged and stored under their canonical name and id.
+     */
+    private void setRoles(Project project, Map<String, Integer> roles, RoleDictionary roleDictionary) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Map<String, Integer> ids = new HashMap<>();
+        roles.forEach((title, count) -> {
+            RoleDefinition role = roleDictionary.intern(title);
+            counts.merge(role.name(), count, Integer::sum);
+            ids.put(role.name(), role.roleId());
+        });
+        project.setRoles(counts);
+        project.setRoleIds(project.getRoleNames().stream().map(ids::get).collect(Collectors.toList()));
+    }
+
     /**
      * Parses a role string like "Backend Developer:2;Frontend Developer:1"
-     * into a normalized Map<String, Integer>.
-     *
-     * Keys are lowercased to match roleNormalized stored in Neo4j.
+     * into a Map<String, Integer> of role title to count.
      */
     private Map<String, Integer> parseRolesMap(String value) {
         if (value == null || value.isBlank()) {
@@ -272,7 +296,7 @@ public class DataLoader {
             String[] parts = entry.trim().split(":", 2);
             if (parts.length != 2) continue;
 
-            String roleName = parts[0].trim().toLowerCase();   // normalize here
+            String roleName = parts[0].trim();
             String countStr = parts[1].trim();
 
             if (roleName.isEmpty()) continue;
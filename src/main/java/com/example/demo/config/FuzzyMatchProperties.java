@@ -0,0 +1,19 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fuzzy-match")
+
+public record FuzzyMatchProperties(
+        boolean enabled,
+        int oneEditMinLength,
+        int twoEditsMinLength
+) {
+
+    public int maxDistanceFor(final String term) {
+        if (!enabled || term.length() < oneEditMinLength) {
+            return 0;
+        }
+        return term.length() < twoEditsMinLength ? 1 : 2;
+    }
+}
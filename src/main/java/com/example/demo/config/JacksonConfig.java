@@ -0,0 +1,34 @@
+package com.example.demo.config;
+
+import com.example.demo.serializer.ConsultantResponseSerializer;
+import com.example.demo.serializer.ProjectResponseSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Response DTOs carry a {@code @JsonFilter} for sparse fieldsets; without a {@code fields} parameter the filter
+     * is unknown and every property is written.
+     */
+    @Bean
+    Jackson2ObjectMapperBuilderCustomizer sparseFieldsetDefaults() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    /**
+     * List endpoints return entities rather than response DTOs; these write them in the DTO shape without the
+     * intermediate objects. Spring Boot registers every {@link Module} bean with the application's mappers.
+     */
+    @Bean
+    Module responseSerializers() {
+        return new SimpleModule("ResponseSerializers")
+                .addSerializer(new ConsultantResponseSerializer())
+                .addSerializer(new ProjectResponseSerializer());
+    }
+}
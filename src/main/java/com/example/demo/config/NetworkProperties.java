@@ -0,0 +1,10 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "network")
+
+public record NetworkProperties(
+        int maxDepth,
+        int maxResults
+) {}
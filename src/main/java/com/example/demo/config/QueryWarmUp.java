@@ -0,0 +1,160 @@
+package com.example.demo.config;
+
+import com.example.demo.controller.CompanyController;
+import com.example.demo.controller.ConsultantController;
+import com.example.demo.controller.ProjectController;
+import com.example.demo.controller.SkillController;
+import com.example.demo.dto.request.SearchConsultantRequest;
+import com.example.demo.index.RoleDictionary;
+import com.example.demo.model.Company;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Project;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.CompanyRepository;
+import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.ConsultantSearchCriteria;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.SkillRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Primes the Neo4j plan cache and the JIT before the instance reports ready.
+ * Runs after {@link DataLoader}; readiness only flips to ACCEPTING_TRAFFIC once all
+ * command line runners have completed, so the first real request never pays the cold start.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class QueryWarmUp {
+
+    private static final int WARM_UP_ORDER = DataLoader.LOAD_ORDER + 1;
+    private static final int REPRESENTATIVE_SAMPLE_SIZE = 3;
+    private static final int REPRESENTATIVE_MIN_YEARS = 2;
+    private static final List<String> REPRESENTATIVE_ROLES = List.of("developer", "architect");
+
+    private final WarmUpProperties warmUpProperties;
+    private final ScoringProperties scoringProperties;
+    private final ConsultantRepository consultantRepository;
+    private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+    private final CompanyRepository companyRepository;
+    private final RoleDictionary roleDictionary;
+    private final ConsultantController consultantController;
+    private final ProjectController projectController;
+    private final SkillController skillController;
+    private final CompanyController companyController;
+    private final ObjectMapper objectMapper;
+
+    @Bean
+    @Profile("!test")
+    @Order(WARM_UP_ORDER)
+    CommandLineRunner warmUpQueries() {
+        return args -> {
+            if (!warmUpProperties.enabled()) {
+                log.info("[QueryWarmUp] - SKIPPED: warm-up disabled");
+                return;
+            }
+            final long startNanos = System.nanoTime();
+
+            final List<String> skillNames = skillRepository.findAll().stream()
+                    .limit(REPRESENTATIVE_SAMPLE_SIZE)
+                    .map(Skill::getName)
+                    .toList();
+            final List<Company> companies = companyRepository.findAll().stream()
+                    .limit(REPRESENTATIVE_SAMPLE_SIZE)
+                    .toList();
+            final List<String> companyNames = companies.stream().map(Company::getName).toList();
+            final String companyId = companies.isEmpty() ? "" : companies.getFirst().getId();
+            final String consultantEmail = consultantRepository.findAll().stream()
+                    .findFirst()
+                    .map(Consultant::getEmail)
+                    .orElse("");
+            final String projectName = projectRepository.findAll().stream()
+                    .findFirst()
+                    .map(Project::getName)
+                    .orElse("");
+            final String skillName = skillNames.isEmpty() ? "" : skillNames.getFirst();
+            final List<Integer> roleIds = roleDictionary.matchIds(REPRESENTATIVE_ROLES);
+
+            final List<ConsultantSearchCriteria> shapes = List.of(
+                    new ConsultantSearchCriteria(skillNames, REPRESENTATIVE_ROLES, roleIds, true, true, null,
+                            companyNames, LocalDateTime.now()),
+                    new ConsultantSearchCriteria(skillNames, List.of(), List.of(), null, null, null, List.of(), null),
+                    new ConsultantSearchCriteria(List.of(), List.of(), List.of(), true, null, true, List.of(), null));
+            final List<SearchConsultantRequest> searches = List.of(
+                    new SearchConsultantRequest(skillNames, REPRESENTATIVE_ROLES, true, true, null,
+                            companyNames, LocalDateTime.now()),
+                    new SearchConsultantRequest(skillNames, List.of(), null, null, null, List.of(), null),
+                    new SearchConsultantRequest(List.of(), List.of(), true, null, true, List.of(), null));
+
+            for (int iteration = 0; iteration < warmUpProperties.iterations(); iteration++) {
+                run("consultant queries", () -> {
+                    consultantRepository.findByEmail(consultantEmail);
+                    consultantRepository.findByAvailabilityTrue();
+                    consultantRepository.findByWantsNewProjectTrue();
+                    consultantRepository.findBySkillNames(skillNames);
+                    consultantRepository.findAvailableWithMinExperience(REPRESENTATIVE_MIN_YEARS);
+                    return consultantRepository.textSearch(skillName, scoringProperties.nameWeight(),
+                            scoringProperties.skillWeight(), scoringProperties.roleWeight(), 0, 20);
+                });
+                for (final ConsultantSearchCriteria shape : shapes) {
+                    run("consultant search shapes", () -> consultantRepository.searchByShape(shape,
+                            scoringProperties.skillWeight(), scoringProperties.roleWeight(),
+                            scoringProperties.companyWeight()));
+                }
+                run("project queries", () -> {
+                    projectRepository.findByName(projectName);
+                    projectRepository.findByCompanyId(companyId);
+                    return projectRepository.findByRequiredSkillNames(skillNames);
+                });
+                run("reference queries", () -> {
+                    skillRepository.findByNameOrSynonym(skillName);
+                    skillRepository.findByNameContainingIgnoreCase(skillName);
+                    return companyRepository.findByNameContainingIgnoreCase(skillName);
+                });
+                for (final SearchConsultantRequest search : searches) {
+                    serialize("consultant search", () -> consultantController.search(search));
+                }
+                serialize("consultant text search", () -> consultantController.textSearch(skillName, 0, 20));
+                serialize("consultants", () -> consultantController.getAll(null));
+                serialize("projects", () -> projectController.getAll(null));
+                serialize("skills", skillController::getAll);
+                serialize("companies", companyController::getAll);
+            }
+
+            log.info("[QueryWarmUp] - COMPLETE: iterations: {}, elapsedMs: {}",
+                    warmUpProperties.iterations(), (System.nanoTime() - startNanos) / 1_000_000);
+        };
+    }
+
+    private void run(final String stage, final Supplier<?> warmUp) {
+        try {
+            warmUp.get();
+        } catch (final RuntimeException ex) {
+            log.warn("[QueryWarmUp] - STAGE_FAILED: stage: {}, message: {}", stage, ex.getMessage());
+        }
+    }
+
+    private void serialize(final String stage, final Supplier<? extends ResponseEntity<?>> endpoint) {
+        run(stage, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(endpoint.get().getBody());
+            } catch (final JsonProcessingException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+}
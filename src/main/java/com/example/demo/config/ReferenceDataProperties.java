@@ -0,0 +1,12 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "reference-data")
+
+public record ReferenceDataProperties(
+        long cacheSize,
+        Duration cacheTtl
+) {}
@@ -0,0 +1,59 @@
+package com.example.demo.config;
+
+import com.example.demo.repository.ChangeLogIndexes;
+import com.example.demo.repository.EntityIdIndexes;
+import com.example.demo.repository.FullTextIndexes;
+import com.example.demo.repository.RoleIndexes;
+import com.example.demo.repository.VersionIndexes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+/**
+ * Creates the indexes the application relies on before any data is loaded, and waits until they are online.
+ * All statements are idempotent.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaInitializer {
+
+    static final int SCHEMA_ORDER = DataLoader.LOAD_ORDER - 1;
+    private static final int INDEX_ONLINE_TIMEOUT_SECONDS = 300;
+
+    private final Neo4jClient neo4jClient;
+
+    @Bean
+    @Order(SCHEMA_ORDER)
+    CommandLineRunner createIndexes() {
+        return args -> {
+            for (final String definition : FullTextIndexes.DEFINITIONS) {
+                neo4jClient.query(definition).run();
+            }
+            for (final String definition : RoleIndexes.DEFINITIONS) {
+                neo4jClient.query(definition).run();
+            }
+            for (final String definition : ChangeLogIndexes.DEFINITIONS) {
+                neo4jClient.query(definition).run();
+            }
+            for (final String definition : VersionIndexes.DEFINITIONS) {
+                neo4jClient.query(definition).run();
+            }
+            for (final String definition : EntityIdIndexes.DEFINITIONS) {
+                neo4jClient.query(definition).run();
+            }
+            neo4jClient.query("CALL db.awaitIndexes($timeout)")
+                    .bind(INDEX_ONLINE_TIMEOUT_SECONDS).to("timeout")
+                    .run();
+            log.info("[SchemaInitializer] - INDEXES_READY: fullText: {}, roles: {}, changeLog: {}, versions: {}, "
+                            + "entityIds: {}",
+                    FullTextIndexes.DEFINITIONS.size(), RoleIndexes.DEFINITIONS.size(),
+                    ChangeLogIndexes.DEFINITIONS.size(), VersionIndexes.DEFINITIONS.size(),
+                    EntityIdIndexes.DEFINITIONS.size());
+        };
+    }
+}
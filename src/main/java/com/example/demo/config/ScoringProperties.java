@@ -7,5 +7,6 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public record ScoringProperties(
         int skillWeight,
         int roleWeight,
-        int companyWeight
+        int companyWeight,
+        int nameWeight
 ) {}
@@ -0,0 +1,16 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "search")
+
+public record SearchProperties(
+        SearchStrategyType strategy,
+        boolean coalesce
+) {
+
+    public enum SearchStrategyType {
+        SHAPE_SPECIFIC,
+        FAN_OUT
+    }
+}
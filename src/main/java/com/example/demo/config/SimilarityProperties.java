@@ -0,0 +1,21 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "similarity")
+
+public record SimilarityProperties(
+        int hashFunctions,
+        int bands,
+        int maxSkillWeight
+) {
+
+    public SimilarityProperties {
+        if (bands < 1 || hashFunctions < bands || hashFunctions % bands != 0) {
+            throw new IllegalArgumentException("similarity.hash-functions must be a positive multiple of similarity.bands");
+        }
+        if (maxSkillWeight < 1) {
+            throw new IllegalArgumentException("similarity.max-skill-weight must be at least 1");
+        }
+    }
+}
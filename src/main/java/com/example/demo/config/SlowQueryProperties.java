@@ -0,0 +1,14 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "slow-query-log")
+
+public record SlowQueryProperties(
+        boolean enabled,
+        Duration threshold,
+        double profileSampleRate,
+        int bufferSize
+) {}
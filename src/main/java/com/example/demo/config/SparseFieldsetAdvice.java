@@ -0,0 +1,42 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.request.Fieldset;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Trims response DTOs to the {@code fields} request parameter on every endpoint. Only the outermost DTO carrying
+ * the {@link Fieldset#FILTER_ID} filter is trimmed: {@code /projects?fields=name,company} returns the whole company.
+ * Entities written by a {@code ResponseSerializer} are trimmed the same way through
+ * {@link TopLevelFieldFilter#fieldsetOf}. Controllers that can also narrow the Cypher they run read the same
+ * parameter themselves.
+ */
+@RestControllerAdvice
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(final MappingJacksonValue container,
+                                           final MediaType contentType,
+                                           final MethodParameter returnType,
+                                           final ServerHttpRequest request,
+                                           final ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        final HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        final Fieldset fieldset = Fieldset.parse(httpRequest.getParameter(Fieldset.PARAMETER));
+        if (fieldset.isAll()) {
+            return;
+        }
+        container.setFilters(new SimpleFilterProvider()
+                .addFilter(Fieldset.FILTER_ID, new TopLevelFieldFilter(fieldset)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "subgraph")
+
+public record SubgraphProperties(
+        int maxDepth,
+        int maxNodes,
+        int maxEdgesPerLevel,
+        long cacheSize,
+        Duration cacheTtl
+) {}
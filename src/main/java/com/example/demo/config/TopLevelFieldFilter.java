@@ -0,0 +1,63 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.request.Fieldset;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+/**
+ * Writes only the selected fields of the outermost object that carries the {@link Fieldset#FILTER_ID} filter;
+ * objects nested inside it are written whole.
+ */
+public final class TopLevelFieldFilter extends SimpleBeanPropertyFilter {
+
+    private final Fieldset fieldset;
+
+    public TopLevelFieldFilter(final Fieldset fieldset) {
+        this.fieldset = fieldset;
+    }
+
+    /**
+     * The fieldset that applies to {@code pojo}, for serializers that write fields themselves instead of through
+     * {@link PropertyWriter}s. Must be called after the serializer has started {@code pojo}'s object.
+     */
+    public static Fieldset fieldsetOf(final Object pojo,
+                                      final JsonGenerator generator,
+                                      final SerializerProvider provider) {
+        final FilterProvider filters = provider.getFilterProvider();
+        final PropertyFilter filter = filters != null ? filters.findPropertyFilter(Fieldset.FILTER_ID, pojo) : null;
+        if (filter instanceof TopLevelFieldFilter topLevel && !isNested(generator, pojo)) {
+            return topLevel.fieldset;
+        }
+        return Fieldset.ALL;
+    }
+
+    @Override
+    public void serializeAsField(final Object pojo,
+                                 final JsonGenerator generator,
+                                 final SerializerProvider provider,
+                                 final PropertyWriter writer) throws Exception {
+        if (fieldset.includes(writer.getName()) || isNested(generator, pojo)) {
+            writer.serializeAsField(pojo, generator, provider);
+        } else if (!generator.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, generator, provider);
+        }
+    }
+
+    private static boolean isNested(final JsonGenerator generator, final Object pojo) {
+        for (JsonStreamContext context = generator.getOutputContext().getParent();
+             context != null;
+             context = context.getParent()) {
+            final Object value = context.getCurrentValue();
+            if (value != null && value != pojo && value.getClass().isAnnotationPresent(JsonFilter.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.ChangeStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeStreamController {
+
+    private final ChangeStreamService changeStreamService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) final String lastEventId) {
+        log.info("[ChangeStreamController] - STREAM: lastEventId: {}", lastEventId);
+        return changeStreamService.subscribe(lastEventId);
+    }
+}
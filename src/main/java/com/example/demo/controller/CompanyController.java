@@ -3,10 +3,12 @@ package com.example.demo.controller;
 import com.example.demo.dto.request.CreateCompanyRequest;
 import com.example.demo.dto.request.UpdateCompanyRequest;
 import com.example.demo.dto.response.CompanyResponse;
+import com.example.demo.event.EntityChangedEvent.EntityType;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.mapper.CompanyMapper;
 import com.example.demo.model.Company;
 import com.example.demo.service.CompanyService;
+import com.example.demo.service.VersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +33,7 @@ import java.util.List;
 public class CompanyController {
 
     private final CompanyService companyService;
+    private final VersionService versionService;
 
     @PostMapping
     public ResponseEntity<CompanyResponse> create(@Valid @RequestBody final CreateCompanyRequest request) {
@@ -43,17 +46,18 @@ public class CompanyController {
     @GetMapping
     public ResponseEntity<List<CompanyResponse>> getAll() {
         log.info("[CompanyController] - GET_ALL");
-        final List<Company> companies = companyService.findAll();
-        return ResponseEntity.ok(CompanyMapper.toResponseList(companies));
+        return ConditionalGet.respond(versionService.findCollectionVersion(EntityType.COMPANY),
+                () -> ResponseEntity.ok(CompanyMapper.toResponseList(companyService.findAll())));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<CompanyResponse> getById(@PathVariable final String id) {
         log.info("[CompanyController] - GET_BY_ID: id: {}", id);
-        return companyService.findById(id)
-                .map(CompanyMapper::toResponse)
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> new ResourceNotFoundException("Company", id));
+        return ConditionalGet.respond(versionService.findVersion(EntityType.COMPANY, id),
+                () -> companyService.findById(id)
+                        .map(CompanyMapper::toResponse)
+                        .map(ResponseEntity::ok)
+                        .orElseThrow(() -> new ResourceNotFoundException("Company", id)));
     }
 
     @GetMapping("/search")
@@ -0,0 +1,55 @@
+package com.example.demo.controller;
+
+import com.example.demo.repository.VersionStamp;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET from a version stamp read before the response is built. A matching {@code If-None-Match} is
+ * answered with 304 without calling {@code response}, so the entity is never loaded; otherwise the stamp is sent as
+ * the {@code ETag}. Reading the stamp first means a write in between can only leave the tag older than the body,
+ * which costs the client one extra download, never a stale 304. The tag is weak and sent with {@code Vary: Accept},
+ * because the same stamp covers every negotiated encoding and caches must keep those apart. Calls made outside a
+ * request (warm-up) just build the response.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static <T> ResponseEntity<T> respond(final VersionStamp version, final Supplier<ResponseEntity<T>> response) {
+        return respond(Optional.of(version), response);
+    }
+
+    /**
+     * As {@link #respond(VersionStamp, Supplier)}; without a stamp (the entity does not exist) the response is
+     * built as usual.
+     */
+    static <T> ResponseEntity<T> respond(final Optional<VersionStamp> version,
+                                         final Supplier<ResponseEntity<T>> response) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (version.isEmpty() || !(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return response.get();
+        }
+        final String eTag = version.get().eTag();
+        final HttpServletResponse servletResponse = servletAttributes.getResponse();
+        if (servletResponse != null) {
+            servletResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        final ServletWebRequest request = new ServletWebRequest(servletAttributes.getRequest(), servletResponse);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return response.get();
+    }
+}
@@ -3,13 +3,25 @@ package com.example.demo.controller;
 import com.example.demo.dto.request.AddSkillRequest;
 import com.example.demo.dto.request.AssignProjectRequest;
 import com.example.demo.dto.request.CreateConsultantRequest;
+import com.example.demo.dto.request.Fieldset;
 import com.example.demo.dto.request.SearchConsultantRequest;
 import com.example.demo.dto.request.UpdateConsultantRequest;
 import com.example.demo.dto.response.ConsultantResponse;
+import com.example.demo.dto.response.ConsultantTextSearchResponse;
+import com.example.demo.dto.response.MultiGetResponse;
+import com.example.demo.dto.response.NetworkMemberResponse;
+import com.example.demo.dto.response.NetworkPathResponse;
+import com.example.demo.dto.response.ScoredConsultantResponse;
+import com.example.demo.event.EntityChangedEvent.EntityType;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.mapper.ConsultantMapper;
+import com.example.demo.mapper.MultiGetMapper;
+import com.example.demo.mapper.NetworkMapper;
 import com.example.demo.model.Consultant;
+import com.example.demo.repository.FetchDepth;
 import com.example.demo.service.ConsultantService;
+import com.example.demo.service.ConsultantTextSearchResult;
+import com.example.demo.service.VersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +39,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/consultants")
@@ -35,6 +48,7 @@ import java.util.List;
 public class ConsultantController {
 
     private final ConsultantService consultantService;
+    private final VersionService versionService;
 
     @PostMapping
     public ResponseEntity<ConsultantResponse> create(@Valid @RequestBody final CreateConsultantRequest request) {
@@ -44,22 +58,73 @@ public class ConsultantController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ConsultantMapper.toResponse(savedConsultant));
     }
 
+    // List endpoints return entities; ConsultantResponseSerializer writes them in the ConsultantResponse shape.
     @GetMapping
-    public ResponseEntity<List<ConsultantResponse>> getAll() {
-        log.info("[ConsultantController] - GET_ALL");
-        final List<Consultant> consultants = consultantService.findAll();
-        return ResponseEntity.ok(ConsultantMapper.toResponseList(consultants));
+    public ResponseEntity<List<Consultant>> getAll(
+            @RequestParam(name = Fieldset.PARAMETER, required = false) final String fields) {
+        log.info("[ConsultantController] - GET_ALL: fields: {}", fields);
+        final FetchDepth fetchDepth = ConsultantMapper.fetchDepth(Fieldset.parse(fields), FetchDepth.DEEP);
+        return ConditionalGet.respond(versionService.findCollectionVersion(EntityType.CONSULTANT),
+                () -> ResponseEntity.ok(consultantService.findAll(fetchDepth)));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<Consultant>> getByIds(
+            @RequestParam final List<String> ids,
+            @RequestParam(defaultValue = "deep") final String fetch,
+            @RequestParam(name = Fieldset.PARAMETER, required = false) final String fields) {
+        log.info("[ConsultantController] - GET_BY_IDS: ids: {}, fetch: {}, fields: {}", ids.size(), fetch, fields);
+        final FetchDepth fetchDepth = ConsultantMapper.fetchDepth(Fieldset.parse(fields), FetchDepth.of(fetch));
+        final List<Consultant> consultants = consultantService.findAllByIds(ids, fetchDepth);
+        return ResponseEntity.ok(MultiGetMapper.toResponse(ids, consultants, Consultant::getId, Function.identity()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ConsultantResponse> getById(@PathVariable final String id) {
-        log.info("[ConsultantController] - GET_BY_ID: id: {}", id);
-        return consultantService.findById(id)
-                .map(ConsultantMapper::toResponse)
+    public ResponseEntity<ConsultantResponse> getById(
+            @PathVariable final String id,
+            @RequestParam(name = Fieldset.PARAMETER, required = false) final String fields) {
+        log.info("[ConsultantController] - GET_BY_ID: id: {}, fields: {}", id, fields);
+        final FetchDepth fetchDepth = ConsultantMapper.fetchDepth(Fieldset.parse(fields), FetchDepth.DEEP);
+        return ConditionalGet.respond(versionService.findVersion(EntityType.CONSULTANT, id),
+                () -> consultantService.findById(id, fetchDepth)
+                        .map(ConsultantMapper::toResponse)
+                        .map(ResponseEntity::ok)
+                        .orElseThrow(() -> new ResourceNotFoundException("Consultant", id)));
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<ScoredConsultantResponse>> getSimilar(
+            @PathVariable final String id,
+            @RequestParam(defaultValue = "10") final int limit) {
+        log.info("[ConsultantController] - GET_SIMILAR: id: {}, limit: {}", id, limit);
+        return consultantService.findSimilar(id, limit)
+                .map(ConsultantMapper::toScoredResponseList)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Consultant", id));
+    }
+
+    @GetMapping("/{id}/network")
+    public ResponseEntity<List<NetworkMemberResponse>> getNetwork(
+            @PathVariable final String id,
+            @RequestParam(defaultValue = "1") final int depth) {
+        log.info("[ConsultantController] - GET_NETWORK: id: {}, depth: {}", id, depth);
+        return consultantService.findNetwork(id, depth)
+                .map(NetworkMapper::toMemberResponseList)
                 .map(ResponseEntity::ok)
                 .orElseThrow(() -> new ResourceNotFoundException("Consultant", id));
     }
 
+    @GetMapping("/{id}/network/path/{otherId}")
+    public ResponseEntity<NetworkPathResponse> getNetworkPath(
+            @PathVariable final String id,
+            @PathVariable final String otherId) {
+        log.info("[ConsultantController] - GET_NETWORK_PATH: id: {}, otherId: {}", id, otherId);
+        return consultantService.findNetworkPath(id, otherId)
+                .map(NetworkMapper::toPathResponse)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Consultant", id + " or " + otherId));
+    }
+
     @GetMapping("/by-email")
     public ResponseEntity<ConsultantResponse> getByEmail(@RequestParam final String email) {
         log.info("[ConsultantController] - GET_BY_EMAIL: email: {}", email);
@@ -70,42 +135,52 @@ public class ConsultantController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ConsultantResponse>> search(@Valid final SearchConsultantRequest request) {
+    public ResponseEntity<List<Consultant>> search(@Valid final SearchConsultantRequest request) {
         log.info("[ConsultantController] - SEARCH: {}", request);
 
         final List<Consultant> consultants = consultantService.searchConsultants(
                 request.skillNames(), request.roles(), request.availability(), request.wantsNewProject(),
                 request.openToRemote(), request.previousCompanies(), request.startDate());
-        return ResponseEntity.ok(ConsultantMapper.toResponseList(consultants));
+        return ResponseEntity.ok(consultants);
+    }
+
+    @GetMapping("/text-search")
+    public ResponseEntity<ConsultantTextSearchResponse> textSearch(
+            @RequestParam final String query,
+            @RequestParam(defaultValue = "0") final int page,
+            @RequestParam(defaultValue = "20") final int size) {
+        log.info("[ConsultantController] - TEXT_SEARCH: query: {}, page: {}, size: {}", query, page, size);
+        final ConsultantTextSearchResult result = consultantService.textSearch(query, page, size);
+        return ResponseEntity.ok(ConsultantMapper.toTextSearchResponse(result, page, size));
     }
 
     @GetMapping("/available")
-    public ResponseEntity<List<ConsultantResponse>> getAvailable() {
+    public ResponseEntity<List<Consultant>> getAvailable() {
         log.info("[ConsultantController] - GET_AVAILABLE");
         final List<Consultant> consultants = consultantService.findAvailable();
-        return ResponseEntity.ok(ConsultantMapper.toResponseList(consultants));
+        return ResponseEntity.ok(consultants);
     }
 
     @GetMapping("/wanting-new-project")
-    public ResponseEntity<List<ConsultantResponse>> getWantingNewProject() {
+    public ResponseEntity<List<Consultant>> getWantingNewProject() {
         log.info("[ConsultantController] - GET_WANTING_NEW_PROJECT");
         final List<Consultant> consultants = consultantService.findWantingNewProject();
-        return ResponseEntity.ok(ConsultantMapper.toResponseList(consultants));
+        return ResponseEntity.ok(consultants);
     }
 
     @GetMapping("/by-skills")
-    public ResponseEntity<List<ConsultantResponse>> getBySkills(@RequestParam final List<String> skillNames) {
+    public ResponseEntity<List<Consultant>> getBySkills(@RequestParam final List<String> skillNames) {
         log.info("[ConsultantController] - GET_BY_SKILLS: skills: {}", skillNames);
         final List<Consultant> consultants = consultantService.findBySkillNames(skillNames);
-        return ResponseEntity.ok(ConsultantMapper.toResponseList(consultants));
+        return ResponseEntity.ok(consultants);
     }
 
     @GetMapping("/available-with-experience")
-    public ResponseEntity<List<ConsultantResponse>> getAvailableWithMinExperience(
+    public ResponseEntity<List<Consultant>> getAvailableWithMinExperience(
             @RequestParam final Integer minYears) {
         log.info("[ConsultantController] - GET_AVAILABLE_WITH_MIN_EXPERIENCE: minYears: {}", minYears);
         final List<Consultant> consultants = consultantService.findAvailableWithMinExperience(minYears);
-        return ResponseEntity.ok(ConsultantMapper.toResponseList(consultants));
+        return ResponseEntity.ok(consultants);
     }
 
     @PutMapping("/{id}")
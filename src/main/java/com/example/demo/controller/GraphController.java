@@ -0,0 +1,35 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.response.SubgraphResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.mapper.SubgraphMapper;
+import com.example.demo.service.GraphService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/graph")
+@RequiredArgsConstructor
+@Slf4j
+public class GraphController {
+
+    private final GraphService graphService;
+
+    @GetMapping("/subgraph")
+    public ResponseEntity<SubgraphResponse> getSubgraph(
+            @RequestParam final String type,
+            @RequestParam final String id,
+            @RequestParam(defaultValue = "1") final int depth,
+            @RequestParam(defaultValue = "100") final int maxNodes) {
+        log.info("[GraphController] - GET_SUBGRAPH: type: {}, id: {}, depth: {}, maxNodes: {}", type, id, depth, maxNodes);
+        return graphService.findSubgraph(type, id, depth, maxNodes)
+                .map(SubgraphMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException(type, id));
+    }
+}
@@ -7,6 +7,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
 
+/**
+ * @deprecated the graph visualizer should read neighbourhoods from {@link GraphController} instead of
+ * querying Neo4j directly with these credentials.
+ */
+@Deprecated
 @RestController
 @RequestMapping("/api/v1/graph")
 public class GraphCredentialsController {
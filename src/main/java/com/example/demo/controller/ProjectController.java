@@ -2,12 +2,18 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.request.AddRequiredSkillRequest;
 import com.example.demo.dto.request.CreateProjectRequest;
+import com.example.demo.dto.request.Fieldset;
 import com.example.demo.dto.request.UpdateProjectRequest;
+import com.example.demo.dto.response.MultiGetResponse;
 import com.example.demo.dto.response.ProjectResponse;
+import com.example.demo.event.EntityChangedEvent.EntityType;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.mapper.MultiGetMapper;
 import com.example.demo.mapper.ProjectMapper;
 import com.example.demo.model.Project;
+import com.example.demo.repository.FetchDepth;
 import com.example.demo.service.ProjectService;
+import com.example.demo.service.VersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/projects")
@@ -32,6 +39,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final VersionService versionService;
 
     @PostMapping
     public ResponseEntity<ProjectResponse> create(@Valid @RequestBody final CreateProjectRequest request) {
@@ -47,20 +55,38 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ProjectMapper.toResponse(savedProject));
     }
 
+    // List endpoints return entities; ProjectResponseSerializer writes them in the ProjectResponse shape.
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getAll() {
-        log.info("[ProjectController] - GET_ALL");
-        final List<Project> projects = projectService.findAll();
-        return ResponseEntity.ok(ProjectMapper.toResponseList(projects));
+    public ResponseEntity<List<Project>> getAll(
+            @RequestParam(name = Fieldset.PARAMETER, required = false) final String fields) {
+        log.info("[ProjectController] - GET_ALL: fields: {}", fields);
+        final FetchDepth fetchDepth = ProjectMapper.fetchDepth(Fieldset.parse(fields), FetchDepth.DEEP);
+        return ConditionalGet.respond(versionService.findCollectionVersion(EntityType.PROJECT),
+                () -> ResponseEntity.ok(projectService.findAll(fetchDepth)));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<Project>> getByIds(
+            @RequestParam final List<String> ids,
+            @RequestParam(defaultValue = "deep") final String fetch,
+            @RequestParam(name = Fieldset.PARAMETER, required = false) final String fields) {
+        log.info("[ProjectController] - GET_BY_IDS: ids: {}, fetch: {}, fields: {}", ids.size(), fetch, fields);
+        final FetchDepth fetchDepth = ProjectMapper.fetchDepth(Fieldset.parse(fields), FetchDepth.of(fetch));
+        final List<Project> projects = projectService.findAllByIds(ids, fetchDepth);
+        return ResponseEntity.ok(MultiGetMapper.toResponse(ids, projects, Project::getId, Function.identity()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getById(@PathVariable final String id) {
-        log.info("[ProjectController] - GET_BY_ID: id: {}", id);
-        return projectService.findById(id)
-                .map(ProjectMapper::toResponse)
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", id));
+    public ResponseEntity<ProjectResponse> getById(
+            @PathVariable final String id,
+            @RequestParam(name = Fieldset.PARAMETER, required = false) final String fields) {
+        log.info("[ProjectController] - GET_BY_ID: id: {}, fields: {}", id, fields);
+        final FetchDepth fetchDepth = ProjectMapper.fetchDepth(Fieldset.parse(fields), FetchDepth.DEEP);
+        return ConditionalGet.respond(versionService.findVersion(EntityType.PROJECT, id),
+                () -> projectService.findById(id, fetchDepth)
+                        .map(ProjectMapper::toResponse)
+                        .map(ResponseEntity::ok)
+                        .orElseThrow(() -> new ResourceNotFoundException("Project", id)));
     }
 
     @GetMapping("/by-name")
@@ -73,17 +99,17 @@ public class ProjectController {
     }
 
     @GetMapping("/by-company/{companyId}")
-    public ResponseEntity<List<ProjectResponse>> getByCompanyId(@PathVariable final String companyId) {
+    public ResponseEntity<List<Project>> getByCompanyId(@PathVariable final String companyId) {
         log.info("[ProjectController] - GET_BY_COMPANY_ID: companyId: {}", companyId);
         final List<Project> projects = projectService.findByCompanyId(companyId);
-        return ResponseEntity.ok(ProjectMapper.toResponseList(projects));
+        return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/by-required-skills")
-    public ResponseEntity<List<ProjectResponse>> getByRequiredSkills(@RequestParam final List<String> skillNames) {
+    public ResponseEntity<List<Project>> getByRequiredSkills(@RequestParam final List<String> skillNames) {
         log.info("[ProjectController] - GET_BY_REQUIRED_SKILLS: skills: {}", skillNames);
         final List<Project> projects = projectService.findByRequiredSkillNames(skillNames);
-        return ResponseEntity.ok(ProjectMapper.toResponseList(projects));
+        return ResponseEntity.ok(projects);
     }
 
 
@@ -0,0 +1,45 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.request.AddRoleAliasRequest;
+import com.example.demo.dto.response.RoleResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.mapper.RoleMapper;
+import com.example.demo.service.RoleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/roles")
+@RequiredArgsConstructor
+@Slf4j
+public class RoleController {
+
+    private final RoleService roleService;
+
+    @GetMapping
+    public ResponseEntity<List<RoleResponse>> getAll() {
+        log.info("[RoleController] - GET_ALL");
+        return ResponseEntity.ok(RoleMapper.toResponseList(roleService.findAll()));
+    }
+
+    @PostMapping("/{roleId}/aliases")
+    public ResponseEntity<RoleResponse> addAlias(
+            @PathVariable final int roleId,
+            @Valid @RequestBody final AddRoleAliasRequest request) {
+        log.info("[RoleController] - ADD_ALIAS: roleId: {}, alias: {}", roleId, request.alias());
+        return roleService.addAlias(roleId, request.alias())
+                .map(RoleMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Role", String.valueOf(roleId)));
+    }
+}
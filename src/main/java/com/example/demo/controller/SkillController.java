@@ -3,10 +3,12 @@ package com.example.demo.controller;
 import com.example.demo.dto.request.CreateSkillRequest;
 import com.example.demo.dto.request.UpdateSkillRequest;
 import com.example.demo.dto.response.SkillResponse;
+import com.example.demo.event.EntityChangedEvent.EntityType;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.mapper.SkillMapper;
 import com.example.demo.model.Skill;
 import com.example.demo.service.SkillService;
+import com.example.demo.service.VersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +33,7 @@ import java.util.List;
 public class SkillController {
 
     private final SkillService skillService;
+    private final VersionService versionService;
 
     @PostMapping
     public ResponseEntity<SkillResponse> create(@Valid @RequestBody final CreateSkillRequest request) {
@@ -43,17 +46,18 @@ public class SkillController {
     @GetMapping
     public ResponseEntity<List<SkillResponse>> getAll() {
         log.info("[SkillController] - GET_ALL");
-        final List<Skill> skills = skillService.findAll();
-        return ResponseEntity.ok(SkillMapper.toResponseList(skills));
+        return ConditionalGet.respond(versionService.findCollectionVersion(EntityType.SKILL),
+                () -> ResponseEntity.ok(SkillMapper.toResponseList(skillService.findAll())));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<SkillResponse> getById(@PathVariable final String id) {
         log.info("[SkillController] - GET_BY_ID: id: {}", id);
-        return skillService.findById(id)
-                .map(SkillMapper::toResponse)
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> new ResourceNotFoundException("Skill", id));
+        return ConditionalGet.respond(versionService.findVersion(EntityType.SKILL, id),
+                () -> skillService.findById(id)
+                        .map(SkillMapper::toResponse)
+                        .map(ResponseEntity::ok)
+                        .orElseThrow(() -> new ResourceNotFoundException("Skill", id)));
     }
 
     @GetMapping("/search")
@@ -79,4 +83,27 @@ public class SkillController {
         skillService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/{id}/subskills")
+    public ResponseEntity<List<SkillResponse>> getSubskills(@PathVariable final String id) {
+        log.info("[SkillController] - GET_SUBSKILLS: id: {}", id);
+        return skillService.findSubskills(id)
+                .map(SkillMapper::toResponseList)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Skill", id));
+    }
+
+    @PutMapping("/{id}/parents/{parentId}")
+    public ResponseEntity<Void> addParent(@PathVariable final String id, @PathVariable final String parentId) {
+        log.info("[SkillController] - ADD_PARENT: id: {}, parentId: {}", id, parentId);
+        skillService.addParent(id, parentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/parents/{parentId}")
+    public ResponseEntity<Void> removeParent(@PathVariable final String id, @PathVariable final String parentId) {
+        log.info("[SkillController] - REMOVE_PARENT: id: {}, parentId: {}", id, parentId);
+        skillService.removeParent(id, parentId);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.response.SuggestionResponse;
+import com.example.demo.index.Suggestion;
+import com.example.demo.index.SuggestionType;
+import com.example.demo.mapper.SuggestionMapper;
+import com.example.demo.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/suggestions")
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionController {
+
+    private final SuggestionService suggestionService;
+
+    @GetMapping
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam final String prefix,
+            @RequestParam(required = false) final String type,
+            @RequestParam(required = false) final Integer limit) {
+        log.info("[SuggestionController] - SUGGEST: prefix: {}, type: {}, limit: {}", prefix, type, limit);
+        final SuggestionType suggestionType = type != null ? SuggestionType.fromParameter(type) : null;
+        final List<Suggestion> suggestions = suggestionService.suggest(prefix, suggestionType, limit);
+        return ResponseEntity.ok(SuggestionMapper.toResponseList(suggestions));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record AddRoleAliasRequest(
+        @NotBlank(message = "Alias is required")
+        String alias
+) {}
@@ -0,0 +1,45 @@
+package com.example.demo.dto.request;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Top-level response fields selected with the {@code fields} request parameter, e.g. {@code fields=name,email}.
+ * The {@code id} is always included; no selection means every field.
+ */
+public record Fieldset(Set<String> fields) {
+
+    public static final String PARAMETER = "fields";
+    public static final String FILTER_ID = "fieldset";
+
+    public static final Fieldset ALL = new Fieldset(Set.of());
+
+    private static final String ID = "id";
+
+    public static Fieldset parse(final String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        final Set<String> fields = new LinkedHashSet<>();
+        fields.add(ID);
+        for (final String field : value.split(",")) {
+            if (!field.isBlank()) {
+                fields.add(field.strip());
+            }
+        }
+        return new Fieldset(Set.copyOf(fields));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public boolean includes(final String name) {
+        return isAll() || fields.contains(name);
+    }
+
+    public boolean includesAny(final String... names) {
+        return isAll() || Arrays.stream(names).anyMatch(fields::contains);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class ChangeEventResponse {
+
+    private final String entityType;
+    private final String changeType;
+    private final String id;
+    private final String projectId;
+    private final boolean remote;
+}
@@ -1,10 +1,13 @@
 package com.example.demo.dto.response;
 
+import com.example.demo.dto.request.Fieldset;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder(setterPrefix = "with")
+@JsonFilter(Fieldset.FILTER_ID)
 public class CompanyResponse {
 
     private final String id;
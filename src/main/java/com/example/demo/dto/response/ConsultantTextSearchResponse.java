@@ -0,0 +1,17 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class ConsultantTextSearchResponse {
+
+    private final List<ScoredConsultantResponse> results;
+    private final Integer page;
+    private final Integer size;
+    private final Long totalElements;
+    private final Integer totalPages;
+}
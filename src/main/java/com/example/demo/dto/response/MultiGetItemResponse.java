@@ -0,0 +1,13 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class MultiGetItemResponse<T> {
+
+    private final String id;
+    private final boolean found;
+    private final T value;
+}
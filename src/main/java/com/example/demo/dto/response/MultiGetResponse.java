@@ -0,0 +1,14 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class MultiGetResponse<T> {
+
+    private final List<MultiGetItemResponse<T>> items;
+    private final List<String> missing;
+}
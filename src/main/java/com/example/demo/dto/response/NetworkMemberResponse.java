@@ -0,0 +1,13 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class NetworkMemberResponse {
+
+    private final String id;
+    private final String name;
+    private final Integer distance;
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class NetworkPathResponse {
+
+    private final Boolean connected;
+    private final Integer distance;
+    private final List<NetworkPathStepResponse> steps;
+}
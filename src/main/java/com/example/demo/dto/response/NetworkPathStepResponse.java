@@ -0,0 +1,13 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class NetworkPathStepResponse {
+
+    private final String type;
+    private final String id;
+    private final String name;
+}
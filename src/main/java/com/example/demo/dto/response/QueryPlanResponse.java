@@ -0,0 +1,18 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class QueryPlanResponse {
+
+    private final String operator;
+    private final String details;
+    private final long dbHits;
+    private final long rows;
+    private final List<String> identifiers;
+    private final List<QueryPlanResponse> children;
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class RoleResponse {
+
+    private final int roleId;
+    private final String name;
+    private final List<String> aliases;
+}
@@ -0,0 +1,12 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class ScoredConsultantResponse {
+
+    private final Double score;
+    private final ConsultantResponse consultant;
+}
@@ -1,5 +1,7 @@
 package com.example.demo.dto.response;
 
+import com.example.demo.dto.request.Fieldset;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,6 +9,7 @@ import java.util.List;
 
 @Getter
 @Builder(setterPrefix = "with")
+@JsonFilter(Fieldset.FILTER_ID)
 public class SkillResponse {
 
     private final String id;
@@ -0,0 +1,22 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class SlowQueryResponse {
+
+    private final String repository;
+    private final String method;
+    private final long elapsedMillis;
+    private final LocalDateTime capturedAt;
+    private final Map<String, String> parameters;
+    private final boolean profiled;
+    private final Long totalDbHits;
+    private final Long rows;
+    private final QueryPlanResponse plan;
+}
@@ -0,0 +1,13 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class SubgraphEdgeResponse {
+
+    private final Integer source;
+    private final Integer target;
+    private final String type;
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class SubgraphResponse {
+
+    private final List<SubgraphNodeResponse> nodes;
+    private final List<SubgraphEdgeResponse> edges;
+    private final Boolean truncated;
+}
@@ -0,0 +1,14 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(setterPrefix = "with")
+public class SuggestionResponse {
+
+    private final String type;
+    private final String id;
+    private final String name;
+    private final String matchedTerm;
+}
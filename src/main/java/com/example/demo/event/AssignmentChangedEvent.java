@@ -0,0 +1,27 @@
+package com.example.demo.event;
+
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+
+/**
+ * Published by {@link com.example.demo.service.ConsultantService} after a consultant is assigned to a project, or
+ * an assignment is deactivated or removed, next to the consultant's {@link EntityChangedEvent}. Lets change-stream
+ * subscribers and the indexes tell assignment changes apart from other consultant updates. Assignments changed by
+ * other replicas are re-published by {@link ChangeLogRelay} with {@code remote} set.
+ */
+public record AssignmentChangedEvent(
+        String consultantId,
+        String projectId,
+        ChangeType changeType,
+        boolean remote
+) {
+
+    public static AssignmentChangedEvent local(final String consultantId, final String projectId,
+                                               final ChangeType changeType) {
+        return new AssignmentChangedEvent(consultantId, projectId, changeType, false);
+    }
+
+    public static AssignmentChangedEvent remote(final String consultantId, final String projectId,
+                                                final ChangeType changeType) {
+        return new AssignmentChangedEvent(consultantId, projectId, changeType, true);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.demo.event;
+
+import com.example.demo.config.ChangeLogProperties;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.ChangeLogEntry;
+import com.example.demo.repository.ChangeLogEntry.Kind;
+import com.example.demo.repository.ChangeLogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Keeps the in-process indexes and caches of every replica coherent through a change log in Neo4j.
+ * Local writes are appended to the log as they are published, inside the write's transaction, so a write is never
+ * committed without its entry and a failed append fails the write. Each replica polls the log by last-seen sequence
+ * and re-publishes the writes of other replicas as remote {@link EntityChangedEvent}s,
+ * {@link AssignmentChangedEvent}s, {@link ConsultantSkillChangedEvent}s and {@link SkillHierarchyChangedEvent}s, so
+ * the usual listeners invalidate exactly the affected entries. A poll with nothing new costs a single sequence-node
+ * read. If the log was truncated past the last-seen sequence, or the sequence went backwards, every type is resynced.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeLogRelay {
+
+    private static final int PURGE_BATCH_SIZE = 10_000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeLogProperties changeLogProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScheduler taskScheduler;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+    private long lastSeen = -1;
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!changeLogProperties.enabled()) {
+            log.info("[ChangeLogRelay] - DISABLED: set change-log.enabled to keep replicas coherent");
+            return;
+        }
+        lastSeen = changeLogRepository.findLatestSequence();
+        tasks.add(taskScheduler.scheduleWithFixedDelay(this::pollQuietly, changeLogProperties.pollInterval()));
+        tasks.add(taskScheduler.scheduleWithFixedDelay(this::purgeQuietly, changeLogProperties.purgeInterval()));
+        log.info("[ChangeLogRelay] - STARTED: instanceId: {}, lastSeen: {}", instanceId, lastSeen);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        tasks.forEach(task -> task.cancel(false));
+        tasks.clear();
+    }
+
+    @EventListener
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (!event.remote()) {
+            append(Kind.ENTITY, event.entityType(), event.entityId(), null, event.changeType());
+        }
+    }
+
+    @EventListener
+    public void onAssignmentChanged(final AssignmentChangedEvent event) {
+        if (!event.remote()) {
+            append(Kind.ASSIGNMENT, EntityType.CONSULTANT, event.consultantId(), event.projectId(),
+                    event.changeType());
+        }
+    }
+
+    @EventListener
+    public void onConsultantSkillChanged(final ConsultantSkillChangedEvent event) {
+        if (!event.remote()) {
+            append(Kind.CONSULTANT_SKILL, EntityType.CONSULTANT, event.consultantId(), event.skillId(),
+                    event.changeType());
+        }
+    }
+
+    @EventListener
+    public void onHierarchyChanged(final SkillHierarchyChangedEvent event) {
+        if (!event.remote()) {
+            append(Kind.SKILL_HIERARCHY, EntityType.SKILL, event.skillId(), event.parentId(),
+                    event.linked() ? ChangeType.CREATED : ChangeType.DELETED);
+        }
+    }
+
+    /**
+     * Re-publishes the changes other replicas logged since the last poll and returns how many there were.
+     */
+    public synchronized int poll() {
+        if (lastSeen < 0) {
+            return 0;
+        }
+        final long latest = changeLogRepository.findLatestSequence();
+        if (latest == lastSeen) {
+            return 0;
+        }
+        if (latest < lastSeen) {
+            log.warn("[ChangeLogRelay] - SEQUENCE_RESET: lastSeen: {}, latest: {}", lastSeen, latest);
+            resyncAll();
+            lastSeen = latest;
+            return 0;
+        }
+
+        int applied = 0;
+        while (lastSeen < latest) {
+            final List<ChangeLogEntry> entries =
+                    changeLogRepository.findAfter(lastSeen, changeLogProperties.batchSize());
+            if (entries.isEmpty()) {
+                break;
+            }
+            if (entries.getFirst().seq() > lastSeen + 1) {
+                log.warn("[ChangeLogRelay] - GAP: lastSeen: {}, next: {}", lastSeen, entries.getFirst().seq());
+                resyncAll();
+            }
+            for (final ChangeLogEntry entry : entries) {
+                if (!instanceId.equals(entry.instanceId())) {
+                    eventPublisher.publishEvent(toRemoteEvent(entry));
+                    applied++;
+                }
+                lastSeen = entry.seq();
+            }
+        }
+        if (applied > 0) {
+            log.debug("[ChangeLogRelay] - POLL: applied: {}, lastSeen: {}", applied, lastSeen);
+        }
+        return applied;
+    }
+
+    public long purge() {
+        long deleted = 0;
+        long batch;
+        do {
+            batch = changeLogRepository.deleteOlderThan(changeLogProperties.retention(), PURGE_BATCH_SIZE);
+            deleted += batch;
+        } while (batch == PURGE_BATCH_SIZE);
+        if (deleted > 0) {
+            log.info("[ChangeLogRelay] - PURGE: deleted: {}, retention: {}", deleted, changeLogProperties.retention());
+        }
+        return deleted;
+    }
+
+    private void append(final Kind kind, final EntityType entityType, final String entityId, final String relatedId,
+                        final ChangeType changeType) {
+        if (changeLogProperties.enabled()) {
+            changeLogRepository.append(kind, entityType, entityId, relatedId, changeType, instanceId);
+        }
+    }
+
+    private static Object toRemoteEvent(final ChangeLogEntry entry) {
+        return switch (entry.kind()) {
+            case ENTITY -> EntityChangedEvent.remote(entry.entityType(), entry.entityId(), entry.changeType());
+            case ASSIGNMENT -> AssignmentChangedEvent.remote(entry.entityId(), entry.relatedId(), entry.changeType());
+            case CONSULTANT_SKILL ->
+                    ConsultantSkillChangedEvent.remote(entry.entityId(), entry.relatedId(), entry.changeType());
+            case SKILL_HIERARCHY -> SkillHierarchyChangedEvent.remote(entry.entityId(), entry.relatedId(),
+                    entry.changeType() == ChangeType.CREATED);
+        };
+    }
+
+    private void resyncAll() {
+        for (final EntityType entityType : EntityType.values()) {
+            eventPublisher.publishEvent(EntityChangedEvent.resync(entityType));
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (final RuntimeException ex) {
+            log.warn("[ChangeLogRelay] - POLL_FAILED: message: {}", ex.getMessage());
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (final RuntimeException ex) {
+            log.warn("[ChangeLogRelay] - PURGE_FAILED: message: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.event;
+
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+
+/**
+ * Published by {@link com.example.demo.service.ConsultantService} after a skill is added to a consultant, next to
+ * the consultant's {@link EntityChangedEvent}. Lets the indexes built from consultant skills refresh only on skill
+ * writes instead of on every consultant update. Skill changes made by other replicas are re-published by
+ * {@link ChangeLogRelay} with {@code remote} set.
+ */
+public record ConsultantSkillChangedEvent(
+        String consultantId,
+        String skillId,
+        ChangeType changeType,
+        boolean remote
+) {
+
+    public static ConsultantSkillChangedEvent local(final String consultantId, final String skillId,
+                                                    final ChangeType changeType) {
+        return new ConsultantSkillChangedEvent(consultantId, skillId, changeType, false);
+    }
+
+    public static ConsultantSkillChangedEvent remote(final String consultantId, final String skillId,
+                                                     final ChangeType changeType) {
+        return new ConsultantSkillChangedEvent(consultantId, skillId, changeType, true);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.event;
+
+/**
+ * Published by the services after a successful write, so in-memory indexes and caches can refresh
+ * without the services knowing about them. Roles are written, and their events published, by
+ * {@link com.example.demo.index.RoleDictionary}, with the role id as {@code entityId}. Writes made by other replicas
+ * are re-published by {@link ChangeLogRelay} with {@code remote} set; their {@code entityId} is null when every
+ * entity of the type may have changed, because this replica lost track of the change log.
+ */
+public record EntityChangedEvent(
+        EntityType entityType,
+        String entityId,
+        ChangeType changeType,
+        boolean remote
+) {
+
+    public enum EntityType {
+        CONSULTANT,
+        PROJECT,
+        SKILL,
+        COMPANY,
+        ROLE
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static EntityChangedEvent created(final EntityType entityType, final String entityId) {
+        return new EntityChangedEvent(entityType, entityId, ChangeType.CREATED, false);
+    }
+
+    public static EntityChangedEvent updated(final EntityType entityType, final String entityId) {
+        return new EntityChangedEvent(entityType, entityId, ChangeType.UPDATED, false);
+    }
+
+    public static EntityChangedEvent deleted(final EntityType entityType, final String entityId) {
+        return new EntityChangedEvent(entityType, entityId, ChangeType.DELETED, false);
+    }
+
+    public static EntityChangedEvent remote(final EntityType entityType, final String entityId,
+                                            final ChangeType changeType) {
+        return new EntityChangedEvent(entityType, entityId, changeType, true);
+    }
+
+    /**
+     * Every entity of the type may have changed on another replica.
+     */
+    public static EntityChangedEvent resync(final EntityType entityType) {
+        return new EntityChangedEvent(entityType, null, ChangeType.UPDATED, true);
+    }
+}
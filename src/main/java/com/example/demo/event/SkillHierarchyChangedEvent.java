@@ -0,0 +1,28 @@
+package com.example.demo.event;
+
+/**
+ * Published by {@link com.example.demo.service.SkillService} after a {@code SUBSKILL_OF} link is added or removed,
+ * next to the skill's {@link EntityChangedEvent}. Kept apart from it so the skill hierarchy can be updated
+ * incrementally instead of the skill indexes being rebuilt. Links changed by other replicas are re-published by
+ * {@link ChangeLogRelay} with {@code remote} set.
+ */
+public record SkillHierarchyChangedEvent(
+        String skillId,
+        String parentId,
+        boolean linked,
+        boolean remote
+) {
+
+    public static SkillHierarchyChangedEvent linked(final String skillId, final String parentId) {
+        return new SkillHierarchyChangedEvent(skillId, parentId, true, false);
+    }
+
+    public static SkillHierarchyChangedEvent unlinked(final String skillId, final String parentId) {
+        return new SkillHierarchyChangedEvent(skillId, parentId, false, false);
+    }
+
+    public static SkillHierarchyChangedEvent remote(final String skillId, final String parentId,
+                                                    final boolean linked) {
+        return new SkillHierarchyChangedEvent(skillId, parentId, linked, true);
+    }
+}
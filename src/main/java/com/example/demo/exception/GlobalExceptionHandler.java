@@ -2,6 +2,8 @@ package com.example.demo.exception;
 
 import com.example.demo.dto.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -52,4 +54,28 @@ public class GlobalExceptionHandler {
                 .build();
         return ResponseEntity.status(400).body(response);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailure(final ConcurrencyFailureException ex) {
+        log.warn("[ExceptionHandler] - CONFLICT: message: {}", ex.getMessage());
+        final ErrorResponse response = ErrorResponse.builder()
+                .withStatus(409)
+                .withError("Conflict")
+                .withMessage("The resource was modified concurrently, please retry")
+                .withTimestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(409).body(response);
+    }
+
+    @ExceptionHandler(TransientDataAccessException.class)
+    public ResponseEntity<ErrorResponse> handleTransientDataAccess(final TransientDataAccessException ex) {
+        log.warn("[ExceptionHandler] - SERVICE_UNAVAILABLE: message: {}", ex.getMessage());
+        final ErrorResponse response = ErrorResponse.builder()
+                .withStatus(503)
+                .withError("Service Unavailable")
+                .withMessage("The database is temporarily unavailable, please retry")
+                .withTimestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(503).body(response);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.filter;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit with a bounded wait queue. The limit adapts to observed latency (AIMD): a request completing
+ * within {@code latencyThresholdNanos} while the bulkhead was at least half busy raises the limit by
+ * {@code 1 / limit} (about one per limit's worth of requests), a slower one multiplies it by {@code backoffRatio}.
+ * Only requests admitted after the previous decrease can lower it again, so one burst of slow requests counts once.
+ * Queued requests are admitted in arrival order; new arrivals do not overtake them.
+ */
+final class AdaptiveBulkhead {
+
+    enum Admission {
+        ADMITTED,
+        QUEUE_FULL,
+        TIMED_OUT
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private long lastDecrease = System.nanoTime();
+
+    /**
+     * @param latencyThresholdNanos zero or less keeps the limit fixed at {@code initialLimit}
+     */
+    AdaptiveBulkhead(final int initialLimit, final int minLimit, final int maxLimit, final int queueSize,
+                     final long latencyThresholdNanos, final double backoffRatio) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min-limit <= initial-limit <= max-limit");
+        }
+        if (queueSize < 0) {
+            throw new IllegalArgumentException("queue-size must not be negative");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff-ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.queueSize = queueSize;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits immediately if below the limit, otherwise queues for up to {@code maxWaitNanos}. Rejects without
+     * waiting when the queue is full.
+     */
+    Admission tryAcquire(final long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (waiting == 0 && inFlight < (int) limit) {
+                inFlight++;
+                return Admission.ADMITTED;
+            }
+            if (waiting >= queueSize) {
+                return Admission.QUEUE_FULL;
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return Admission.TIMED_OUT;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return Admission.ADMITTED;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit taken at {@code startNanos}. With {@code sample} false (e.g. the response continues
+     * asynchronously) the latency is not used to adapt the limit.
+     */
+    void release(final long startNanos, final boolean sample) {
+        final long now = System.nanoTime();
+        lock.lock();
+        try {
+            final int busy = inFlight;
+            inFlight--;
+            if (sample && latencyThresholdNanos > 0) {
+                if (now - startNanos > latencyThresholdNanos) {
+                    if (startNanos - lastDecrease >= 0) {
+                        limit = Math.max(minLimit, limit * backoffRatio);
+                        lastDecrease = now;
+                    }
+                } else if (busy * 2 >= limit) {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            for (int free = Math.min(waiting, (int) limit - inFlight); free > 0; free--) {
+                released.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.demo.filter;
+
+import com.example.demo.config.AdmissionControlProperties;
+import com.example.demo.dto.response.ErrorResponse;
+import com.example.demo.filter.AdaptiveBulkhead.Admission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for the API: each configured route is a bulkhead with its own adaptive concurrency limit and
+ * bounded queue (see {@link AdaptiveBulkhead}), so a flood of expensive graph queries cannot take the threads and
+ * database connections cheap lookups need. Requests the bulkhead cannot take within {@code max-queue-wait}, or at all
+ * because its queue is full, are turned away at once with the route's {@code reject-status} (429 or 503) and a
+ * {@code Retry-After} header, before any database work is done. Registered after Spring Security, so only requests
+ * that would actually be handled take a permit.
+ */
+@Component
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final String QUEUE_FULL = "queue_full";
+    private static final String TIMED_OUT = "timeout";
+
+    private final ObjectMapper objectMapper;
+    private final List<Guard> guards;
+
+    public AdmissionControlFilter(final AdmissionControlProperties admissionControlProperties,
+                                  final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.guards = admissionControlProperties.enabled() && admissionControlProperties.routes() != null
+                ? admissionControlProperties.routes().stream().map(AdmissionControlFilter::guard).toList()
+                : List.of();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return guards.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final Guard guard = match(request);
+        if (guard == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final Admission admission;
+        try {
+            admission = guard.bulkhead().tryAcquire(guard.maxQueueWait().toNanos());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            reject(guard, Admission.TIMED_OUT, response);
+            return;
+        }
+        if (admission != Admission.ADMITTED) {
+            reject(guard, admission, response);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            guard.bulkhead().release(start, !request.isAsyncStarted());
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (final Guard guard : guards) {
+            Gauge.builder("staffing.admission.limit", guard.bulkhead(), AdaptiveBulkhead::limit)
+                    .description("Current concurrency limit of the bulkhead")
+                    .tag("bulkhead", guard.name())
+                    .register(registry);
+            Gauge.builder("staffing.admission.in.flight", guard.bulkhead(), AdaptiveBulkhead::inFlight)
+                    .description("Requests being handled inside the bulkhead")
+                    .tag("bulkhead", guard.name())
+                    .register(registry);
+            Gauge.builder("staffing.admission.queue.depth", guard.bulkhead(), AdaptiveBulkhead::waiting)
+                    .description("Requests waiting for the bulkhead")
+                    .tag("bulkhead", guard.name())
+                    .register(registry);
+            FunctionCounter.builder("staffing.admission.rejections", guard.queueFull(), AtomicLong::get)
+                    .description("Requests rejected by the bulkhead")
+                    .tags("bulkhead", guard.name(), "reason", QUEUE_FULL)
+                    .register(registry);
+            FunctionCounter.builder("staffing.admission.rejections", guard.timedOut(), AtomicLong::get)
+                    .description("Requests rejected by the bulkhead")
+                    .tags("bulkhead", guard.name(), "reason", TIMED_OUT)
+                    .register(registry);
+        }
+    }
+
+    private Guard match(final HttpServletRequest request) {
+        final PathContainer path = PathContainer.parsePath(request.getRequestURI()
+                .substring(request.getContextPath().length()));
+        for (final Guard guard : guards) {
+            for (final PathPattern pattern : guard.patterns()) {
+                if (pattern.matches(path)) {
+                    return guard;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void reject(final Guard guard, final Admission admission, final HttpServletResponse response)
+            throws IOException {
+        final String reason = admission == Admission.QUEUE_FULL ? QUEUE_FULL : TIMED_OUT;
+        (admission == Admission.QUEUE_FULL ? guard.queueFull() : guard.timedOut()).incrementAndGet();
+        log.debug("[AdmissionControlFilter] - REJECTED: bulkhead: {}, reason: {}", guard.name(), reason);
+
+        final ErrorResponse body = ErrorResponse.builder()
+                .withStatus(guard.status().value())
+                .withError(guard.status().getReasonPhrase())
+                .withMessage("The server is busy, please retry after " + guard.retryAfterSeconds() + " seconds")
+                .withTimestamp(LocalDateTime.now())
+                .build();
+        response.setStatus(guard.status().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(guard.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static Guard guard(final AdmissionControlProperties.Route route) {
+        if (route.name() == null || route.paths() == null || route.paths().isEmpty()) {
+            throw new IllegalArgumentException("admission-control routes need a name and at least one path");
+        }
+        final HttpStatus status = HttpStatus.resolve(route.rejectStatus());
+        if (status != HttpStatus.TOO_MANY_REQUESTS && status != HttpStatus.SERVICE_UNAVAILABLE) {
+            throw new IllegalArgumentException("admission-control route " + route.name()
+                    + ": reject-status must be 429 or 503");
+        }
+        final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(route.initialLimit(), route.minLimit(),
+                route.maxLimit(), route.queueSize(),
+                route.latencyThreshold() != null ? route.latencyThreshold().toNanos() : 0, route.backoffRatio());
+        final Duration retryAfter = route.retryAfter() != null ? route.retryAfter() : Duration.ofSeconds(1);
+        return new Guard(route.name(),
+                route.paths().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                bulkhead,
+                route.maxQueueWait() != null ? route.maxQueueWait() : Duration.ZERO,
+                status,
+                Math.max(1, (retryAfter.toMillis() + 999) / 1000),
+                new AtomicLong(),
+                new AtomicLong());
+    }
+
+    private record Guard(String name, List<PathPattern> patterns, AdaptiveBulkhead bulkhead, Duration maxQueueWait,
+                         HttpStatus status, long retryAfterSeconds, AtomicLong queueFull, AtomicLong timedOut) {
+    }
+}
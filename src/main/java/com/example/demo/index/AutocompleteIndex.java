@@ -0,0 +1,179 @@
+package com.example.demo.index;
+
+import com.example.demo.config.AutocompleteProperties;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.model.Company;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.CompanyRepository;
+import com.example.demo.repository.SkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prefix autocomplete over skill names, skill synonyms and company names.
+ * One character trie per {@link SuggestionType}; every node holds its top suggestions, precomputed at build time,
+ * so a lookup is a walk of the prefix followed by a copy of at most {@code autocomplete.max-suggestions} entries.
+ * Names are also indexed from each inner word ("web" finds "Amazon Web Services"), ranked below full-name matches.
+ * Built lazily and dropped whenever a skill or company changes.
+ */
+@Component
+@Slf4j
+public class AutocompleteIndex {
+
+    private static final int NAME_MATCH = 0;
+    private static final int SYNONYM_MATCH = 1;
+    private static final int INNER_WORD_OFFSET = 2;
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingInt(Candidate::rank)
+            .thenComparingInt(candidate -> candidate.suggestion().matchedTerm().length())
+            .thenComparing(candidate -> candidate.suggestion().name(), String.CASE_INSENSITIVE_ORDER);
+
+    private final int maxSuggestions;
+    private final LazySnapshot<Map<SuggestionType, TrieNode>> snapshot;
+
+    public AutocompleteIndex(final SkillRepository skillRepository,
+                             final CompanyRepository companyRepository,
+                             final AutocompleteProperties autocompleteProperties) {
+        this.maxSuggestions = autocompleteProperties.maxSuggestions();
+        this.snapshot = new LazySnapshot<>(() -> build(skillRepository.findAll(), companyRepository.findAll()));
+    }
+
+    public int maxSuggestions() {
+        return maxSuggestions;
+    }
+
+    public List<Suggestion> suggest(final String prefix, final SuggestionType type, final int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Collections.emptyList();
+        }
+        final String folded = fold(prefix);
+        final Map<SuggestionType, TrieNode> tries = snapshot.get();
+        final List<Candidate> candidates = new ArrayList<>();
+        for (final Map.Entry<SuggestionType, TrieNode> trie : tries.entrySet()) {
+            if (type == null || type == trie.getKey()) {
+                final TrieNode node = trie.getValue().find(folded);
+                if (node != null) {
+                    candidates.addAll(node.top);
+                }
+            }
+        }
+        if (type == null) {
+            candidates.sort(RANKING);
+        }
+        return candidates.stream()
+                .limit(Math.min(limit, maxSuggestions))
+                .map(Candidate::suggestion)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.entityType() == EntityType.SKILL || event.entityType() == EntityType.COMPANY) {
+            log.debug("[AutocompleteIndex] - INVALIDATE: type: {}, id: {}", event.entityType(), event.entityId());
+            snapshot.invalidate();
+        }
+    }
+
+    private Map<SuggestionType, TrieNode> build(final List<Skill> skills, final List<Company> companies) {
+        final List<Candidate> skillCandidates = new ArrayList<>();
+        for (final Skill skill : skills) {
+            addCandidates(skillCandidates, SuggestionType.SKILL, skill.getId(), skill.getName(), skill.getName(),
+                    NAME_MATCH);
+            if (skill.getSynonyms() != null) {
+                for (final String synonym : skill.getSynonyms()) {
+                    addCandidates(skillCandidates, SuggestionType.SKILL, skill.getId(), skill.getName(), synonym,
+                            SYNONYM_MATCH);
+                }
+            }
+        }
+        final List<Candidate> companyCandidates = new ArrayList<>();
+        for (final Company company : companies) {
+            addCandidates(companyCandidates, SuggestionType.COMPANY, company.getId(), company.getName(),
+                    company.getName(), NAME_MATCH);
+        }
+
+        final Map<SuggestionType, TrieNode> tries = new EnumMap<>(SuggestionType.class);
+        tries.put(SuggestionType.SKILL, buildTrie(skillCandidates));
+        tries.put(SuggestionType.COMPANY, buildTrie(companyCandidates));
+        log.info("[AutocompleteIndex] - BUILD: skills: {}, companies: {}, keys: {}",
+                skills.size(), companies.size(), skillCandidates.size() + companyCandidates.size());
+        return tries;
+    }
+
+    private TrieNode buildTrie(final List<Candidate> candidates) {
+        candidates.sort(RANKING);
+        final TrieNode root = new TrieNode();
+        for (final Candidate candidate : candidates) {
+            root.insert(candidate, maxSuggestions);
+        }
+        return root;
+    }
+
+    private static void addCandidates(final List<Candidate> candidates, final SuggestionType type, final String id,
+                                      final String name, final String term, final int rank) {
+        if (name == null || term == null || term.isBlank()) {
+            return;
+        }
+        final String folded = fold(term);
+        final Suggestion suggestion = new Suggestion(type, id, name, term.strip());
+        candidates.add(new Candidate(suggestion, folded, rank));
+        for (int i = 1; i < folded.length(); i++) {
+            if (folded.charAt(i - 1) == ' ' && folded.charAt(i) != ' ') {
+                candidates.add(new Candidate(suggestion, folded.substring(i), rank + INNER_WORD_OFFSET));
+            }
+        }
+    }
+
+    private static String fold(final String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record Candidate(Suggestion suggestion, String key, int rank) {
+    }
+
+    private static final class TrieNode {
+
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final List<Candidate> top = new ArrayList<>();
+
+        void insert(final Candidate candidate, final int capacity) {
+            TrieNode node = this;
+            for (int i = 0; i < candidate.key().length(); i++) {
+                node = node.children.computeIfAbsent(candidate.key().charAt(i), key -> new TrieNode());
+                node.offer(candidate, capacity);
+            }
+        }
+
+        TrieNode find(final String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+
+        private void offer(final Candidate candidate, final int capacity) {
+            if (top.size() >= capacity) {
+                return;
+            }
+            for (final Candidate existing : top) {
+                if (existing.suggestion().id().equals(candidate.suggestion().id())) {
+                    return;
+                }
+            }
+            top.add(candidate);
+        }
+    }
+}
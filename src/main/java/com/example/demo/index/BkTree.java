@@ -0,0 +1,105 @@
+package com.example.demo.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Burkhard-Keller tree over strings under Levenshtein distance. A lookup within distance {@code k}
+ * only descends into children whose edge distance lies in {@code [d - k, d + k]}, so it compares
+ * the query against a small fraction of the vocabulary. Not thread-safe while being built.
+ */
+public final class BkTree {
+
+    private Node root;
+    private int size;
+
+    public void add(final String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            final int distance = levenshtein(term, node.term);
+            if (distance == 0) {
+                return;
+            }
+            final Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns all terms within {@code maxDistance} of the query, closest first.
+     */
+    public List<Match> search(final String query, final int maxDistance) {
+        final List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        final List<Node> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            final Node node = pending.removeLast();
+            final int distance = levenshtein(query, node.term);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.term, distance));
+            }
+            for (final Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.add(child.getValue());
+                }
+            }
+        }
+        matches.sort((left, right) -> Integer.compare(left.distance(), right.distance()));
+        return matches;
+    }
+
+    public static int levenshtein(final String left, final String right) {
+        if (left.equals(right)) {
+            return 0;
+        }
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            final char leftChar = left.charAt(i - 1);
+            for (int j = 1; j <= right.length(); j++) {
+                final int substitution = previous[j - 1] + (leftChar == right.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[right.length()];
+    }
+
+    public record Match(String term, int distance) {
+    }
+
+    private static final class Node {
+
+        private final String term;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(final String term) {
+            this.term = term;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.example.demo.index;
+
+import com.example.demo.index.NetworkPathStep.NodeType;
+import com.example.demo.repository.ConsultantProjects;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consultant ↔ project graph behind {@link ColleagueNetworkIndex}, with int node ids. Adjacency is built as
+ * compressed sparse row arrays; a node whose edges change afterwards gets its own adjacency array that replaces its
+ * CSR row, so an assignment change costs the degree of its two ends instead of a rebuild. New nodes are appended
+ * with such an array, removed ones are left as empty tombstones. Once more than a quarter of the nodes are patched
+ * the graph is compacted back into CSR. Not thread-safe; the index guards it with a read-write lock.
+ */
+@Slf4j
+final class ColleagueGraph {
+
+    private static final int[] NO_EDGES = new int[0];
+    private static final int MIN_PATCHES_BEFORE_COMPACTION = 64;
+
+    private final Map<String, Integer> consultantIndex = new HashMap<>();
+    private final Map<String, Integer> projectIndex = new HashMap<>();
+    private String[] nodeIds;
+    private String[] nodeNames;
+    private boolean[] projectNodes;
+    private int nodeCount;
+    private int[] offsets;
+    private int[] targets;
+    private int[][] patchedRows;
+    private int patchedCount;
+
+    private ColleagueGraph() {
+    }
+
+    static ColleagueGraph build(final List<ConsultantProjects> consultants) {
+        final int consultantCount = consultants.size();
+        final Map<String, Integer> projectIndex = new LinkedHashMap<>();
+        final Map<String, String> projectNames = new HashMap<>();
+        int edges = 0;
+        for (final ConsultantProjects consultant : consultants) {
+            for (final Map.Entry<String, String> project : consultant.projects().entrySet()) {
+                projectIndex.computeIfAbsent(project.getKey(), key -> consultantCount + projectIndex.size());
+                projectNames.putIfAbsent(project.getKey(), project.getValue());
+                edges += 2;
+            }
+        }
+
+        final int nodeCount = consultantCount + projectIndex.size();
+        final String[] nodeIds = new String[nodeCount];
+        final String[] nodeNames = new String[nodeCount];
+        final boolean[] projectNodes = new boolean[nodeCount];
+        final int[] degree = new int[nodeCount];
+        for (int i = 0; i < consultantCount; i++) {
+            final ConsultantProjects consultant = consultants.get(i);
+            nodeIds[i] = consultant.consultantId();
+            nodeNames[i] = consultant.consultantName();
+            degree[i] = consultant.projects().size();
+            for (final String projectId : consultant.projects().keySet()) {
+                degree[projectIndex.get(projectId)]++;
+            }
+        }
+        projectIndex.forEach((projectId, index) -> {
+            nodeIds[index] = projectId;
+            nodeNames[index] = projectNames.get(projectId);
+            projectNodes[index] = true;
+        });
+
+        final int[] offsets = new int[nodeCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node + 1] = offsets[node] + degree[node];
+        }
+        final int[] targets = new int[edges];
+        final int[] fill = Arrays.copyOf(offsets, nodeCount);
+        for (int i = 0; i < consultantCount; i++) {
+            for (final String projectId : consultants.get(i).projects().keySet()) {
+                final int project = projectIndex.get(projectId);
+                targets[fill[i]++] = project;
+                targets[fill[project]++] = i;
+            }
+        }
+        log.info("[ColleagueGraph] - BUILD: consultants: {}, projects: {}, edges: {}",
+                consultantCount, projectIndex.size(), edges / 2);
+
+        final ColleagueGraph graph = new ColleagueGraph();
+        graph.install(nodeIds, nodeNames, projectNodes, nodeCount, offsets, targets);
+        return graph;
+    }
+
+    /**
+     * Consultants within {@code depth} hops, nearest first, stopping after {@code limit} consultants.
+     */
+    List<NetworkMember> network(final String consultantId, final int depth, final int limit) {
+        final Integer start = consultantIndex.get(consultantId);
+        if (start == null) {
+            return Collections.emptyList();
+        }
+        final int maxLevel = depth * 2;
+        final int[] level = new int[nodeCount];
+        Arrays.fill(level, -1);
+        final int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        level[start] = 0;
+
+        final List<NetworkMember> members = new ArrayList<>();
+        while (head < tail && members.size() < limit) {
+            final int node = queue[head++];
+            if (!projectNodes[node] && level[node] > 0) {
+                members.add(new NetworkMember(nodeIds[node], nodeNames[node], level[node] / 2));
+            }
+            if (level[node] == maxLevel) {
+                continue;
+            }
+            final int[] patched = patchedRows[node];
+            final int[] edges = patched != null ? patched : targets;
+            final int to = patched != null ? patched.length : offsets[node + 1];
+            for (int edge = patched != null ? 0 : offsets[node]; edge < to; edge++) {
+                final int neighbour = edges[edge];
+                if (level[neighbour] < 0) {
+                    level[neighbour] = level[node] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Shortest consultant → project → consultant chain between two consultants within {@code maxDepth} hops,
+     * or an empty list if there is none.
+     */
+    List<NetworkPathStep> path(final String fromId, final String toId, final int maxDepth) {
+        final Integer start = consultantIndex.get(fromId);
+        final Integer target = consultantIndex.get(toId);
+        if (start == null || target == null) {
+            return Collections.emptyList();
+        }
+        final int maxLevel = maxDepth * 2;
+        final int[] level = new int[nodeCount];
+        final int[] parent = new int[nodeCount];
+        Arrays.fill(level, -1);
+        final int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        level[start] = 0;
+        parent[start] = -1;
+
+        while (head < tail && level[target] < 0) {
+            final int node = queue[head++];
+            if (level[node] == maxLevel) {
+                continue;
+            }
+            final int[] patched = patchedRows[node];
+            final int[] edges = patched != null ? patched : targets;
+            final int to = patched != null ? patched.length : offsets[node + 1];
+            for (int edge = patched != null ? 0 : offsets[node]; edge < to; edge++) {
+                final int neighbour = edges[edge];
+                if (level[neighbour] < 0) {
+                    level[neighbour] = level[node] + 1;
+                    parent[neighbour] = node;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        if (level[target] < 0) {
+            return Collections.emptyList();
+        }
+
+        final Deque<NetworkPathStep> steps = new ArrayDeque<>();
+        for (int node = target; node >= 0; node = parent[node]) {
+            final NodeType type = projectNodes[node] ? NodeType.PROJECT : NodeType.CONSULTANT;
+            steps.addFirst(new NetworkPathStep(type, nodeIds[node], nodeNames[node]));
+        }
+        return List.copyOf(steps);
+    }
+
+    /**
+     * Adds the edge between a consultant and a project already in the graph. Returns false if either is unknown,
+     * in which case the caller has to supply them through {@link #putConsultant}.
+     */
+    boolean link(final String consultantId, final String projectId) {
+        final Integer consultant = consultantIndex.get(consultantId);
+        final Integer project = projectIndex.get(projectId);
+        if (consultant == null || project == null) {
+            return false;
+        }
+        if (!contains(neighbours(consultant), project)) {
+            addEdge(consultant, project);
+            compactIfNeeded();
+        }
+        return true;
+    }
+
+    void unlink(final String consultantId, final String projectId) {
+        final Integer consultant = consultantIndex.get(consultantId);
+        final Integer project = projectIndex.get(projectId);
+        if (consultant != null && project != null && contains(neighbours(consultant), project)) {
+            removeEdge(consultant, project);
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * Adds the consultant or replaces its name and projects, touching only the edges that changed.
+     */
+    void putConsultant(final ConsultantProjects consultant) {
+        final Integer existing = consultantIndex.get(consultant.consultantId());
+        final int node = existing != null ? existing : addNode(consultant.consultantId(), false);
+        nodeNames[node] = consultant.consultantName();
+
+        final Set<Integer> wanted = new LinkedHashSet<>();
+        consultant.projects().forEach((projectId, projectName) -> {
+            final Integer project = projectIndex.get(projectId);
+            final int projectNode = project != null ? project : addNode(projectId, true);
+            if (project == null) {
+                nodeNames[projectNode] = projectName;
+            }
+            wanted.add(projectNode);
+        });
+        for (final int project : neighbours(node)) {
+            if (!wanted.remove(project)) {
+                removeEdge(node, project);
+            }
+        }
+        wanted.forEach(project -> addEdge(node, project));
+        compactIfNeeded();
+    }
+
+    void removeConsultant(final String consultantId) {
+        final Integer node = consultantIndex.remove(consultantId);
+        if (node != null) {
+            removeNode(node);
+        }
+    }
+
+    void removeProject(final String projectId) {
+        final Integer node = projectIndex.remove(projectId);
+        if (node != null) {
+            removeNode(node);
+        }
+    }
+
+    void renameConsultant(final String consultantId, final String name) {
+        final Integer node = consultantIndex.get(consultantId);
+        if (node != null) {
+            nodeNames[node] = name;
+        }
+    }
+
+    void renameProject(final String projectId, final String name) {
+        final Integer node = projectIndex.get(projectId);
+        if (node != null) {
+            nodeNames[node] = name;
+        }
+    }
+
+    private int[] neighbours(final int node) {
+        final int[] patched = patchedRows[node];
+        return patched != null ? patched : Arrays.copyOfRange(targets, offsets[node], offsets[node + 1]);
+    }
+
+    private void addEdge(final int consultant, final int project) {
+        setRow(consultant, append(neighbours(consultant), project));
+        setRow(project, append(neighbours(project), consultant));
+    }
+
+    private void removeEdge(final int consultant, final int project) {
+        setRow(consultant, without(neighbours(consultant), project));
+        setRow(project, without(neighbours(project), consultant));
+    }
+
+    private int addNode(final String id, final boolean project) {
+        if (nodeCount == nodeIds.length) {
+            final int capacity = Math.max(16, nodeCount + (nodeCount >> 1));
+            nodeIds = Arrays.copyOf(nodeIds, capacity);
+            nodeNames = Arrays.copyOf(nodeNames, capacity);
+            projectNodes = Arrays.copyOf(projectNodes, capacity);
+            patchedRows = Arrays.copyOf(patchedRows, capacity);
+        }
+        final int node = nodeCount++;
+        nodeIds[node] = id;
+        projectNodes[node] = project;
+        setRow(node, NO_EDGES);
+        (project ? projectIndex : consultantIndex).put(id, node);
+        return node;
+    }
+
+    private void removeNode(final int node) {
+        for (final int neighbour : neighbours(node)) {
+            setRow(neighbour, without(neighbours(neighbour), node));
+        }
+        setRow(node, NO_EDGES);
+        nodeIds[node] = null;
+        nodeNames[node] = null;
+        compactIfNeeded();
+    }
+
+    private void setRow(final int node, final int[] row) {
+        if (patchedRows[node] == null) {
+            patchedCount++;
+        }
+        patchedRows[node] = row;
+    }
+
+    private void compactIfNeeded() {
+        if (patchedCount > Math.max(MIN_PATCHES_BEFORE_COMPACTION, nodeCount / 4)) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites every row back into CSR arrays, dropping removed consultants and projects nobody is assigned to.
+     */
+    private void compact() {
+        final int[] renumbered = new int[nodeCount];
+        int live = 0;
+        int edges = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            final int degree = neighbours(node).length;
+            final boolean keep = nodeIds[node] != null && (!projectNodes[node] || degree > 0);
+            renumbered[node] = keep ? live++ : -1;
+            edges += keep ? degree : 0;
+        }
+
+        final String[] compactIds = new String[live];
+        final String[] compactNames = new String[live];
+        final boolean[] compactProjectNodes = new boolean[live];
+        final int[] compactOffsets = new int[live + 1];
+        final int[] compactTargets = new int[edges];
+        for (int node = 0; node < nodeCount; node++) {
+            final int index = renumbered[node];
+            if (index < 0) {
+                continue;
+            }
+            compactIds[index] = nodeIds[node];
+            compactNames[index] = nodeNames[node];
+            compactProjectNodes[index] = projectNodes[node];
+            int fill = compactOffsets[index];
+            for (final int neighbour : neighbours(node)) {
+                compactTargets[fill++] = renumbered[neighbour];
+            }
+            compactOffsets[index + 1] = fill;
+        }
+        log.debug("[ColleagueGraph] - COMPACT: nodes: {}, live: {}, patched: {}", nodeCount, live, patchedCount);
+        install(compactIds, compactNames, compactProjectNodes, live, compactOffsets, compactTargets);
+    }
+
+    private void install(final String[] ids, final String[] names, final boolean[] projects, final int count,
+                         final int[] csrOffsets, final int[] csrTargets) {
+        nodeIds = ids;
+        nodeNames = names;
+        projectNodes = projects;
+        nodeCount = count;
+        offsets = csrOffsets;
+        targets = csrTargets;
+        patchedRows = new int[ids.length][];
+        patchedCount = 0;
+        consultantIndex.clear();
+        projectIndex.clear();
+        for (int node = 0; node < count; node++) {
+            (projects[node] ? projectIndex : consultantIndex).put(ids[node], node);
+        }
+    }
+
+    private static boolean contains(final int[] row, final int node) {
+        for (final int neighbour : row) {
+            if (neighbour == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] append(final int[] row, final int node) {
+        final int[] appended = Arrays.copyOf(row, row.length + 1);
+        appended[row.length] = node;
+        return appended;
+    }
+
+    private static int[] without(final int[] row, final int node) {
+        final int[] remaining = new int[row.length];
+        int size = 0;
+        for (final int neighbour : row) {
+            if (neighbour != node) {
+                remaining[size++] = neighbour;
+            }
+        }
+        return size == row.length ? row : Arrays.copyOf(remaining, size);
+    }
+}
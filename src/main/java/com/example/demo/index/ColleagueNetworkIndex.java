@@ -0,0 +1,164 @@
+package com.example.demo.index;
+
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.ConsultantProjects;
+import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Consultant ↔ project graph derived from {@code ASSIGNED_TO} (see {@link ColleagueGraph}). Two consultants are one
+ * hop apart when they share a project. The graph is loaded on first use and then patched in place: an assignment
+ * change adds or removes one edge, a deleted consultant or project drops its node, and a consultant or project
+ * update only refreshes its name. Deactivated assignments keep their edge. Only a resync reloads it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ColleagueNetworkIndex {
+
+    private final ConsultantRepository consultantRepository;
+    private final ProjectRepository projectRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private ColleagueGraph graph;
+
+    /**
+     * Consultants within {@code depth} hops, nearest first, stopping after {@code limit} consultants.
+     */
+    public List<NetworkMember> network(final String consultantId, final int depth, final int limit) {
+        return read(current -> current.network(consultantId, depth, limit));
+    }
+
+    /**
+     * Shortest consultant → project → consultant chain between two consultants within {@code maxDepth} hops,
+     * or an empty list if there is none.
+     */
+    public List<NetworkPathStep> path(final String fromId, final String toId, final int maxDepth) {
+        return read(current -> current.path(fromId, toId, maxDepth));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentChanged(final AssignmentChangedEvent event) {
+        if (event.changeType() == ChangeType.CREATED) {
+            if (!write(current -> current.link(event.consultantId(), event.projectId()))) {
+                refreshConsultant(event.consultantId());
+            }
+        } else if (event.changeType() == ChangeType.DELETED) {
+            update(current -> current.unlink(event.consultantId(), event.projectId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.entityType() != EntityType.CONSULTANT && event.entityType() != EntityType.PROJECT) {
+            return;
+        }
+        final String id = event.entityId();
+        if (id == null) {
+            log.debug("[ColleagueNetworkIndex] - RESYNC: type: {}", event.entityType());
+            drop();
+        } else if (event.entityType() == EntityType.CONSULTANT) {
+            switch (event.changeType()) {
+                case CREATED -> refreshConsultant(id);
+                case UPDATED -> {
+                    if (loaded()) {
+                        consultantRepository.findShallowByIds(List.of(id)).forEach(consultant ->
+                                update(current -> current.renameConsultant(consultant.getId(), consultant.getName())));
+                    }
+                }
+                case DELETED -> update(current -> current.removeConsultant(id));
+            }
+        } else if (event.changeType() == ChangeType.UPDATED) {
+            if (loaded()) {
+                projectRepository.findShallowByIds(List.of(id)).forEach(project ->
+                        update(current -> current.renameProject(project.getId(), project.getName())));
+            }
+        } else if (event.changeType() == ChangeType.DELETED) {
+            update(current -> current.removeProject(id));
+        }
+    }
+
+    private void refreshConsultant(final String consultantId) {
+        if (!loaded()) {
+            return;
+        }
+        final List<ConsultantProjects> rows = consultantRepository.findConsultantProjects(List.of(consultantId));
+        update(current -> {
+            if (rows.isEmpty()) {
+                current.removeConsultant(consultantId);
+            } else {
+                current.putConsultant(rows.getFirst());
+            }
+        });
+        log.debug("[ColleagueNetworkIndex] - REFRESH: consultantId: {}", consultantId);
+    }
+
+    private <T> T read(final Function<ColleagueGraph, T> traversal) {
+        lock.readLock().lock();
+        try {
+            if (graph != null) {
+                return traversal.apply(graph);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (graph == null) {
+                graph = ColleagueGraph.build(consultantRepository.findConsultantProjects(null));
+            }
+            return traversal.apply(graph);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void drop() {
+        lock.writeLock().lock();
+        try {
+            graph = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean loaded() {
+        lock.readLock().lock();
+        try {
+            return graph != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a patch if the graph is loaded; false if the patch could not be applied.
+     */
+    private boolean write(final Predicate<ColleagueGraph> patch) {
+        lock.writeLock().lock();
+        try {
+            return graph == null || patch.test(graph);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(final Consumer<ColleagueGraph> patch) {
+        write(current -> {
+            patch.accept(current);
+            return true;
+        });
+    }
+}
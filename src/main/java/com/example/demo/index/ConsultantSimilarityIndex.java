@@ -0,0 +1,263 @@
+package com.example.demo.index;
+
+import com.example.demo.config.SimilarityProperties;
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.ConsultantSkillChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.SimilarityFeatures;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures of every consultant's skills and past companies, bucketed by locality-sensitive hashing.
+ * Skills are weighted by years of experience by repeating the skill token up to {@code similarity.max-skill-weight}
+ * times, so the estimate approximates weighted Jaccard similarity. A lookup only scores the consultants sharing at
+ * least one band bucket with the target. A consultant's signature is only recomputed when its features can have
+ * changed: a skill was added, an assignment (and with it a past company) was added or removed, or the consultant was
+ * created or deleted. Profile updates and deactivated assignments leave it alone. A skill, company or project change
+ * rebuilds the whole index on next use. Lookups read one immutable snapshot; a build or refresh assembles the next
+ * snapshot off to the side, copying every member set it changes, and publishes it with a single volatile write.
+ */
+@Component
+@Slf4j
+public class ConsultantSimilarityIndex {
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final ConsultantRepository consultantRepository;
+    private final SimilarityProperties similarityProperties;
+    private final int rowsPerBand;
+    private final long[] seeds;
+    private volatile Snapshot snapshot;
+
+    public ConsultantSimilarityIndex(final ConsultantRepository consultantRepository,
+                                     final SimilarityProperties similarityProperties) {
+        this.consultantRepository = consultantRepository;
+        this.similarityProperties = similarityProperties;
+        this.rowsPerBand = similarityProperties.hashFunctions() / similarityProperties.bands();
+        final SplittableRandom random = new SplittableRandom(SEED);
+        this.seeds = new long[similarityProperties.hashFunctions()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} consultants ranked by estimated similarity to the given one, most similar first.
+     */
+    public List<Similarity> findSimilar(final String consultantId, final int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = ensureBuilt();
+        }
+        final Map<String, long[]> signatures = current.signatures();
+        final List<Map<Long, Set<String>>> buckets = current.buckets();
+        final long[] target = signatures.get(consultantId);
+        if (target == null) {
+            return Collections.emptyList();
+        }
+        final Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < buckets.size(); band++) {
+            final Set<String> bucket = buckets.get(band).get(bandKey(target, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(consultantId);
+
+        final List<Similarity> similarities = new ArrayList<>(candidates.size());
+        for (final String candidate : candidates) {
+            final long[] signature = signatures.get(candidate);
+            if (signature != null) {
+                similarities.add(new Similarity(candidate, estimate(target, signature)));
+            }
+        }
+        log.debug("[ConsultantSimilarityIndex] - FIND_SIMILAR: id: {}, candidates: {}, indexed: {}",
+                consultantId, candidates.size(), signatures.size());
+        return similarities.stream()
+                .sorted(Comparator.comparingDouble(Similarity::similarity).reversed()
+                        .thenComparing(Similarity::consultantId))
+                .limit(limit)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEntityChanged(final EntityChangedEvent event) {
+        if (snapshot == null || event.entityType() == EntityType.ROLE) {
+            return;
+        }
+        if (event.entityType() != EntityType.CONSULTANT) {
+            if (event.changeType() != ChangeType.CREATED) {
+                snapshot = null;
+            }
+        } else if (event.entityId() == null) {
+            snapshot = null;
+        } else if (event.changeType() != ChangeType.UPDATED) {
+            refresh(event.entityId(), event.changeType());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onConsultantSkillChanged(final ConsultantSkillChangedEvent event) {
+        if (snapshot != null) {
+            refresh(event.consultantId(), ChangeType.UPDATED);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAssignmentChanged(final AssignmentChangedEvent event) {
+        if (snapshot != null && event.changeType() != ChangeType.UPDATED) {
+            refresh(event.consultantId(), ChangeType.UPDATED);
+        }
+    }
+
+    private synchronized Snapshot ensureBuilt() {
+        final Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        final List<SimilarityFeatures> features = consultantRepository.findSimilarityFeatures(null);
+        final Map<String, long[]> signatures = new HashMap<>();
+        final List<Map<Long, Set<String>>> buckets = new ArrayList<>(similarityProperties.bands());
+        for (int band = 0; band < similarityProperties.bands(); band++) {
+            buckets.add(new HashMap<>());
+        }
+        for (final SimilarityFeatures consultant : features) {
+            final long[] signature = signature(consultant);
+            if (signature == null) {
+                continue;
+            }
+            signatures.put(consultant.consultantId(), signature);
+            for (int band = 0; band < buckets.size(); band++) {
+                buckets.get(band)
+                        .computeIfAbsent(bandKey(signature, band), key -> new HashSet<>())
+                        .add(consultant.consultantId());
+            }
+        }
+        final Snapshot built = new Snapshot(signatures, buckets);
+        snapshot = built;
+        log.info("[ConsultantSimilarityIndex] - BUILD: consultants: {}, indexed: {}", features.size(), signatures.size());
+        return built;
+    }
+
+    /**
+     * Publishes a copy of the current snapshot with the consultant's signature replaced. The published maps and
+     * member sets are never modified, so every bucket a change touches is copied before it is edited.
+     */
+    private void refresh(final String consultantId, final ChangeType changeType) {
+        final Snapshot current = snapshot;
+        final Map<String, long[]> signatures = new HashMap<>(current.signatures());
+        final List<Map<Long, Set<String>>> buckets = new ArrayList<>(current.buckets().size());
+        current.buckets().forEach(band -> buckets.add(new HashMap<>(band)));
+
+        final long[] previous = signatures.remove(consultantId);
+        if (previous != null) {
+            for (int band = 0; band < buckets.size(); band++) {
+                buckets.get(band).computeIfPresent(bandKey(previous, band), (key, members) -> {
+                    final Set<String> remaining = new HashSet<>(members);
+                    remaining.remove(consultantId);
+                    return remaining.isEmpty() ? null : remaining;
+                });
+            }
+        }
+        final List<SimilarityFeatures> features = changeType == ChangeType.DELETED
+                ? List.of()
+                : consultantRepository.findSimilarityFeatures(List.of(consultantId));
+        for (final SimilarityFeatures consultant : features) {
+            final long[] signature = signature(consultant);
+            if (signature == null) {
+                continue;
+            }
+            signatures.put(consultantId, signature);
+            for (int band = 0; band < buckets.size(); band++) {
+                buckets.get(band).compute(bandKey(signature, band), (key, members) -> {
+                    final Set<String> updated = members == null ? new HashSet<>() : new HashSet<>(members);
+                    updated.add(consultantId);
+                    return updated;
+                });
+            }
+        }
+        snapshot = new Snapshot(signatures, buckets);
+        log.debug("[ConsultantSimilarityIndex] - REFRESH: id: {}, change: {}", consultantId, changeType);
+    }
+
+    private long[] signature(final SimilarityFeatures features) {
+        final List<String> tokens = new ArrayList<>();
+        features.skillYears().forEach((skill, years) -> {
+            final int weight = Math.clamp(years, 1, similarityProperties.maxSkillWeight());
+            for (int unit = 1; unit <= weight; unit++) {
+                tokens.add("skill:" + skill.toLowerCase(Locale.ROOT) + '#' + unit);
+            }
+        });
+        features.companies().forEach(company -> tokens.add("company:" + company.toLowerCase(Locale.ROOT)));
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        final long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (final String token : tokens) {
+            final long hash = fnv1a(token);
+            for (int i = 0; i < seeds.length; i++) {
+                signature[i] = Math.min(signature[i], mix(hash ^ seeds[i]));
+            }
+        }
+        return signature;
+    }
+
+    private long bandKey(final long[] signature, final int band) {
+        long key = band;
+        for (int row = band * rowsPerBand; row < (band + 1) * rowsPerBand; row++) {
+            key = mix(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    private static double estimate(final long[] left, final long[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+
+    private static long fnv1a(final String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    public record Similarity(String consultantId, double similarity) {
+    }
+
+    private record Snapshot(Map<String, long[]> signatures, List<Map<Long, Set<String>>> buckets) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Immutable value built on first use and rebuilt on the next use after {@link #invalidate()}.
+ * A build that races with an invalidation is returned to its caller but not kept.
+ */
+final class LazySnapshot<T> {
+
+    private final Supplier<T> builder;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile T value;
+
+    LazySnapshot(final Supplier<T> builder) {
+        this.builder = builder;
+    }
+
+    T get() {
+        T current = value;
+        if (current == null) {
+            synchronized (this) {
+                current = value;
+                if (current == null) {
+                    final long builtFor = generation.get();
+                    current = builder.get();
+                    if (generation.get() == builtFor) {
+                        value = current;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    void invalidate() {
+        generation.incrementAndGet();
+        value = null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.index;
+
+/**
+ * A consultant reached from another one; {@code distance} 1 means they shared a project.
+ */
+public record NetworkMember(
+        String consultantId,
+        String name,
+        int distance
+) {}
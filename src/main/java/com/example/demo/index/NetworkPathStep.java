@@ -0,0 +1,13 @@
+package com.example.demo.index;
+
+public record NetworkPathStep(
+        NodeType type,
+        String id,
+        String name
+) {
+
+    public enum NodeType {
+        CONSULTANT,
+        PROJECT
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.index;
+
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.RoleDefinition;
+import com.example.demo.repository.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical assignment and project roles with integer ids. Role titles are normalized (trimmed, whitespace
+ * collapsed, case-folded) at write time and interned, so "Tech  Lead" and "tech lead" share one id and
+ * relationships can be filtered by an indexed {@code roleId} equality instead of a string scan.
+ * Search terms still match partially: a term resolves to every role whose name or alias contains it.
+ * Built lazily and dropped whenever a role or alias is added here or by another replica. Every added role or alias
+ * publishes a ROLE {@link EntityChangedEvent}, which the change log relays to the other replicas. A role added inside
+ * a transaction drops the dictionary only once that transaction commits; dropping it earlier would let a concurrent
+ * search rebuild it without the new role.
+ */
+@Component
+@Slf4j
+public class RoleDictionary {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LazySnapshot<Dictionary> snapshot;
+
+    public RoleDictionary(final RoleRepository roleRepository, final ApplicationEventPublisher eventPublisher) {
+        this.roleRepository = roleRepository;
+        this.eventPublisher = eventPublisher;
+        this.snapshot = new LazySnapshot<>(() -> build(roleRepository.findAll()));
+    }
+
+    public List<RoleDefinition> findAll() {
+        return snapshot.get().roles();
+    }
+
+    /**
+     * Returns the role a title resolves to by name or alias, creating it if it is new. Null for a blank title.
+     */
+    public RoleDefinition intern(final String role) {
+        if (role == null || role.isBlank()) {
+            return null;
+        }
+        final String key = normalize(role);
+        final RoleDefinition known = snapshot.get().byKey().get(key);
+        if (known != null) {
+            return known;
+        }
+        final RoleDefinition interned = roleRepository.intern(key, WHITESPACE.matcher(role.strip()).replaceAll(" "));
+        log.info("[RoleDictionary] - INTERN: role: {}, roleId: {}", interned.name(), interned.roleId());
+        invalidateAfterCommit();
+        eventPublisher.publishEvent(
+                EntityChangedEvent.created(EntityType.ROLE, String.valueOf(interned.roleId())));
+        return interned;
+    }
+
+    /**
+     * Makes {@code alias} resolve to the given role. Empty if the role does not exist.
+     */
+    public Optional<RoleDefinition> addAlias(final int roleId, final String alias) {
+        final String key = normalize(alias);
+        final RoleDefinition owner = snapshot.get().byKey().get(key);
+        if (owner != null && owner.roleId() != roleId) {
+            throw new IllegalArgumentException("Alias '" + alias + "' already resolves to role: " + owner.name());
+        }
+        final Optional<RoleDefinition> updated = roleRepository.addAlias(roleId, key);
+        updated.ifPresent(role -> {
+            invalidateAfterCommit();
+            eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.ROLE, String.valueOf(roleId)));
+        });
+        return updated;
+    }
+
+    /**
+     * Ids of every role whose name or alias contains one of the given search terms, case-insensitively.
+     */
+    public List<Integer> matchIds(final List<String> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Dictionary current = snapshot.get();
+        final TreeSet<Integer> ids = new TreeSet<>();
+        for (final String role : roles) {
+            if (role == null || role.isBlank()) {
+                continue;
+            }
+            final String term = normalize(role);
+            current.byKey().forEach((key, definition) -> {
+                if (key.contains(term)) {
+                    ids.add(definition.roleId());
+                }
+            });
+        }
+        return List.copyOf(ids);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.remote() && event.entityType() == EntityType.ROLE) {
+            log.debug("[RoleDictionary] - INVALIDATE: roleId: {}, change: {}", event.entityId(), event.changeType());
+            snapshot.invalidate();
+        }
+    }
+
+    public static String normalize(final String role) {
+        return WHITESPACE.matcher(role.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshot.invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshot.invalidate();
+            }
+        });
+    }
+
+    private static Dictionary build(final List<RoleDefinition> roles) {
+        final Map<String, RoleDefinition> byKey = new HashMap<>();
+        for (final RoleDefinition role : roles) {
+            byKey.put(normalize(role.name()), role);
+            role.aliases().forEach(alias -> byKey.putIfAbsent(alias, role));
+        }
+        log.info("[RoleDictionary] - BUILD: roles: {}, keys: {}", roles.size(), byKey.size());
+        return new Dictionary(List.copyOf(roles), byKey);
+    }
+
+    private record Dictionary(List<RoleDefinition> roles, Map<String, RoleDefinition> byKey) {
+    }
+}
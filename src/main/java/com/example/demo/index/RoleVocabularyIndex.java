@@ -0,0 +1,129 @@
+package com.example.demo.index;
+
+import com.example.demo.config.FuzzyMatchProperties;
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.ConsultantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Vocabulary of the words used in assignment role titles, held in a {@link BkTree}.
+ * Search roles are matched with a case-insensitive CONTAINS, so a misspelt word ("fullstak developer")
+ * is corrected word by word to the closest vocabulary word and the corrected phrase is searched alongside
+ * the original. Built lazily and dropped only when the set of role titles can change: an assignment is added or
+ * removed, or a consultant or project (and with it its assignments) is deleted. Other consultant updates and
+ * deactivated assignments keep their roles, so they leave the vocabulary alone.
+ */
+@Component
+@Slf4j
+public class RoleVocabularyIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final FuzzyMatchProperties fuzzyMatchProperties;
+    private final LazySnapshot<Vocabulary> snapshot;
+
+    public RoleVocabularyIndex(final ConsultantRepository consultantRepository,
+                               final FuzzyMatchProperties fuzzyMatchProperties) {
+        this.fuzzyMatchProperties = fuzzyMatchProperties;
+        this.snapshot = new LazySnapshot<>(() -> build(consultantRepository.findDistinctRoles()));
+    }
+
+    public List<String> expand(final List<String> roles) {
+        if (roles == null || roles.isEmpty() || !fuzzyMatchProperties.enabled()) {
+            return roles;
+        }
+        final Vocabulary vocabulary = snapshot.get();
+        final Set<String> expanded = new LinkedHashSet<>();
+        for (final String role : roles) {
+            if (role == null || role.isBlank()) {
+                continue;
+            }
+            expanded.add(role.strip());
+            final String corrected = correct(vocabulary, role);
+            if (corrected != null) {
+                log.debug("[RoleVocabularyIndex] - FUZZY_MATCH: role: {}, corrected: {}", role, corrected);
+                expanded.add(corrected);
+            }
+        }
+        return List.copyOf(expanded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentChanged(final AssignmentChangedEvent event) {
+        if (event.changeType() != ChangeType.UPDATED) {
+            log.debug("[RoleVocabularyIndex] - INVALIDATE: consultantId: {}, projectId: {}, change: {}",
+                    event.consultantId(), event.projectId(), event.changeType());
+            snapshot.invalidate();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final boolean holdsAssignments =
+                event.entityType() == EntityType.CONSULTANT || event.entityType() == EntityType.PROJECT;
+        if (holdsAssignments && (event.changeType() == ChangeType.DELETED || event.entityId() == null)) {
+            log.debug("[RoleVocabularyIndex] - INVALIDATE: type: {}, id: {}, change: {}",
+                    event.entityType(), event.entityId(), event.changeType());
+            snapshot.invalidate();
+        }
+    }
+
+    private String correct(final Vocabulary vocabulary, final String role) {
+        final String[] words = WHITESPACE.split(role.strip().toLowerCase(Locale.ROOT));
+        final List<String> correctedWords = new ArrayList<>(words.length);
+        boolean changed = false;
+        for (final String word : words) {
+            final String corrected = vocabulary.words().contains(word) ? word : closest(vocabulary, word);
+            changed |= !corrected.equals(word);
+            correctedWords.add(corrected);
+        }
+        return changed ? String.join(" ", correctedWords) : null;
+    }
+
+    private String closest(final Vocabulary vocabulary, final String word) {
+        final int maxDistance = fuzzyMatchProperties.maxDistanceFor(word);
+        if (maxDistance == 0) {
+            return word;
+        }
+        final List<BkTree.Match> matches = vocabulary.tree().search(word, maxDistance);
+        if (matches.isEmpty()) {
+            return word;
+        }
+        final int closest = matches.getFirst().distance();
+        return matches.stream()
+                .filter(match -> match.distance() == closest)
+                .map(BkTree.Match::term)
+                .sorted()
+                .findFirst()
+                .orElse(word);
+    }
+
+    private static Vocabulary build(final List<String> roles) {
+        final Set<String> words = new HashSet<>();
+        for (final String role : roles) {
+            if (role != null && !role.isBlank()) {
+                words.addAll(List.of(WHITESPACE.split(role.strip().toLowerCase(Locale.ROOT))));
+            }
+        }
+        final BkTree tree = new BkTree();
+        words.forEach(tree::add);
+        log.info("[RoleVocabularyIndex] - BUILD: roles: {}, words: {}", roles.size(), words.size());
+        return new Vocabulary(Set.copyOf(words), tree);
+    }
+
+    private record Vocabulary(Set<String> words, BkTree tree) {
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.demo.index;
+
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.event.SkillHierarchyChangedEvent;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.SkillLink;
+import com.example.demo.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Transitive closure of the {@code SUBSKILL_OF} hierarchy. Skills get dense int ids; every skill keeps a bitset of
+ * its subskills and one of its ancestors (both including itself), and the names implied by each skill are
+ * precomputed, so expanding a search term is a single hash lookup ("Java" → "Java", "Spring Boot", ...).
+ * Adding a link ORs the subskill's closure into every ancestor of the parent; removing one recomputes only the
+ * ancestors of the parent. A skill update only re-reads that skill's name; deleting a skill drops the closure,
+ * which is rebuilt on next use.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillHierarchyIndex {
+
+    private final SkillRepository skillRepository;
+    private volatile Closure closure;
+
+    /**
+     * Adds the transitive subskills of every canonical skill name. Names that are not skills pass through unchanged.
+     */
+    public List<String> expand(final List<String> skillNames) {
+        if (skillNames == null || skillNames.isEmpty()) {
+            return skillNames;
+        }
+        final Closure current = closure();
+        final Set<String> expanded = new LinkedHashSet<>();
+        for (final String skillName : skillNames) {
+            final List<String> implied = current.expansions().get(skillName);
+            if (implied != null) {
+                expanded.addAll(implied);
+            } else {
+                expanded.add(skillName);
+            }
+        }
+        return List.copyOf(expanded);
+    }
+
+    /**
+     * True if {@code skillId} is {@code ancestorId} or one of its transitive subskills.
+     */
+    public synchronized boolean isSubskillOf(final String skillId, final String ancestorId) {
+        final Closure current = closure();
+        final Integer skill = current.indexById().get(skillId);
+        final Integer ancestor = current.indexById().get(ancestorId);
+        return skill != null && ancestor != null && current.descendants()[ancestor].get(skill);
+    }
+
+    /**
+     * Ids of the transitive subskills of a skill, not including the skill itself.
+     */
+    public synchronized List<String> subskillIds(final String skillId) {
+        final Closure current = closure();
+        final Integer skill = current.indexById().get(skillId);
+        if (skill == null) {
+            return Collections.emptyList();
+        }
+        final List<String> ids = new ArrayList<>();
+        final BitSet descendants = current.descendants()[skill];
+        for (int node = descendants.nextSetBit(0); node >= 0; node = descendants.nextSetBit(node + 1)) {
+            if (node != skill) {
+                ids.add(current.ids()[node]);
+            }
+        }
+        return ids;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.entityType() != EntityType.SKILL || event.changeType() == ChangeType.CREATED) {
+            return;
+        }
+        if (event.changeType() == ChangeType.UPDATED && event.entityId() != null) {
+            if (closure != null) {
+                skillRepository.findById(event.entityId()).ifPresent(skill -> rename(skill.getId(), skill.getName()));
+            }
+            return;
+        }
+        log.debug("[SkillHierarchyIndex] - INVALIDATE: skillId: {}, change: {}", event.entityId(), event.changeType());
+        synchronized (this) {
+            closure = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onHierarchyChanged(final SkillHierarchyChangedEvent event) {
+        final Closure current = closure;
+        if (current == null) {
+            return;
+        }
+        final Integer skill = current.indexById().get(event.skillId());
+        final Integer parent = current.indexById().get(event.parentId());
+        if (skill == null || parent == null) {
+            closure = null;
+            return;
+        }
+        if (event.linked()) {
+            link(current, skill, parent);
+        } else {
+            unlink(current, skill, parent);
+        }
+        log.debug("[SkillHierarchyIndex] - UPDATE: skillId: {}, parentId: {}, linked: {}",
+                event.skillId(), event.parentId(), event.linked());
+    }
+
+    private synchronized void rename(final String skillId, final String name) {
+        final Closure current = closure;
+        if (current == null) {
+            return;
+        }
+        final Integer skill = current.indexById().get(skillId);
+        if (skill == null) {
+            closure = null;
+            return;
+        }
+        final String previous = current.names()[skill];
+        if (Objects.equals(previous, name)) {
+            return;
+        }
+        if (previous != null) {
+            current.expansions().remove(previous);
+        }
+        current.names()[skill] = name;
+        refreshExpansions(current, current.ancestors()[skill]);
+        log.debug("[SkillHierarchyIndex] - RENAME: skillId: {}, from: {}, to: {}", skillId, previous, name);
+    }
+
+    private Closure closure() {
+        final Closure current = closure;
+        return current != null ? current : rebuild();
+    }
+
+    private synchronized Closure rebuild() {
+        if (closure != null) {
+            return closure;
+        }
+        final Closure built = build(skillRepository.findAll(), skillRepository.findSkillLinks());
+        closure = built;
+        return built;
+    }
+
+    private static void link(final Closure current, final int skill, final int parent) {
+        current.children()[parent].set(skill);
+        final BitSet ancestors = (BitSet) current.ancestors()[parent].clone();
+        final BitSet descendants = (BitSet) current.descendants()[skill].clone();
+        for (int node = ancestors.nextSetBit(0); node >= 0; node = ancestors.nextSetBit(node + 1)) {
+            current.descendants()[node].or(descendants);
+        }
+        for (int node = descendants.nextSetBit(0); node >= 0; node = descendants.nextSetBit(node + 1)) {
+            current.ancestors()[node].or(ancestors);
+        }
+        refreshExpansions(current, ancestors);
+    }
+
+    private static void unlink(final Closure current, final int skill, final int parent) {
+        current.children()[parent].clear(skill);
+        final BitSet affected = (BitSet) current.ancestors()[parent].clone();
+        for (int node = affected.nextSetBit(0); node >= 0; node = affected.nextSetBit(node + 1)) {
+            current.descendants()[node] = reach(current.children(), node);
+        }
+
+        final BitSet detached = current.descendants()[skill];
+        for (int node = detached.nextSetBit(0); node >= 0; node = detached.nextSetBit(node + 1)) {
+            current.ancestors()[node].clear();
+        }
+        for (int node = 0; node < current.ids().length; node++) {
+            final BitSet reached = (BitSet) current.descendants()[node].clone();
+            reached.and(detached);
+            for (int hit = reached.nextSetBit(0); hit >= 0; hit = reached.nextSetBit(hit + 1)) {
+                current.ancestors()[hit].set(node);
+            }
+        }
+        refreshExpansions(current, affected);
+    }
+
+    private static Closure build(final List<Skill> skills, final List<SkillLink> links) {
+        final int count = skills.size();
+        final String[] ids = new String[count];
+        final String[] names = new String[count];
+        final Map<String, Integer> indexById = new HashMap<>(count * 2);
+        for (int node = 0; node < count; node++) {
+            ids[node] = skills.get(node).getId();
+            names[node] = skills.get(node).getName();
+            indexById.put(ids[node], node);
+        }
+
+        final BitSet[] children = new BitSet[count];
+        final BitSet[] ancestors = new BitSet[count];
+        for (int node = 0; node < count; node++) {
+            children[node] = new BitSet(count);
+            ancestors[node] = new BitSet(count);
+        }
+        for (final SkillLink link : links) {
+            final Integer skill = indexById.get(link.skillId());
+            final Integer parent = indexById.get(link.parentId());
+            if (skill != null && parent != null) {
+                children[parent].set(skill);
+            }
+        }
+
+        final BitSet[] descendants = new BitSet[count];
+        for (int node = 0; node < count; node++) {
+            descendants[node] = reach(children, node);
+            final BitSet reached = descendants[node];
+            for (int hit = reached.nextSetBit(0); hit >= 0; hit = reached.nextSetBit(hit + 1)) {
+                ancestors[hit].set(node);
+            }
+        }
+
+        final Closure built = new Closure(ids, names, indexById, children, descendants, ancestors,
+                new ConcurrentHashMap<>(count * 2));
+        final BitSet all = new BitSet(count);
+        all.set(0, count);
+        refreshExpansions(built, all);
+        log.info("[SkillHierarchyIndex] - BUILD: skills: {}, links: {}", count, links.size());
+        return built;
+    }
+
+    private static BitSet reach(final BitSet[] children, final int start) {
+        final BitSet reached = new BitSet(children.length);
+        final int[] stack = new int[children.length];
+        int size = 0;
+        stack[size++] = start;
+        reached.set(start);
+        while (size > 0) {
+            final BitSet next = children[stack[--size]];
+            for (int child = next.nextSetBit(0); child >= 0; child = next.nextSetBit(child + 1)) {
+                if (!reached.get(child)) {
+                    reached.set(child);
+                    stack[size++] = child;
+                }
+            }
+        }
+        return reached;
+    }
+
+    private static void refreshExpansions(final Closure current, final BitSet nodes) {
+        for (int node = nodes.nextSetBit(0); node >= 0; node = nodes.nextSetBit(node + 1)) {
+            if (current.names()[node] == null) {
+                continue;
+            }
+            final List<String> implied = new ArrayList<>();
+            implied.add(current.names()[node]);
+            final BitSet descendants = current.descendants()[node];
+            for (int hit = descendants.nextSetBit(0); hit >= 0; hit = descendants.nextSetBit(hit + 1)) {
+                if (hit != node && current.names()[hit] != null) {
+                    implied.add(current.names()[hit]);
+                }
+            }
+            current.expansions().put(current.names()[node], List.copyOf(implied));
+        }
+    }
+
+    private record Closure(String[] ids,
+                           String[] names,
+                           Map<String, Integer> indexById,
+                           BitSet[] children,
+                           BitSet[] descendants,
+                           BitSet[] ancestors,
+                           Map<String, List<String>> expansions) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.demo.index;
+
+import com.example.demo.config.FuzzyMatchProperties;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.SkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Case-folded dictionary from skill names and synonyms to canonical skill names.
+ * A whole term is resolved with a single hash lookup; terms naming several skills ("java spring boot")
+ * are split by a longest-match walk over a token trie. Terms that still miss are corrected to the closest
+ * names or synonyms within the {@link FuzzyMatchProperties} edit distance; anything else is passed through unchanged.
+ * Built lazily from all Skill nodes and dropped whenever a skill changes.
+ */
+@Component
+@Slf4j
+public class SkillSynonymIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s,;]+");
+
+    private final FuzzyMatchProperties fuzzyMatchProperties;
+    private final LazySnapshot<Snapshot> snapshot;
+
+    public SkillSynonymIndex(final SkillRepository skillRepository, final FuzzyMatchProperties fuzzyMatchProperties) {
+        this.fuzzyMatchProperties = fuzzyMatchProperties;
+        this.snapshot = new LazySnapshot<>(() -> build(skillRepository.findAll()));
+    }
+
+    public List<String> canonicalize(final List<String> terms) {
+        if (terms == null || terms.isEmpty()) {
+            return terms;
+        }
+        final Snapshot current = snapshot.get();
+        final Set<String> canonical = new LinkedHashSet<>();
+        for (final String term : terms) {
+            if (term == null || term.isBlank()) {
+                continue;
+            }
+            final List<String> tokens = tokenize(term);
+            final String key = String.join(" ", tokens);
+            final Set<String> exact = current.byTerm().get(key);
+            if (exact != null) {
+                canonical.addAll(exact);
+            } else if (!current.root().collectLongestMatches(tokens, canonical)
+                    && !collectClosest(current, key, canonical)) {
+                canonical.add(term.strip());
+            }
+        }
+        return List.copyOf(canonical);
+    }
+
+    private boolean collectClosest(final Snapshot current, final String key, final Set<String> target) {
+        final int maxDistance = fuzzyMatchProperties.maxDistanceFor(key);
+        if (maxDistance == 0) {
+            return false;
+        }
+        final List<BkTree.Match> matches = current.terms().search(key, maxDistance);
+        if (matches.isEmpty()) {
+            return false;
+        }
+        final int closest = matches.getFirst().distance();
+        final Set<String> matched = new LinkedHashSet<>();
+        for (final BkTree.Match match : matches) {
+            if (match.distance() == closest) {
+                matched.addAll(current.byTerm().get(match.term()));
+            }
+        }
+        log.debug("[SkillSynonymIndex] - FUZZY_MATCH: term: {}, distance: {}, matches: {}", key, closest, matched);
+        target.addAll(matched);
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.entityType() == EntityType.SKILL) {
+            log.debug("[SkillSynonymIndex] - INVALIDATE: skillId: {}, change: {}", event.entityId(), event.changeType());
+            snapshot.invalidate();
+        }
+    }
+
+    private static Snapshot build(final List<Skill> skills) {
+        final Map<String, Set<String>> byTerm = new HashMap<>();
+        final TrieNode root = new TrieNode();
+        for (final Skill skill : skills) {
+            if (skill.getName() == null || skill.getName().isBlank()) {
+                continue;
+            }
+            final List<String> terms = new ArrayList<>();
+            terms.add(skill.getName());
+            if (skill.getSynonyms() != null) {
+                terms.addAll(skill.getSynonyms());
+            }
+            for (final String term : terms) {
+                if (term == null || term.isBlank()) {
+                    continue;
+                }
+                final List<String> tokens = tokenize(term);
+                byTerm.computeIfAbsent(String.join(" ", tokens), key -> new LinkedHashSet<>()).add(skill.getName());
+                root.insert(tokens, skill.getName());
+            }
+        }
+        final BkTree terms = new BkTree();
+        byTerm.keySet().forEach(terms::add);
+        log.info("[SkillSynonymIndex] - BUILD: skills: {}, terms: {}", skills.size(), byTerm.size());
+        return new Snapshot(byTerm, root, terms);
+    }
+
+    private static List<String> tokenize(final String term) {
+        final String folded = term.strip().toLowerCase(Locale.ROOT);
+        return folded.isEmpty() ? Collections.emptyList() : List.of(SEPARATORS.split(folded));
+    }
+
+    private record Snapshot(Map<String, Set<String>> byTerm, TrieNode root, BkTree terms) {
+    }
+
+    private static final class TrieNode {
+
+        private final Map<String, TrieNode> children = new HashMap<>();
+        private final Set<String> canonical = new LinkedHashSet<>();
+
+        void insert(final List<String> tokens, final String canonicalName) {
+            TrieNode node = this;
+            for (final String token : tokens) {
+                node = node.children.computeIfAbsent(token, key -> new TrieNode());
+            }
+            node.canonical.add(canonicalName);
+        }
+
+        boolean collectLongestMatches(final List<String> tokens, final Set<String> target) {
+            boolean matched = false;
+            int start = 0;
+            while (start < tokens.size()) {
+                TrieNode node = this;
+                Set<String> longest = null;
+                int longestEnd = start;
+                for (int i = start; i < tokens.size(); i++) {
+                    node = node.children.get(tokens.get(i));
+                    if (node == null) {
+                        break;
+                    }
+                    if (!node.canonical.isEmpty()) {
+                        longest = node.canonical;
+                        longestEnd = i + 1;
+                    }
+                }
+                if (longest != null) {
+                    target.addAll(longest);
+                    matched = true;
+                    start = longestEnd;
+                } else {
+                    start++;
+                }
+            }
+            return matched;
+        }
+    }
+}
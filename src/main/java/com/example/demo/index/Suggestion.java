@@ -0,0 +1,11 @@
+package com.example.demo.index;
+
+/**
+ * A ranked autocomplete hit. {@code matchedTerm} is the name or synonym the prefix matched.
+ */
+public record Suggestion(
+        SuggestionType type,
+        String id,
+        String name,
+        String matchedTerm
+) {}
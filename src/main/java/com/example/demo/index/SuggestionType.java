@@ -0,0 +1,16 @@
+package com.example.demo.index;
+
+import java.util.Locale;
+
+public enum SuggestionType {
+    SKILL,
+    COMPANY;
+
+    public static SuggestionType fromParameter(final String value) {
+        try {
+            return valueOf(value.strip().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown suggestion type: " + value);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.ChangeEventResponse;
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+
+import java.util.Locale;
+
+public final class ChangeEventMapper {
+
+    public static final String ASSIGNMENT = "assignment";
+
+    private ChangeEventMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static ChangeEventResponse toResponse(final EntityChangedEvent event) {
+        if (event == null) {
+            return null;
+        }
+        return ChangeEventResponse.builder()
+                .withEntityType(lowerCase(event.entityType()))
+                .withChangeType(lowerCase(event.changeType()))
+                .withId(event.entityId())
+                .withRemote(event.remote())
+                .build();
+    }
+
+    public static ChangeEventResponse toResponse(final AssignmentChangedEvent event) {
+        if (event == null) {
+            return null;
+        }
+        return ChangeEventResponse.builder()
+                .withEntityType(ASSIGNMENT)
+                .withChangeType(lowerCase(event.changeType()))
+                .withId(event.consultantId())
+                .withProjectId(event.projectId())
+                .withRemote(event.remote())
+                .build();
+    }
+
+    /**
+     * SSE event name, e.g. {@code consultant.updated} or {@code assignment.created}.
+     */
+    public static String toEventName(final ChangeEventResponse response) {
+        return response.getEntityType() + '.' + response.getChangeType();
+    }
+
+    private static String lowerCase(final Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.demo.mapper;
 
 import com.example.demo.dto.request.CreateConsultantRequest;
+import com.example.demo.dto.request.Fieldset;
 import com.example.demo.dto.request.UpdateConsultantRequest;
 import com.example.demo.dto.response.AssignedToResponse;
 import com.example.demo.dto.response.ConsultantResponse;
+import com.example.demo.dto.response.ConsultantTextSearchResponse;
 import com.example.demo.dto.response.HasSkillResponse;
+import com.example.demo.dto.response.ScoredConsultantResponse;
 import com.example.demo.model.Consultant;
 import com.example.demo.model.relationship.AssignedTo;
 import com.example.demo.model.relationship.HasSkill;
+import com.example.demo.repository.FetchDepth;
+import com.example.demo.service.ConsultantTextSearchResult;
+import com.example.demo.service.ScoredConsultant;
 
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +26,13 @@ public final class ConsultantMapper {
         throw new UnsupportedOperationException("Utility class");
     }
 
+    /**
+     * {@code requested}, unless the fieldset leaves out every field loaded from a relationship.
+     */
+    public static FetchDepth fetchDepth(final Fieldset fieldset, final FetchDepth requested) {
+        return fieldset.includesAny("skills", "projectAssignments") ? requested : FetchDepth.SHALLOW;
+    }
+
     public static ConsultantResponse toResponse(final Consultant consultant) {
         if (consultant == null) {
             return null;
@@ -37,6 +50,30 @@ public final class ConsultantMapper {
                 .build();
     }
 
+    public static ConsultantTextSearchResponse toTextSearchResponse(final ConsultantTextSearchResult result,
+                                                                    final int page,
+                                                                    final int size) {
+        return ConsultantTextSearchResponse.builder()
+                .withResults(toScoredResponseList(result.results()))
+                .withPage(page)
+                .withSize(size)
+                .withTotalElements(result.total())
+                .withTotalPages((int) ((result.total() + size - 1) / size))
+                .build();
+    }
+
+    public static List<ScoredConsultantResponse> toScoredResponseList(final List<ScoredConsultant> scoredConsultants) {
+        if (scoredConsultants == null || scoredConsultants.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return scoredConsultants.stream()
+                .map(scored -> ScoredConsultantResponse.builder()
+                        .withScore(scored.score())
+                        .withConsultant(toResponse(scored.consultant()))
+                        .build())
+                .toList();
+    }
+
     public static List<ConsultantResponse> toResponseList(final List<Consultant> consultants) {
         if (consultants == null || consultants.isEmpty()) {
             return Collections.emptyList();
@@ -0,0 +1,50 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.MultiGetItemResponse;
+import com.example.demo.dto.response.MultiGetResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class MultiGetMapper {
+
+    private MultiGetMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * One item per requested id, in request order; ids that were not found get an item without a value.
+     */
+    public static <E, R> MultiGetResponse<R> toResponse(final List<String> ids,
+                                                        final List<E> entities,
+                                                        final Function<E, String> idOf,
+                                                        final Function<E, R> toResponse) {
+        final Map<String, R> responsesById = new HashMap<>(entities.size() * 2);
+        for (final E entity : entities) {
+            responsesById.put(idOf.apply(entity), toResponse.apply(entity));
+        }
+
+        final List<MultiGetItemResponse<R>> items = new ArrayList<>(ids.size());
+        final Set<String> missing = new LinkedHashSet<>();
+        for (final String id : ids) {
+            final R response = responsesById.get(id);
+            if (response == null) {
+                missing.add(id);
+            }
+            items.add(MultiGetItemResponse.<R>builder()
+                    .withId(id)
+                    .withFound(response != null)
+                    .withValue(response)
+                    .build());
+        }
+        return MultiGetResponse.<R>builder()
+                .withItems(items)
+                .withMissing(List.copyOf(missing))
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.NetworkMemberResponse;
+import com.example.demo.dto.response.NetworkPathResponse;
+import com.example.demo.dto.response.NetworkPathStepResponse;
+import com.example.demo.index.NetworkMember;
+import com.example.demo.index.NetworkPathStep;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class NetworkMapper {
+
+    private NetworkMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static List<NetworkMemberResponse> toMemberResponseList(final List<NetworkMember> members) {
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return members.stream()
+                .map(member -> NetworkMemberResponse.builder()
+                        .withId(member.consultantId())
+                        .withName(member.name())
+                        .withDistance(member.distance())
+                        .build())
+                .toList();
+    }
+
+    public static NetworkPathResponse toPathResponse(final List<NetworkPathStep> steps) {
+        final List<NetworkPathStepResponse> stepResponses = steps == null ? Collections.emptyList() : steps.stream()
+                .map(step -> NetworkPathStepResponse.builder()
+                        .withType(step.type().name())
+                        .withId(step.id())
+                        .withName(step.name())
+                        .build())
+                .toList();
+        return NetworkPathResponse.builder()
+                .withConnected(!stepResponses.isEmpty())
+                .withDistance(stepResponses.isEmpty() ? null : stepResponses.size() / 2)
+                .withSteps(stepResponses)
+                .build();
+    }
+}
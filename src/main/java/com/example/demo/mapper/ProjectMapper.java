@@ -1,11 +1,13 @@
 package com.example.demo.mapper;
 
 import com.example.demo.dto.request.CreateProjectRequest;
+import com.example.demo.dto.request.Fieldset;
 import com.example.demo.dto.request.UpdateProjectRequest;
 import com.example.demo.dto.response.ProjectResponse;
 import com.example.demo.dto.response.RequiresSkillResponse;
 import com.example.demo.model.Project;
 import com.example.demo.model.relationship.RequiresSkill;
+import com.example.demo.repository.FetchDepth;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,6 +20,13 @@ public final class ProjectMapper {
         throw new UnsupportedOperationException("Utility class");
     }
 
+    /**
+     * {@code requested}, unless the fieldset leaves out every field loaded from a relationship.
+     */
+    public static FetchDepth fetchDepth(final Fieldset fieldset, final FetchDepth requested) {
+        return fieldset.includesAny("company", "requiredSkills") ? requested : FetchDepth.SHALLOW;
+    }
+
     public static ProjectResponse toResponse(final Project project) {
         if (project == null) {
             return null;
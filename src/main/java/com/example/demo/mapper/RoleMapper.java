@@ -0,0 +1,34 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.RoleResponse;
+import com.example.demo.repository.RoleDefinition;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class RoleMapper {
+
+    private RoleMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static RoleResponse toResponse(final RoleDefinition role) {
+        if (role == null) {
+            return null;
+        }
+        return RoleResponse.builder()
+                .withRoleId(role.roleId())
+                .withName(role.name())
+                .withAliases(role.aliases())
+                .build();
+    }
+
+    public static List<RoleResponse> toResponseList(final List<RoleDefinition> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return roles.stream()
+                .map(RoleMapper::toResponse)
+                .toList();
+    }
+}
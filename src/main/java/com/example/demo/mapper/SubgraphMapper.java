@@ -0,0 +1,36 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.SubgraphEdgeResponse;
+import com.example.demo.dto.response.SubgraphNodeResponse;
+import com.example.demo.dto.response.SubgraphResponse;
+import com.example.demo.service.Subgraph;
+
+public final class SubgraphMapper {
+
+    private SubgraphMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static SubgraphResponse toResponse(final Subgraph subgraph) {
+        if (subgraph == null) {
+            return null;
+        }
+        return SubgraphResponse.builder()
+                .withNodes(subgraph.nodes().stream()
+                        .map(node -> SubgraphNodeResponse.builder()
+                                .withId(node.id())
+                                .withLabel(node.label())
+                                .withName(node.name())
+                                .build())
+                        .toList())
+                .withEdges(subgraph.edges().stream()
+                        .map(edge -> SubgraphEdgeResponse.builder()
+                                .withSource(edge.source())
+                                .withTarget(edge.target())
+                                .withType(edge.type())
+                                .build())
+                        .toList())
+                .withTruncated(subgraph.truncated())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.response.SuggestionResponse;
+import com.example.demo.index.Suggestion;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class SuggestionMapper {
+
+    private SuggestionMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static SuggestionResponse toResponse(final Suggestion suggestion) {
+        if (suggestion == null) {
+            return null;
+        }
+        return SuggestionResponse.builder()
+                .withType(suggestion.type().name())
+                .withId(suggestion.id())
+                .withName(suggestion.name())
+                .withMatchedTerm(suggestion.matchedTerm())
+                .build();
+    }
+
+    public static List<SuggestionResponse> toResponseList(final List<Suggestion> suggestions) {
+        if (suggestions == null || suggestions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return suggestions.stream()
+                .map(SuggestionMapper::toResponse)
+                .toList();
+    }
+}
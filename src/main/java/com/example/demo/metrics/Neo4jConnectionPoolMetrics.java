@@ -0,0 +1,80 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.Driver;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exposes the Neo4j driver connection pools as gauges and counters.
+ * Pools are created lazily per server address, so values are summed over all pools on every scrape.
+ * Requires {@code spring.neo4j.pool.metrics-enabled=true}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class Neo4jConnectionPoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "neo4j.driver.connections";
+
+    private final Driver driver;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (!driver.isMetricsEnabled()) {
+            log.info("[Neo4jConnectionPoolMetrics] - DISABLED: set spring.neo4j.pool.metrics-enabled to expose pool metrics");
+            return;
+        }
+        gauge(registry, PREFIX + ".in.use", "Connections currently borrowed from the pool",
+                ConnectionPoolMetrics::inUse);
+        gauge(registry, PREFIX + ".idle", "Idle connections in the pool",
+                ConnectionPoolMetrics::idle);
+        gauge(registry, PREFIX + ".acquiring", "Threads waiting to acquire a connection",
+                ConnectionPoolMetrics::acquiring);
+        counter(registry, PREFIX + ".created", "Connections created",
+                ConnectionPoolMetrics::created);
+        counter(registry, PREFIX + ".failed", "Connections that failed to be created",
+                ConnectionPoolMetrics::failedToCreate);
+        counter(registry, PREFIX + ".closed", "Connections closed",
+                ConnectionPoolMetrics::closed);
+        counter(registry, PREFIX + ".acquired", "Connections acquired from the pool",
+                ConnectionPoolMetrics::acquired);
+        counter(registry, PREFIX + ".acquisition.timeouts", "Connection acquisitions that timed out",
+                ConnectionPoolMetrics::timedOutToAcquire);
+    }
+
+    private void gauge(final MeterRegistry registry, final String name, final String description,
+                       final ToLongFunction<ConnectionPoolMetrics> metric) {
+        Gauge.builder(name, driver, value -> sum(metric))
+                .description(description)
+                .register(registry);
+    }
+
+    private void counter(final MeterRegistry registry, final String name, final String description,
+                         final ToLongFunction<ConnectionPoolMetrics> metric) {
+        FunctionCounter.builder(name, driver, value -> sum(metric))
+                .description(description)
+                .register(registry);
+    }
+
+    private double sum(final ToLongFunction<ConnectionPoolMetrics> metric) {
+        return pools().stream().mapToLong(metric).sum();
+    }
+
+    private Collection<ConnectionPoolMetrics> pools() {
+        try {
+            return driver.metrics().connectionPoolMetrics();
+        } catch (final RuntimeException ex) {
+            return Collections.emptyList();
+        }
+    }
+}
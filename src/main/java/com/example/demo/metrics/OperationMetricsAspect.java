@@ -0,0 +1,109 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public service operation and records how many entities each repository call returns.
+ * Repository latency itself is covered by Spring Boot's {@code spring.data.repository.invocations}
+ * timer, so together they attribute a slow request to the service operation and the Cypher behind it.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class OperationMetricsAspect {
+
+    public static final String SERVICE_OPERATION_TIMER = "staffing.service.operations";
+    public static final String REPOSITORY_RESULT_SIZE = "staffing.repository.result.size";
+
+    private static final String OUTCOME_SUCCESS = "SUCCESS";
+    private static final String OUTCOME_ERROR = "ERROR";
+    private static final String NO_EXCEPTION = "none";
+    private static final int NOT_A_RESULT_SET = -1;
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object timeServiceOperation(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_SUCCESS;
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable ex) {
+            outcome = OUTCOME_ERROR;
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_OPERATION_TIMER)
+                    .description("Latency of service layer operations")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry));
+        }
+    }
+
+    @AfterReturning(pointcut = "execution(* org.springframework.data.repository.Repository+.*(..))",
+            returning = "result")
+    public void recordResultSize(final JoinPoint joinPoint, final Object result) {
+        final int size = resultSize(result);
+        if (size == NOT_A_RESULT_SET) {
+            return;
+        }
+        DistributionSummary.builder(REPOSITORY_RESULT_SIZE)
+                .description("Number of entities returned by repository calls")
+                .baseUnit("entities")
+                .tag("repository", repositoryName(joinPoint.getTarget()))
+                .tag("method", joinPoint.getSignature().getName())
+                .publishPercentileHistogram()
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    private String repositoryName(final Object repository) {
+        return repositoryNames.computeIfAbsent(repository.getClass(), type -> Arrays.stream(type.getInterfaces())
+                .filter(Repository.class::isAssignableFrom)
+                .filter(candidate -> !candidate.getPackageName().startsWith("org.springframework"))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(type.getSimpleName()));
+    }
+
+    private int resultSize(final Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof final Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof final Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Boolean || result instanceof Number) {
+            return NOT_A_RESULT_SET;
+        }
+        return 1;
+    }
+}
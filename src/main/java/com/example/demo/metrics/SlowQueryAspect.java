@@ -0,0 +1,63 @@
+package com.example.demo.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.neo4j.repository.query.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every custom {@code @Query} repository method and hands statements exceeding
+ * the configured threshold to the {@link SlowQueryRecorder}. Repository fragments that build their
+ * Cypher at runtime (the consultant search) time their statements themselves.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SlowQueryAspect {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object detectSlowQuery(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final Query query = method.getAnnotation(Query.class);
+        if (query == null) {
+            return joinPoint.proceed();
+        }
+
+        final long startNanos = System.nanoTime();
+        final Object result = joinPoint.proceed();
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        if (slowQueryRecorder.isSlow(elapsedNanos)) {
+            slowQueryRecorder.record(
+                    method.getDeclaringClass().getSimpleName(),
+                    method.getName(),
+                    query.value(),
+                    parameters(method, joinPoint.getArgs()),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+        return result;
+    }
+
+    private Map<String, Object> parameters(final Method method, final Object[] arguments) {
+        final Parameter[] declared = method.getParameters();
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < declared.length && i < arguments.length; i++) {
+            final Param param = declared[i].getAnnotation(Param.class);
+            final String name = param != null ? param.value() : declared[i].getName();
+            parameters.put(name, arguments[i]);
+        }
+        return parameters;
+    }
+}
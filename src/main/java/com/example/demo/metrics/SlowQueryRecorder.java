@@ -0,0 +1,179 @@
+package com.example.demo.metrics;
+
+import com.example.demo.config.SlowQueryProperties;
+import com.example.demo.dto.response.QueryPlanResponse;
+import com.example.demo.dto.response.SlowQueryResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.driver.summary.ResultSummary;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the most recent slow repository queries in a bounded ring buffer.
+ * A sampled share of them is re-run under {@code PROFILE} on a single background thread,
+ * so the captured plan shows which operators produced the db hits and rows.
+ * Parameter values are redacted to their type and size before they are stored.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlowQueryRecorder {
+
+    private static final String PROFILE_PREFIX = "PROFILE ";
+    private static final String DETAILS_ARGUMENT = "Details";
+    private static final int PROFILING_QUEUE_CAPACITY = 16;
+
+    private final SlowQueryProperties properties;
+    private final Neo4jClient neo4jClient;
+
+    private final Deque<SlowQueryResponse> entries = new ArrayDeque<>();
+    private final ExecutorService profilingExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(PROFILING_QUEUE_CAPACITY),
+            Thread.ofPlatform().name("slow-query-profiler").daemon().factory());
+
+    public boolean isSlow(final long elapsedNanos) {
+        final boolean enabled = properties.enabled() && properties.threshold() != null;
+        return enabled && elapsedNanos >= properties.threshold().toNanos();
+    }
+
+    public void record(final String repository, final String method, final String cypher,
+                       final Map<String, Object> parameters, final long elapsedMillis) {
+        log.warn("[SlowQueryRecorder] - SLOW_QUERY: repository: {}, method: {}, elapsedMs: {}",
+                repository, method, elapsedMillis);
+
+        final SlowQueryResponse.SlowQueryResponseBuilder entry = SlowQueryResponse.builder()
+                .withRepository(repository)
+                .withMethod(method)
+                .withElapsedMillis(elapsedMillis)
+                .withCapturedAt(LocalDateTime.now())
+                .withParameters(redact(parameters));
+
+        final boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.profileSampleRate();
+        if (!sampled) {
+            append(entry.withProfiled(false).build());
+            return;
+        }
+
+        try {
+            profilingExecutor.execute(() -> append(profile(entry, cypher, parameters)));
+        } catch (final RejectedExecutionException ex) {
+            log.debug("[SlowQueryRecorder] - PROFILE_SKIPPED: repository: {}, method: {}, reason: queue full",
+                    repository, method);
+            append(entry.withProfiled(false).build());
+        }
+    }
+
+    public List<SlowQueryResponse> findAll() {
+        synchronized (entries) {
+            return List.copyOf(entries);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        profilingExecutor.shutdownNow();
+    }
+
+    private SlowQueryResponse profile(final SlowQueryResponse.SlowQueryResponseBuilder entry, final String cypher,
+                                      final Map<String, Object> parameters) {
+        try {
+            final ResultSummary summary = neo4jClient.query(PROFILE_PREFIX + cypher)
+                    .bindAll(parameters)
+                    .run();
+            if (!summary.hasProfile()) {
+                return entry.withProfiled(false).build();
+            }
+            final ProfiledPlan plan = summary.profile();
+            return entry.withProfiled(true)
+                    .withTotalDbHits(totalDbHits(plan))
+                    .withRows(plan.records())
+                    .withPlan(toPlanResponse(plan))
+                    .build();
+        } catch (final RuntimeException ex) {
+            log.warn("[SlowQueryRecorder] - PROFILE_FAILED: message: {}", ex.getMessage());
+            return entry.withProfiled(false).build();
+        }
+    }
+
+    private void append(final SlowQueryResponse response) {
+        final int capacity = Math.max(1, properties.bufferSize());
+        synchronized (entries) {
+            while (entries.size() >= capacity) {
+                entries.removeLast();
+            }
+            entries.addFirst(response);
+        }
+    }
+
+    private QueryPlanResponse toPlanResponse(final ProfiledPlan plan) {
+        final List<QueryPlanResponse> children = new ArrayList<>();
+        for (final ProfiledPlan child : plan.children()) {
+            children.add(toPlanResponse(child));
+        }
+        final Value details = plan.arguments().get(DETAILS_ARGUMENT);
+        return QueryPlanResponse.builder()
+                .withOperator(plan.operatorType())
+                .withDetails(details != null ? String.valueOf(details.asObject()) : null)
+                .withDbHits(plan.dbHits())
+                .withRows(plan.records())
+                .withIdentifiers(List.copyOf(plan.identifiers()))
+                .withChildren(children)
+                .build();
+    }
+
+    private long totalDbHits(final ProfiledPlan plan) {
+        long total = plan.dbHits();
+        for (final ProfiledPlan child : plan.children()) {
+            total += totalDbHits(child);
+        }
+        return total;
+    }
+
+    private Map<String, String> redact(final Map<String, Object> parameters) {
+        final Map<String, String> redacted = new LinkedHashMap<>();
+        parameters.forEach((name, value) -> redacted.put(name, redactValue(value)));
+        return redacted;
+    }
+
+    private String redactValue(final Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Temporal) {
+            return String.valueOf(value);
+        }
+        if (value instanceof final Collection<?> collection) {
+            return "list(size=%d)".formatted(collection.size());
+        }
+        if (value instanceof final CharSequence text) {
+            return "string(length=%d)".formatted(text.length());
+        }
+        return value.getClass().getSimpleName();
+    }
+}
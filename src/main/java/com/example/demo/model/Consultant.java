@@ -4,6 +4,8 @@ import com.example.demo.model.relationship.AssignedTo;
 import com.example.demo.model.relationship.HasSkill;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
@@ -23,6 +25,14 @@ public class Consultant {
     @GeneratedValue(generatorClass = UUIDStringGenerator.class)
     private String id;
 
+    @Version
+    private Long version;
+
+    // Set by VersionService in the write's transaction; save() never writes it back
+    @ReadOnlyProperty
+    @Property("stamp")
+    private Long stamp;
+
     @Property("name")
     private String name;
 
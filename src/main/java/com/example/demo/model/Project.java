@@ -3,6 +3,7 @@ package com.example.demo.model;
 import com.example.demo.model.relationship.RequiresSkill;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
@@ -27,6 +28,11 @@ public class Project {
     @GeneratedValue(generatorClass = UUIDStringGenerator.class)
     private String id;
 
+    // Set by VersionService in the write's transaction; save() never writes it back
+    @ReadOnlyProperty
+    @Property("stamp")
+    private Long stamp;
+
     @Property("name")
     private String name;
 
@@ -46,6 +52,10 @@ public class Project {
     @Property("roleCounts")
     private List<Integer> roleCounts = new ArrayList<>();
 
+    // Role dictionary ids, parallel to roleNames
+    @Property("roleIds")
+    private List<Integer> roleIds = new ArrayList<>();
+
     @Relationship(type = "OWNED_BY", direction = Relationship.Direction.OUTGOING)
     private Company company;
 
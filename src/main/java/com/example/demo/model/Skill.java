@@ -2,6 +2,7 @@ package com.example.demo.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
@@ -20,6 +21,11 @@ public class Skill {
     @GeneratedValue(generatorClass = UUIDStringGenerator.class)
     private String id;
 
+    // Set by VersionService in the write's transaction; save() never writes it back
+    @ReadOnlyProperty
+    @Property("stamp")
+    private Long stamp;
+
     @Property("name")
     private String name;
 
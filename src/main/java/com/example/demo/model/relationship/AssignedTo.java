@@ -33,6 +33,9 @@ public class AssignedTo {
     @Property("role")
     private String role;
 
+    @Property("roleId")
+    private Integer roleId;
+
     @Property("startDate")
     private LocalDateTime startDate;
     @Property("endDate")
@@ -0,0 +1,28 @@
+package com.example.demo.repository;
+
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+
+/**
+ * One write recorded in the change log, numbered by a cluster-wide sequence. {@code relatedId} is the other end of
+ * a relationship change, e.g. the project of an {@link Kind#ASSIGNMENT} or the skill of a
+ * {@link Kind#CONSULTANT_SKILL}, whose {@code entityId} is the consultant, or the parent of a
+ * {@link Kind#SKILL_HIERARCHY} link ({@code CREATED} when linked, {@code DELETED} when unlinked).
+ */
+public record ChangeLogEntry(
+        long seq,
+        Kind kind,
+        EntityType entityType,
+        String entityId,
+        String relatedId,
+        ChangeType changeType,
+        String instanceId
+) {
+
+    public enum Kind {
+        ENTITY,
+        ASSIGNMENT,
+        CONSULTANT_SKILL,
+        SKILL_HIERARCHY
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * Constraints and indexes backing the change log. Created at startup by
+ * {@link com.example.demo.config.SchemaInitializer}.
+ */
+public final class ChangeLogIndexes {
+
+    public static final List<String> DEFINITIONS = List.of(
+            """
+            CREATE CONSTRAINT change_log_seq IF NOT EXISTS
+            FOR (e:ChangeLogEntry) REQUIRE e.seq IS UNIQUE
+            """,
+            """
+            CREATE CONSTRAINT change_sequence_name IF NOT EXISTS
+            FOR (s:ChangeSequence) REQUIRE s.name IS UNIQUE
+            """,
+            """
+            CREATE INDEX change_log_at IF NOT EXISTS
+            FOR (e:ChangeLogEntry) ON (e.at)
+            """
+    );
+
+    private ChangeLogIndexes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
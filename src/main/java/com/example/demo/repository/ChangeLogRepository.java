@@ -0,0 +1,127 @@
+package com.example.demo.repository;
+
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.ChangeLogEntry.Kind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of {@code (:ChangeLogEntry {seq, kind, entityType, entityId, relatedId, changeType, instanceId,
+ * at})} nodes. Sequence numbers are issued by a single {@code ChangeSequence} node that is locked until the
+ * appending transaction commits, so entries become visible in sequence order and a reader polling by last-seen
+ * sequence never skips one. Appending in the write's own transaction makes the entry commit or roll back with it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeLogRepository {
+
+    private static final String APPEND = """
+            MERGE (s:ChangeSequence {name: 'changes'})
+            ON CREATE SET s.value = 0
+            SET s.value = s.value + 1
+            CREATE (:ChangeLogEntry {
+                seq: s.value,
+                kind: $kind,
+                entityType: $entityType,
+                entityId: $entityId,
+                relatedId: $relatedId,
+                changeType: $changeType,
+                instanceId: $instanceId,
+                at: datetime()
+            })
+            RETURN s.value AS seq
+            """;
+
+    private static final String LATEST_SEQUENCE = """
+            OPTIONAL MATCH (s:ChangeSequence {name: 'changes'})
+            RETURN coalesce(s.value, 0) AS seq
+            """;
+
+    private static final String FIND_AFTER = """
+            MATCH (e:ChangeLogEntry)
+            WHERE e.seq > $seq
+            RETURN e.seq AS seq, coalesce(e.kind, 'ENTITY') AS kind, e.entityType AS entityType,
+                   e.entityId AS entityId, e.relatedId AS relatedId, e.changeType AS changeType,
+                   e.instanceId AS instanceId
+            ORDER BY e.seq
+            LIMIT $limit
+            """;
+
+    private static final String DELETE_OLDER_THAN = """
+            MATCH (e:ChangeLogEntry)
+            WHERE e.at < datetime() - duration({seconds: $retentionSeconds})
+            WITH e LIMIT $limit
+            DELETE e
+            RETURN count(*) AS deleted
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    public long append(final EntityType entityType, final String entityId, final ChangeType changeType,
+                       final String instanceId) {
+        return append(Kind.ENTITY, entityType, entityId, null, changeType, instanceId);
+    }
+
+    public long append(final Kind kind, final EntityType entityType, final String entityId, final String relatedId,
+                       final ChangeType changeType, final String instanceId) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("kind", kind.name());
+        parameters.put("entityType", entityType.name());
+        parameters.put("entityId", entityId);
+        parameters.put("relatedId", relatedId);
+        parameters.put("changeType", changeType.name());
+        parameters.put("instanceId", instanceId);
+        return neo4jClient.query(APPEND)
+                .bindAll(parameters)
+                .fetchAs(Long.class)
+                .mappedBy((typeSystem, record) -> record.get("seq").asLong())
+                .one()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Change was not appended: " + kind + " " + entityType + " " + entityId));
+    }
+
+    /**
+     * The highest sequence number issued so far, or 0 if nothing was logged yet.
+     */
+    public long findLatestSequence() {
+        return neo4jClient.query(LATEST_SEQUENCE)
+                .fetchAs(Long.class)
+                .mappedBy((typeSystem, record) -> record.get("seq").asLong())
+                .one()
+                .orElse(0L);
+    }
+
+    public List<ChangeLogEntry> findAfter(final long seq, final int limit) {
+        return List.copyOf(neo4jClient.query(FIND_AFTER)
+                .bindAll(Map.of("seq", seq, "limit", limit))
+                .fetchAs(ChangeLogEntry.class)
+                .mappedBy((typeSystem, record) -> new ChangeLogEntry(
+                        record.get("seq").asLong(),
+                        Kind.valueOf(record.get("kind").asString()),
+                        EntityType.valueOf(record.get("entityType").asString()),
+                        record.get("entityId").asString(null),
+                        record.get("relatedId").asString(null),
+                        ChangeType.valueOf(record.get("changeType").asString()),
+                        record.get("instanceId").asString()))
+                .all());
+    }
+
+    /**
+     * Deletes up to {@code limit} entries older than {@code retention} and returns how many were deleted.
+     */
+    public long deleteOlderThan(final Duration retention, final int limit) {
+        return neo4jClient.query(DELETE_OLDER_THAN)
+                .bindAll(Map.of("retentionSeconds", retention.toSeconds(), "limit", limit))
+                .fetchAs(Long.class)
+                .mappedBy((typeSystem, record) -> record.get("deleted").asLong())
+                .one()
+                .orElse(0L);
+    }
+}
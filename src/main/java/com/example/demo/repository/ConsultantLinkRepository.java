@@ -0,0 +1,14 @@
+package com.example.demo.repository;
+
+/**
+ * Custom repository fragment that links a consultant to reference data by id. The skill node is matched inside the
+ * statement, so linking never loads it into, or saves it back from, the consultant aggregate.
+ */
+public interface ConsultantLinkRepository {
+
+    /**
+     * Creates or updates the {@code HAS_SKILL} relationship and bumps the consultant's version, as a save would.
+     * Returns false if the consultant or the skill does not exist.
+     */
+    boolean linkSkill(String consultantId, String skillId, Integer skillYearsOfExperience);
+}
@@ -0,0 +1,35 @@
+package com.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class ConsultantLinkRepositoryImpl implements ConsultantLinkRepository {
+
+    private static final String LINK_SKILL = """
+            MATCH (c:Consultant {id: $consultantId}), (s:Skill {id: $skillId})
+            MERGE (c)-[r:HAS_SKILL]->(s)
+            SET r.skillYearsOfExperience = $skillYearsOfExperience,
+                c.version = coalesce(c.version, 0) + 1
+            RETURN count(*) AS linked
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    @Override
+    public boolean linkSkill(final String consultantId, final String skillId, final Integer skillYearsOfExperience) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("consultantId", consultantId);
+        parameters.put("skillId", skillId);
+        parameters.put("skillYearsOfExperience", skillYearsOfExperience);
+        return neo4jClient.query(LINK_SKILL)
+                .bindAll(parameters)
+                .fetchAs(Long.class)
+                .mappedBy((typeSystem, record) -> record.get(0).asLong())
+                .one()
+                .orElse(0L) > 0;
+    }
+}
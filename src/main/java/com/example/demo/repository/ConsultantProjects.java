@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+import java.util.Map;
+
+/**
+ * A consultant and the projects they have been assigned to (project id → project name).
+ */
+public record ConsultantProjects(
+        String consultantId,
+        String consultantName,
+        Map<String, String> projects
+) {}
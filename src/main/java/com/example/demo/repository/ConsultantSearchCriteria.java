@@ -0,0 +1,42 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Normalized consultant search filters. List filters are never null; an empty list means "not filtered".
+ * {@code roles} holds the requested role terms and decides whether roles are filtered at all;
+ * {@code roleIds} holds the role dictionary ids they resolved to, which is what is actually matched.
+ */
+public record ConsultantSearchCriteria(
+        List<String> skillNames,
+        List<String> roles,
+        List<Integer> roleIds,
+        Boolean availability,
+        Boolean wantsNewProject,
+        Boolean openToRemote,
+        List<String> previousCompanies,
+        LocalDateTime startDate
+) {
+
+    public ConsultantSearchCriteria {
+        skillNames = skillNames != null ? skillNames : Collections.emptyList();
+        roles = roles != null ? roles : Collections.emptyList();
+        roleIds = roleIds != null ? roleIds : Collections.emptyList();
+        previousCompanies = previousCompanies != null ? previousCompanies : Collections.emptyList();
+    }
+
+    /**
+     * The same search with every list sorted and de-duplicated, so equal searches are equal records.
+     */
+    public ConsultantSearchCriteria normalized() {
+        return new ConsultantSearchCriteria(sorted(skillNames), sorted(roles), sorted(roleIds),
+                availability, wantsNewProject, openToRemote, sorted(previousCompanies), startDate);
+    }
+
+    private static <T extends Comparable<? super T>> List<T> sorted(final List<T> values) {
+        return values.stream().filter(Objects::nonNull).distinct().sorted().toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the minimal consultant search statement for a {@link SearchShape}.
+ * Only the OPTIONAL MATCH stages for filters that were actually supplied are emitted, and each stage is
+ * aggregated to a count before the next one runs, so stages never multiply each other's rows.
+ * Statements are cached per shape; all values are passed as parameters.
+ */
+final class ConsultantSearchQueryBuilder {
+
+    private static final String SKILL_STAGE = """
+            OPTIONAL MATCH (c)-[:HAS_SKILL]->(s:Skill)
+            WHERE s.name IN $skillNames
+            """;
+
+    private static final String ROLE_STAGE = """
+            OPTIONAL MATCH (c)-[r:ASSIGNED_TO]->(:Project)
+            WHERE r.roleId IN $roleIds
+            """;
+
+    private static final String COMPANY_STAGE = """
+            OPTIONAL MATCH (c)-[:ASSIGNED_TO]->(:Project)-[:OWNED_BY]->(co:Company)
+            WHERE co.name IN $previousCompanies
+            """;
+
+    private static final String OVERLAP_STAGE = """
+            OPTIONAL MATCH (c)-[dateCheck:ASSIGNED_TO]->(:Project)
+            WHERE dateCheck.isActive = true
+              AND (dateCheck.endDate IS NULL OR dateCheck.endDate > $startDate)
+            """;
+
+    private static final String HYDRATION = """
+            ORDER BY totalScore DESC
+            OPTIONAL MATCH (c)-[hs:HAS_SKILL]->(skill:Skill)
+            OPTIONAL MATCH (c)-[at:ASSIGNED_TO]->(project:Project)
+            RETURN c,
+                   collect(DISTINCT hs),
+                   collect(DISTINCT skill),
+                   collect(DISTINCT at),
+                   collect(DISTINCT project),
+                   collect(DISTINCT totalScore)
+            """;
+
+    private final Map<SearchShape, String> statements = new ConcurrentHashMap<>();
+
+    String statementFor(final SearchShape shape) {
+        return statements.computeIfAbsent(shape, ConsultantSearchQueryBuilder::build);
+    }
+
+    int cachedStatementCount() {
+        return statements.size();
+    }
+
+    Map<String, Object> parametersFor(final ConsultantSearchCriteria criteria, final SearchShape shape,
+                                      final int skillWeight, final int roleWeight, final int companyWeight) {
+        final Map<String, Object> parameters = new HashMap<>();
+        if (shape.contains(SearchFilter.SKILLS)) {
+            parameters.put("skillNames", criteria.skillNames());
+            parameters.put("skillWeight", skillWeight);
+        }
+        if (shape.contains(SearchFilter.ROLES)) {
+            parameters.put("roleIds", criteria.roleIds());
+            parameters.put("roleWeight", roleWeight);
+        }
+        if (shape.contains(SearchFilter.PREVIOUS_COMPANIES)) {
+            parameters.put("previousCompanies", criteria.previousCompanies());
+            parameters.put("companyWeight", companyWeight);
+        }
+        if (shape.contains(SearchFilter.WANTS_NEW_PROJECT)) {
+            parameters.put("wantsNewProject", criteria.wantsNewProject());
+        }
+        if (shape.contains(SearchFilter.OPEN_TO_REMOTE)) {
+            parameters.put("openToRemote", criteria.openToRemote());
+        }
+        if (shape.contains(SearchFilter.START_DATE)) {
+            parameters.put("startDate", criteria.startDate());
+        }
+        return parameters;
+    }
+
+    private static String build(final SearchShape shape) {
+        final boolean checkOverlap = shape.contains(SearchFilter.AVAILABLE_ONLY)
+                && shape.contains(SearchFilter.START_DATE);
+
+        final StringBuilder cypher = new StringBuilder("MATCH (c:Consultant)\n");
+        final List<String> nodeFilters = new ArrayList<>();
+        if (shape.contains(SearchFilter.WANTS_NEW_PROJECT)) {
+            nodeFilters.add("c.wantsNewProject = $wantsNewProject");
+        }
+        if (shape.contains(SearchFilter.OPEN_TO_REMOTE)) {
+            nodeFilters.add("c.openToRemote = $openToRemote");
+        }
+        if (shape.contains(SearchFilter.AVAILABLE_ONLY) && !checkOverlap) {
+            nodeFilters.add("c.availability = true");
+        }
+        appendWhere(cypher, nodeFilters);
+
+        final List<String> carried = new ArrayList<>(List.of("c"));
+        final List<String> matchConditions = new ArrayList<>();
+        final List<String> scoreTerms = new ArrayList<>();
+        if (shape.contains(SearchFilter.SKILLS)) {
+            appendStage(cypher, SKILL_STAGE, carried, "count(DISTINCT s) AS skillMatches");
+            carried.add("skillMatches");
+            matchConditions.add("skillMatches > 0");
+            scoreTerms.add("skillMatches * $skillWeight");
+        }
+        if (shape.contains(SearchFilter.ROLES)) {
+            appendStage(cypher, ROLE_STAGE, carried, "count(DISTINCT r) AS roleMatches");
+            carried.add("roleMatches");
+            matchConditions.add("roleMatches > 0");
+            scoreTerms.add("roleMatches * $roleWeight");
+        }
+        if (shape.contains(SearchFilter.PREVIOUS_COMPANIES)) {
+            appendStage(cypher, COMPANY_STAGE, carried, "count(DISTINCT co) AS companyMatches");
+            carried.add("companyMatches");
+            matchConditions.add("companyMatches > 0");
+            scoreTerms.add("companyMatches * $companyWeight");
+        }
+        if (checkOverlap) {
+            appendStage(cypher, OVERLAP_STAGE, carried, "count(DISTINCT dateCheck) AS overlappingAssignments");
+            carried.add("overlappingAssignments");
+        }
+
+        final List<String> aggregateFilters = new ArrayList<>();
+        if (checkOverlap) {
+            aggregateFilters.add("(c.availability = true OR overlappingAssignments = 0)");
+        }
+        if (!matchConditions.isEmpty()) {
+            aggregateFilters.add("(" + String.join(" OR ", matchConditions) + ")");
+        }
+        if (!aggregateFilters.isEmpty()) {
+            cypher.append("WITH ").append(String.join(", ", carried)).append('\n');
+            appendWhere(cypher, aggregateFilters);
+        }
+
+        final String totalScore = scoreTerms.isEmpty() ? "0" : String.join(" + ", scoreTerms);
+        cypher.append("WITH c, ").append(totalScore).append(" AS totalScore\n");
+        cypher.append(HYDRATION);
+        return cypher.toString();
+    }
+
+    private static void appendStage(final StringBuilder cypher, final String stage, final List<String> carried,
+                                    final String aggregate) {
+        cypher.append(stage)
+                .append("WITH ").append(String.join(", ", carried)).append(", ").append(aggregate).append('\n');
+    }
+
+    private static void appendWhere(final StringBuilder cypher, final List<String> conditions) {
+        if (!conditions.isEmpty()) {
+            cypher.append("WHERE ").append(String.join("\n  AND ", conditions)).append('\n');
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Consultant;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom repository fragment for consultant searches whose Cypher is generated per filter combination,
+ * and for the narrow per-criterion queries used when a search is fanned out.
+ */
+public interface ConsultantSearchRepository {
+
+    List<Consultant> searchByShape(ConsultantSearchCriteria criteria,
+                                   int skillWeight,
+                                   int roleWeight,
+                                   int companyWeight);
+
+    /**
+     * Returns consultant id → availability for every consultant passing the property filters.
+     */
+    Map<String, Boolean> findCandidateAvailability(Boolean wantsNewProject, Boolean openToRemote);
+
+    Map<String, Long> countSkillMatches(List<String> skillNames);
+
+    Map<String, Long> countRoleMatches(List<Integer> roleIds);
+
+    Map<String, Long> countCompanyMatches(List<String> previousCompanies);
+
+    Map<String, Long> countOverlappingAssignments(LocalDateTime startDate);
+
+    /**
+     * Runs a free-text query against the consultant, skill and assignment-role full-text indexes and returns
+     * the requested page of consultant ids ranked by the weighted sum of their index scores.
+     */
+    TextSearchHits textSearch(String query, int nameWeight, int skillWeight, int roleWeight, int skip, int limit);
+
+    /**
+     * Returns the similarity features of the given consultants, or of all consultants when {@code ids} is null.
+     */
+    List<SimilarityFeatures> findSimilarityFeatures(List<String> ids);
+
+    /**
+     * Returns the project assignments of the given consultants, or of all consultants when {@code ids} is null.
+     */
+    List<ConsultantProjects> findConsultantProjects(List<String> ids);
+
+    /**
+     * Returns every distinct role title used on an assignment.
+     */
+    List<String> findDistinctRoles();
+
+    /**
+     * Loads consultants with their skills and assignments, in the order of the given ids.
+     */
+    List<Consultant> findAllForResults(List<String> ids);
+}
@@ -0,0 +1,313 @@
+package com.example.demo.repository;
+
+import com.example.demo.metrics.SlowQueryRecorder;
+import com.example.demo.model.Consultant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Statements here are generated or run through {@link Neo4jClient}, so they carry no {@code @Query} for the
+ * slow-query aspect to see; each one is timed explicitly and reported to the {@link SlowQueryRecorder} instead.
+ */
+@RequiredArgsConstructor
+@Slf4j
+class ConsultantSearchRepositoryImpl implements ConsultantSearchRepository {
+
+    private static final String CANDIDATES = """
+            MATCH (c:Consultant)
+            WHERE ($wantsNewProject IS NULL OR c.wantsNewProject = $wantsNewProject)
+              AND ($openToRemote IS NULL OR c.openToRemote = $openToRemote)
+            RETURN c.id AS id, c.availability AS availability
+            """;
+
+    private static final String SKILL_MATCH_COUNTS = """
+            MATCH (c:Consultant)-[:HAS_SKILL]->(s:Skill)
+            WHERE s.name IN $skillNames
+            RETURN c.id AS id, count(DISTINCT s) AS matches
+            """;
+
+    private static final String ROLE_MATCH_COUNTS = """
+            MATCH (c:Consultant)-[r:ASSIGNED_TO]->(:Project)
+            WHERE r.roleId IN $roleIds
+            RETURN c.id AS id, count(DISTINCT r) AS matches
+            """;
+
+    private static final String COMPANY_MATCH_COUNTS = """
+            MATCH (c:Consultant)-[:ASSIGNED_TO]->(:Project)-[:OWNED_BY]->(co:Company)
+            WHERE co.name IN $previousCompanies
+            RETURN c.id AS id, count(DISTINCT co) AS matches
+            """;
+
+    private static final String OVERLAPPING_ASSIGNMENT_COUNTS = """
+            MATCH (c:Consultant)-[dateCheck:ASSIGNED_TO]->(:Project)
+            WHERE dateCheck.isActive = true
+              AND (dateCheck.endDate IS NULL OR dateCheck.endDate > $startDate)
+            RETURN c.id AS id, count(DISTINCT dateCheck) AS matches
+            """;
+
+    private static final String TEXT_SEARCH = """
+            CALL {
+                CALL db.index.fulltext.queryNodes('consultant_text', $query) YIELD node, score
+                RETURN node.id AS id, score * $nameWeight AS weighted
+                UNION ALL
+                CALL db.index.fulltext.queryNodes('skill_text', $query) YIELD node, score
+                MATCH (c:Consultant)-[:HAS_SKILL]->(node)
+                RETURN c.id AS id, score * $skillWeight AS weighted
+                UNION ALL
+                CALL db.index.fulltext.queryRelationships('assignment_role_text', $query) YIELD relationship, score
+                WITH startNode(relationship) AS c, score
+                WHERE c:Consultant
+                RETURN c.id AS id, score * $roleWeight AS weighted
+            }
+            WITH id, sum(weighted) AS score
+            ORDER BY score DESC, id
+            WITH collect({id: id, score: score}) AS ranked
+            RETURN size(ranked) AS total, ranked[$skip..($skip + $limit)] AS hits
+            """;
+
+    private static final Pattern LUCENE_SPECIAL_CHARACTERS = Pattern.compile("([+\\-!(){}\\[\\]^\"~*?:\\\\/&|])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String SIMILARITY_FEATURES = """
+            MATCH (c:Consultant)
+            WHERE $ids IS NULL OR c.id IN $ids
+            OPTIONAL MATCH (c)-[hs:HAS_SKILL]->(s:Skill)
+            WITH c, collect({name: s.name, years: hs.skillYearsOfExperience}) AS skills
+            OPTIONAL MATCH (c)-[:ASSIGNED_TO]->(:Project)-[:OWNED_BY]->(co:Company)
+            RETURN c.id AS id, skills, collect(DISTINCT co.name) AS companies
+            """;
+
+    private static final String CONSULTANT_PROJECTS = """
+            MATCH (c:Consultant)
+            WHERE $ids IS NULL OR c.id IN $ids
+            OPTIONAL MATCH (c)-[:ASSIGNED_TO]->(p:Project)
+            RETURN c.id AS id, c.name AS name, collect(DISTINCT {id: p.id, name: p.name}) AS projects
+            """;
+
+    private static final String DISTINCT_ROLES = """
+            MATCH (:Consultant)-[r:ASSIGNED_TO]->(:Project)
+            WHERE r.role IS NOT NULL
+            RETURN DISTINCT r.role AS role
+            """;
+
+    private static final String RESULTS_BY_IDS = """
+            MATCH (c:Consultant)
+            WHERE c.id IN $ids
+            OPTIONAL MATCH (c)-[hs:HAS_SKILL]->(skill:Skill)
+            OPTIONAL MATCH (c)-[at:ASSIGNED_TO]->(project:Project)
+            RETURN c,
+                   collect(DISTINCT hs),
+                   collect(DISTINCT skill),
+                   collect(DISTINCT at),
+                   collect(DISTINCT project)
+            """;
+
+    private final Neo4jTemplate neo4jTemplate;
+    private final Neo4jClient neo4jClient;
+    private final SlowQueryRecorder slowQueryRecorder;
+    private final ConsultantSearchQueryBuilder queryBuilder = new ConsultantSearchQueryBuilder();
+
+    @Override
+    public List<Consultant> searchByShape(final ConsultantSearchCriteria criteria,
+                                          final int skillWeight,
+                                          final int roleWeight,
+                                          final int companyWeight) {
+        final SearchShape shape = SearchShape.of(criteria);
+        final String cypher = queryBuilder.statementFor(shape);
+        final Map<String, Object> parameters =
+                queryBuilder.parametersFor(criteria, shape, skillWeight, roleWeight, companyWeight);
+        log.debug("[ConsultantSearchRepository] - SEARCH_BY_SHAPE: shape: {}, cachedShapes: {}",
+                shape.signature(), queryBuilder.cachedStatementCount());
+        return timed("searchByShape", cypher, parameters,
+                () -> neo4jTemplate.findAll(cypher, parameters, Consultant.class));
+    }
+
+    @Override
+    public Map<String, Boolean> findCandidateAvailability(final Boolean wantsNewProject, final Boolean openToRemote) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("wantsNewProject", wantsNewProject);
+        parameters.put("openToRemote", openToRemote);
+        final Collection<Map<String, Object>> rows = timed("findCandidateAvailability", CANDIDATES, parameters,
+                () -> neo4jClient.query(CANDIDATES)
+                        .bindAll(parameters)
+                        .fetch()
+                        .all());
+        final Map<String, Boolean> availability = new HashMap<>(rows.size() * 2);
+        for (final Map<String, Object> row : rows) {
+            availability.put((String) row.get("id"), Boolean.TRUE.equals(row.get("availability")));
+        }
+        return availability;
+    }
+
+    @Override
+    public Map<String, Long> countSkillMatches(final List<String> skillNames) {
+        return countsById("countSkillMatches", SKILL_MATCH_COUNTS, "skillNames", skillNames);
+    }
+
+    @Override
+    public Map<String, Long> countRoleMatches(final List<Integer> roleIds) {
+        return countsById("countRoleMatches", ROLE_MATCH_COUNTS, "roleIds", roleIds);
+    }
+
+    @Override
+    public Map<String, Long> countCompanyMatches(final List<String> previousCompanies) {
+        return countsById("countCompanyMatches", COMPANY_MATCH_COUNTS, "previousCompanies", previousCompanies);
+    }
+
+    @Override
+    public Map<String, Long> countOverlappingAssignments(final LocalDateTime startDate) {
+        return countsById("countOverlappingAssignments", OVERLAPPING_ASSIGNMENT_COUNTS, "startDate", startDate);
+    }
+
+    @Override
+    public TextSearchHits textSearch(final String query, final int nameWeight, final int skillWeight,
+                                     final int roleWeight, final int skip, final int limit) {
+        final String luceneQuery = toLuceneQuery(query);
+        if (luceneQuery.isEmpty()) {
+            return new TextSearchHits(0, Collections.emptyList());
+        }
+        final Map<String, Object> parameters = Map.of(
+                "query", luceneQuery,
+                "nameWeight", nameWeight,
+                "skillWeight", skillWeight,
+                "roleWeight", roleWeight,
+                "skip", skip,
+                "limit", limit);
+        return timed("textSearch", TEXT_SEARCH, parameters, () -> neo4jClient.query(TEXT_SEARCH)
+                .bindAll(parameters)
+                .fetchAs(TextSearchHits.class)
+                .mappedBy((typeSystem, record) -> new TextSearchHits(
+                        record.get("total").asLong(),
+                        record.get("hits").asList(hit -> new TextSearchHits.Hit(
+                                hit.get("id").asString(),
+                                hit.get("score").asDouble()))))
+                .one()
+                .orElseGet(() -> new TextSearchHits(0, Collections.emptyList())));
+    }
+
+    @Override
+    public List<SimilarityFeatures> findSimilarityFeatures(final List<String> ids) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ids", ids);
+        return List.copyOf(neo4jClient.query(SIMILARITY_FEATURES)
+                .bindAll(parameters)
+                .fetchAs(SimilarityFeatures.class)
+                .mappedBy((typeSystem, record) -> {
+                    final Map<String, Integer> skillYears = new HashMap<>();
+                    for (final Value skill : record.get("skills").values()) {
+                        if (!skill.get("name").isNull()) {
+                            skillYears.merge(skill.get("name").asString(),
+                                    skill.get("years").isNull() ? 0 : skill.get("years").asInt(), Math::max);
+                        }
+                    }
+                    return new SimilarityFeatures(
+                            record.get("id").asString(),
+                            skillYears,
+                            Set.copyOf(record.get("companies").asList(Value::asString)));
+                })
+                .all());
+    }
+
+    @Override
+    public List<ConsultantProjects> findConsultantProjects(final List<String> ids) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ids", ids);
+        return List.copyOf(neo4jClient.query(CONSULTANT_PROJECTS)
+                .bindAll(parameters)
+                .fetchAs(ConsultantProjects.class)
+                .mappedBy((typeSystem, record) -> {
+                    final Map<String, String> projects = new HashMap<>();
+                    for (final Value project : record.get("projects").values()) {
+                        if (!project.get("id").isNull()) {
+                            projects.put(project.get("id").asString(), project.get("name").asString(null));
+                        }
+                    }
+                    return new ConsultantProjects(
+                            record.get("id").asString(),
+                            record.get("name").asString(null),
+                            projects);
+                })
+                .all());
+    }
+
+    @Override
+    public List<String> findDistinctRoles() {
+        return List.copyOf(neo4jClient.query(DISTINCT_ROLES)
+                .fetchAs(String.class)
+                .mappedBy((typeSystem, record) -> record.get("role").asString())
+                .all());
+    }
+
+    @Override
+    public List<Consultant> findAllForResults(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<String, Integer> positions = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            positions.putIfAbsent(ids.get(i), i);
+        }
+        final Map<String, Object> parameters = Map.of("ids", ids);
+        return timed("findAllForResults", RESULTS_BY_IDS, parameters,
+                () -> neo4jTemplate.findAll(RESULTS_BY_IDS, parameters, Consultant.class)).stream()
+                .sorted(Comparator.comparingInt(
+                        (Consultant consultant) -> positions.getOrDefault(consultant.getId(), ids.size())))
+                .toList();
+    }
+
+    private static String toLuceneQuery(final String query) {
+        if (query == null || query.isBlank()) {
+            return "";
+        }
+        return Arrays.stream(WHITESPACE.split(query.strip().toLowerCase(Locale.ROOT)))
+                .map(term -> LUCENE_SPECIAL_CHARACTERS.matcher(term).replaceAll("\\\\$1"))
+                .collect(Collectors.joining(" "));
+    }
+
+    private <T> T timed(final String method, final String cypher, final Map<String, Object> parameters,
+                        final Supplier<T> query) {
+        final long startNanos = System.nanoTime();
+        final T result = query.get();
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        if (slowQueryRecorder.isSlow(elapsedNanos)) {
+            slowQueryRecorder.record(ConsultantSearchRepository.class.getSimpleName(), method, cypher, parameters,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+        return result;
+    }
+
+    private Map<String, Long> countsById(final String method, final String cypher, final String parameterName,
+                                         final Object value) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put(parameterName, value);
+        return timed(method, cypher, parameters, () -> neo4jClient.query(cypher)
+                .bindAll(parameters)
+                .fetch()
+                .all())
+                .stream()
+                .filter(row -> row.get("id") != null)
+                .collect(Collectors.toMap(
+                        row -> (String) row.get("id"),
+                        row -> ((Number) Objects.requireNonNull(row.get("matches"))).longValue(),
+                        Long::sum));
+    }
+}
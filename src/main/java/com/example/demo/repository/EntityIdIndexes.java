@@ -0,0 +1,33 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * Indexes behind lookups of an entity by label and id, such as the subgraph root in {@link SubgraphRepository}, so
+ * they seek instead of scanning the label. Created at startup by {@link com.example.demo.config.SchemaInitializer}.
+ */
+public final class EntityIdIndexes {
+
+    public static final List<String> DEFINITIONS = List.of(
+            """
+            CREATE INDEX consultant_id IF NOT EXISTS
+            FOR (n:Consultant) ON (n.id)
+            """,
+            """
+            CREATE INDEX project_id IF NOT EXISTS
+            FOR (n:Project) ON (n.id)
+            """,
+            """
+            CREATE INDEX skill_id IF NOT EXISTS
+            FOR (n:Skill) ON (n.id)
+            """,
+            """
+            CREATE INDEX company_id IF NOT EXISTS
+            FOR (n:Company) ON (n.id)
+            """
+    );
+
+    private EntityIdIndexes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.repository;
+
+import java.util.Locale;
+
+/**
+ * How much of an aggregate a batch lookup loads: only the node's own properties, or its relationships too.
+ */
+public enum FetchDepth {
+    SHALLOW,
+    DEEP;
+
+    public static FetchDepth of(final String value) {
+        try {
+            return valueOf(value.strip().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("fetch must be 'shallow' or 'deep', was: " + value);
+        }
+    }
+}
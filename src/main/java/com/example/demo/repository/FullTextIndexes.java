@@ -0,0 +1,33 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * Neo4j full-text indexes backing the consultant text search. Created at startup by
+ * {@link com.example.demo.config.SchemaInitializer}.
+ */
+public final class FullTextIndexes {
+
+    public static final String CONSULTANT_TEXT = "consultant_text";
+    public static final String SKILL_TEXT = "skill_text";
+    public static final String ASSIGNMENT_ROLE_TEXT = "assignment_role_text";
+
+    public static final List<String> DEFINITIONS = List.of(
+            """
+            CREATE FULLTEXT INDEX consultant_text IF NOT EXISTS
+            FOR (c:Consultant) ON EACH [c.name, c.email]
+            """,
+            """
+            CREATE FULLTEXT INDEX skill_text IF NOT EXISTS
+            FOR (s:Skill) ON EACH [s.name, s.synonyms]
+            """,
+            """
+            CREATE FULLTEXT INDEX assignment_role_text IF NOT EXISTS
+            FOR ()-[r:ASSIGNED_TO]-() ON EACH [r.role]
+            """
+    );
+
+    private FullTextIndexes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+/**
+ * A relationship seen from one of its end nodes, together with the node at the other end.
+ */
+public record GraphEdge(
+        String fromElementId,
+        String type,
+        boolean outgoing,
+        GraphNode neighbour
+) {}
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+/**
+ * A node of an exported subgraph. {@code elementId} is Neo4j's internal id, used to expand the next level; it is
+ * only valid within the transaction that read it and is not exposed in responses.
+ */
+public record GraphNode(
+        String elementId,
+        String id,
+        String label,
+        String name
+) {}
@@ -0,0 +1,19 @@
+package com.example.demo.repository;
+
+/**
+ * Custom repository fragment that links a project to reference data by id. The company or skill node is matched
+ * inside the statement, so linking never loads it into, or saves it back from, the project aggregate.
+ */
+public interface ProjectLinkRepository {
+
+    /**
+     * Makes the company the project's only owner. Returns false if the project or the company does not exist.
+     */
+    boolean linkCompany(String projectId, String companyId);
+
+    /**
+     * Creates or updates the {@code REQUIRES_SKILL} relationship. Returns false if the project or the skill does
+     * not exist.
+     */
+    boolean linkRequiredSkill(String projectId, String skillId, Integer minYearsOfExperience, Boolean isMandatory);
+}
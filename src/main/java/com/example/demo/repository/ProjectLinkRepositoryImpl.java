@@ -0,0 +1,58 @@
+package com.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class ProjectLinkRepositoryImpl implements ProjectLinkRepository {
+
+    private static final String LINK_COMPANY = """
+            MATCH (p:Project {id: $projectId}), (co:Company {id: $companyId})
+            CALL {
+                WITH p, co
+                MATCH (p)-[previous:OWNED_BY]->(other)
+                WHERE other <> co
+                DELETE previous
+            }
+            MERGE (p)-[:OWNED_BY]->(co)
+            RETURN count(*) AS linked
+            """;
+
+    private static final String LINK_REQUIRED_SKILL = """
+            MATCH (p:Project {id: $projectId}), (s:Skill {id: $skillId})
+            MERGE (p)-[r:REQUIRES_SKILL]->(s)
+            SET r.minYearsOfExperience = $minYearsOfExperience,
+                r.isMandatory = $isMandatory
+            RETURN count(*) AS linked
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    @Override
+    public boolean linkCompany(final String projectId, final String companyId) {
+        return linked(LINK_COMPANY, Map.of("projectId", projectId, "companyId", companyId));
+    }
+
+    @Override
+    public boolean linkRequiredSkill(final String projectId, final String skillId,
+                                     final Integer minYearsOfExperience, final Boolean isMandatory) {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("projectId", projectId);
+        parameters.put("skillId", skillId);
+        parameters.put("minYearsOfExperience", minYearsOfExperience);
+        parameters.put("isMandatory", isMandatory);
+        return linked(LINK_REQUIRED_SKILL, parameters);
+    }
+
+    private boolean linked(final String cypher, final Map<String, Object> parameters) {
+        return neo4jClient.query(cypher)
+                .bindAll(parameters)
+                .fetchAs(Long.class)
+                .mappedBy((typeSystem, record) -> record.get(0).asLong())
+                .one()
+                .orElse(0L) > 0;
+    }
+}
@@ -8,10 +8,32 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProjectRepository extends Neo4jRepository<Project, String> {
+public interface ProjectRepository extends Neo4jRepository<Project, String>, ProjectLinkRepository {
 
     Optional<Project> findByName(String name);
 
+    @Query("""
+        MATCH (p:Project)
+        WHERE p.id IN $ids
+        RETURN p
+        """)
+    List<Project> findShallowByIds(@Param("ids") List<String> ids);
+
+    @Query("""
+        MATCH (p:Project)
+        RETURN p
+        """)
+    List<Project> findAllShallow();
+
+    @Query("""
+        MATCH (p:Project)
+        WHERE p.id IN $ids
+        OPTIONAL MATCH (p)-[o:OWNED_BY]->(c:Company)
+        OPTIONAL MATCH (p)-[rs:REQUIRES_SKILL]->(s:Skill)
+        RETURN p, collect(DISTINCT o), collect(DISTINCT c), collect(DISTINCT rs), collect(DISTINCT s)
+        """)
+    List<Project> findDeepByIds(@Param("ids") List<String> ids);
+
     @Query("""
         MATCH (p:Project)-[o:OWNED_BY]->(c:Company)
         WHERE c.id = $companyId
@@ -0,0 +1,13 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * An entry of the role dictionary: the canonical role name, its integer id and the normalized aliases that
+ * resolve to it.
+ */
+public record RoleDefinition(
+        int roleId,
+        String name,
+        List<String> aliases
+) {}
@@ -0,0 +1,33 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * Constraints and indexes backing the role dictionary. Created at startup by
+ * {@link com.example.demo.config.SchemaInitializer}.
+ */
+public final class RoleIndexes {
+
+    public static final List<String> DEFINITIONS = List.of(
+            """
+            CREATE CONSTRAINT role_key IF NOT EXISTS
+            FOR (r:Role) REQUIRE r.key IS UNIQUE
+            """,
+            """
+            CREATE CONSTRAINT role_id IF NOT EXISTS
+            FOR (r:Role) REQUIRE r.roleId IS UNIQUE
+            """,
+            """
+            CREATE CONSTRAINT role_sequence_name IF NOT EXISTS
+            FOR (s:RoleSequence) REQUIRE s.name IS UNIQUE
+            """,
+            """
+            CREATE INDEX assignment_role_id IF NOT EXISTS
+            FOR ()-[r:ASSIGNED_TO]-() ON (r.roleId)
+            """
+    );
+
+    private RoleIndexes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Role dictionary nodes. Every distinct normalized role gets one {@code (:Role {key, roleId, name, aliases})} node;
+ * role ids are issued by a single {@code RoleSequence} node, so they stay small, dense and stable.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoleRepository {
+
+    private static final String FIND_ALL = """
+            MATCH (r:Role)
+            RETURN r.roleId AS roleId, r.name AS name, r.aliases AS aliases
+            ORDER BY r.roleId
+            """;
+
+    private static final String INTERN = """
+            MERGE (r:Role {key: $key})
+            ON CREATE SET r.name = $name, r.aliases = []
+            WITH r
+            CALL {
+                WITH r
+                WITH r WHERE r.roleId IS NULL
+                MERGE (seq:RoleSequence {name: 'role'})
+                ON CREATE SET seq.value = 0
+                SET seq.value = seq.value + 1
+                SET r.roleId = seq.value
+            }
+            RETURN r.roleId AS roleId, r.name AS name, r.aliases AS aliases
+            """;
+
+    private static final String ADD_ALIAS = """
+            MATCH (r:Role {roleId: $roleId})
+            SET r.aliases = CASE WHEN $alias IN r.aliases THEN r.aliases ELSE r.aliases + $alias END
+            RETURN r.roleId AS roleId, r.name AS name, r.aliases AS aliases
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    public List<RoleDefinition> findAll() {
+        return List.copyOf(neo4jClient.query(FIND_ALL)
+                .fetchAs(RoleDefinition.class)
+                .mappedBy((typeSystem, record) -> toDefinition(record))
+                .all());
+    }
+
+    /**
+     * Returns the role stored under the normalized {@code key}, creating it with a new id and the display
+     * {@code name} if there is none.
+     */
+    public RoleDefinition intern(final String key, final String name) {
+        return neo4jClient.query(INTERN)
+                .bindAll(Map.of("key", key, "name", name))
+                .fetchAs(RoleDefinition.class)
+                .mappedBy((typeSystem, record) -> toDefinition(record))
+                .one()
+                .orElseThrow(() -> new IllegalStateException("Role was not interned: " + key));
+    }
+
+    public Optional<RoleDefinition> addAlias(final int roleId, final String alias) {
+        return neo4jClient.query(ADD_ALIAS)
+                .bindAll(Map.of("roleId", roleId, "alias", alias))
+                .fetchAs(RoleDefinition.class)
+                .mappedBy((typeSystem, record) -> toDefinition(record))
+                .one();
+    }
+
+    private static RoleDefinition toDefinition(final Record record) {
+        return new RoleDefinition(
+                record.get("roleId").asInt(),
+                record.get("name").asString(),
+                record.get("aliases").asList(Value::asString));
+    }
+}
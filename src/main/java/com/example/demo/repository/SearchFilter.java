@@ -0,0 +1,14 @@
+package com.example.demo.repository;
+
+/**
+ * Consultant search filters that change the shape of the generated Cypher statement.
+ */
+public enum SearchFilter {
+    SKILLS,
+    ROLES,
+    PREVIOUS_COMPANIES,
+    AVAILABLE_ONLY,
+    WANTS_NEW_PROJECT,
+    OPEN_TO_REMOTE,
+    START_DATE
+}
@@ -0,0 +1,49 @@
+package com.example.demo.repository;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The set of filters actually supplied to a consultant search, encoded as a bitmask over {@link SearchFilter}.
+ * Two searches with the same shape share one generated Cypher statement and therefore one query plan.
+ */
+public record SearchShape(int mask) {
+
+    private static final String NO_FILTERS = "NONE";
+
+    public static SearchShape of(final ConsultantSearchCriteria criteria) {
+        int mask = 0;
+        mask |= flag(SearchFilter.SKILLS, !criteria.skillNames().isEmpty());
+        mask |= flag(SearchFilter.ROLES, !criteria.roles().isEmpty());
+        mask |= flag(SearchFilter.PREVIOUS_COMPANIES, !criteria.previousCompanies().isEmpty());
+        mask |= flag(SearchFilter.AVAILABLE_ONLY, Boolean.TRUE.equals(criteria.availability()));
+        mask |= flag(SearchFilter.WANTS_NEW_PROJECT, criteria.wantsNewProject() != null);
+        mask |= flag(SearchFilter.OPEN_TO_REMOTE, criteria.openToRemote() != null);
+        mask |= flag(SearchFilter.START_DATE, criteria.startDate() != null);
+        return new SearchShape(mask);
+    }
+
+    public boolean contains(final SearchFilter filter) {
+        return (mask & (1 << filter.ordinal())) != 0;
+    }
+
+    public boolean hasMatchCriteria() {
+        return contains(SearchFilter.SKILLS)
+                || contains(SearchFilter.ROLES)
+                || contains(SearchFilter.PREVIOUS_COMPANIES);
+    }
+
+    public String signature() {
+        if (mask == 0) {
+            return NO_FILTERS;
+        }
+        return Arrays.stream(SearchFilter.values())
+                .filter(this::contains)
+                .map(Enum::name)
+                .collect(Collectors.joining("+"));
+    }
+
+    private static int flag(final SearchFilter filter, final boolean present) {
+        return present ? 1 << filter.ordinal() : 0;
+    }
+}
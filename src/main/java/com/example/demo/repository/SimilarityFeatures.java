@@ -0,0 +1,14 @@
+package com.example.demo.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What a consultant is compared on when looking for similar consultants:
+ * skill name → years of experience with it, and the companies owning the projects they were assigned to.
+ */
+public record SimilarityFeatures(
+        String consultantId,
+        Map<String, Integer> skillYears,
+        Set<String> companies
+) {}
@@ -0,0 +1,23 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for the {@code (:Skill)-[:SUBSKILL_OF]->(:Skill)} hierarchy.
+ * The relationship is not mapped on {@link com.example.demo.model.Skill}, so saving a skill never touches it.
+ */
+public interface SkillHierarchyRepository {
+
+    List<SkillLink> findSkillLinks();
+
+    /**
+     * Links {@code skillId} as a subskill of {@code parentId}. Returns false if either skill is missing
+     * or the link would close a cycle.
+     */
+    boolean linkSubskill(String skillId, String parentId);
+
+    /**
+     * Returns false if there was no such link.
+     */
+    boolean unlinkSubskill(String skillId, String parentId);
+}
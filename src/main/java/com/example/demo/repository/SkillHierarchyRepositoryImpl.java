@@ -0,0 +1,60 @@
+package com.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class SkillHierarchyRepositoryImpl implements SkillHierarchyRepository {
+
+    private static final String SKILL_LINKS = """
+            MATCH (s:Skill)-[:SUBSKILL_OF]->(p:Skill)
+            RETURN s.id AS skillId, p.id AS parentId
+            """;
+
+    private static final String LINK = """
+            MATCH (s:Skill {id: $skillId}), (p:Skill {id: $parentId})
+            WHERE s <> p AND NOT EXISTS { MATCH (p)-[:SUBSKILL_OF*]->(s) }
+            MERGE (s)-[:SUBSKILL_OF]->(p)
+            RETURN count(*) AS linked
+            """;
+
+    private static final String UNLINK = """
+            MATCH (:Skill {id: $skillId})-[r:SUBSKILL_OF]->(:Skill {id: $parentId})
+            DELETE r
+            RETURN count(*) AS unlinked
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    @Override
+    public List<SkillLink> findSkillLinks() {
+        return List.copyOf(neo4jClient.query(SKILL_LINKS)
+                .fetchAs(SkillLink.class)
+                .mappedBy((typeSystem, record) -> new SkillLink(
+                        record.get("skillId").asString(),
+                        record.get("parentId").asString()))
+                .all());
+    }
+
+    @Override
+    public boolean linkSubskill(final String skillId, final String parentId) {
+        return count(LINK, skillId, parentId) > 0;
+    }
+
+    @Override
+    public boolean unlinkSubskill(final String skillId, final String parentId) {
+        return count(UNLINK, skillId, parentId) > 0;
+    }
+
+    private long count(final String cypher, final String skillId, final String parentId) {
+        return neo4jClient.query(cypher)
+                .bindAll(Map.of("skillId", skillId, "parentId", parentId))
+                .fetchAs(Long.class)
+                .mappedBy((typeSystem, record) -> record.get(0).asLong())
+                .one()
+                .orElse(0L);
+    }
+}
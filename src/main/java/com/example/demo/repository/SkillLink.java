@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+/**
+ * A {@code SUBSKILL_OF} relationship: the skill {@code skillId} implies its parent {@code parentId}.
+ */
+public record SkillLink(
+        String skillId,
+        String parentId
+) {}
@@ -8,7 +8,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface SkillRepository extends Neo4jRepository<Skill, String> {
+public interface SkillRepository extends Neo4jRepository<Skill, String>, SkillHierarchyRepository {
 
     Optional<Skill> findByName(String name);
 
@@ -0,0 +1,98 @@
+package com.example.demo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.neo4j.driver.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Neighbourhood reads used to export bounded subgraphs. The root is looked up by label and id (see
+ * {@link EntityIdIndexes}); every further level is expanded from the element ids of the previous one, so no
+ * statement scans nodes. Every expansion is limited per node and in total, so a single call never reads more than
+ * the requested number of relationships and a hub cannot crowd out the other nodes of its level.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubgraphRepository {
+
+    private static final String NODE = """
+            MATCH (n:%s {id: $id})
+            RETURN elementId(n) AS elementId, n.id AS id, labels(n)[0] AS label, n.name AS name
+            """;
+
+    /**
+     * Root lookup per entity label. Labels cannot be parameters, so the statements are fixed up front.
+     */
+    static final Map<String, String> NODE_BY_LABEL = Stream.of("Consultant", "Project", "Skill", "Company")
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), NODE::formatted));
+
+    static final String NEIGHBOURS = """
+            UNWIND $elementIds AS elementId
+            MATCH (n)
+            WHERE elementId(n) = elementId
+            CALL {
+                WITH n
+                MATCH (n)-[r]-(m)
+                WHERE m.id IS NOT NULL
+                RETURN r, m
+                LIMIT $perNode
+            }
+            RETURN elementId(n) AS fromElementId,
+                   type(r) AS type,
+                   startNode(r) = n AS outgoing,
+                   elementId(m) AS elementId,
+                   m.id AS id,
+                   labels(m)[0] AS label,
+                   m.name AS name
+            LIMIT $limit
+            """;
+
+    private final Neo4jClient neo4jClient;
+
+    public Optional<GraphNode> findNode(final String label, final String id) {
+        final String statement = NODE_BY_LABEL.get(label);
+        if (statement == null) {
+            throw new IllegalArgumentException("Unknown label: " + label);
+        }
+        return neo4jClient.query(statement)
+                .bindAll(Map.of("id", id))
+                .fetchAs(GraphNode.class)
+                .mappedBy((typeSystem, record) -> new GraphNode(
+                        record.get("elementId").asString(),
+                        record.get("id").asString(),
+                        record.get("label").asString(),
+                        nameOf(record.get("name"))))
+                .one();
+    }
+
+    /**
+     * Relationships of the given nodes, at most {@code perNode} for each of them and {@code limit} in total.
+     */
+    public List<GraphEdge> findNeighbours(final Collection<String> elementIds, final int perNode, final int limit) {
+        return List.copyOf(neo4jClient.query(NEIGHBOURS)
+                .bindAll(Map.of("elementIds", List.copyOf(elementIds), "perNode", perNode, "limit", limit))
+                .fetchAs(GraphEdge.class)
+                .mappedBy((typeSystem, record) -> new GraphEdge(
+                        record.get("fromElementId").asString(),
+                        record.get("type").asString(),
+                        record.get("outgoing").asBoolean(),
+                        new GraphNode(
+                                record.get("elementId").asString(),
+                                record.get("id").asString(),
+                                record.get("label").asString(),
+                                nameOf(record.get("name")))))
+                .all());
+    }
+
+    private static String nameOf(final Value name) {
+        return name.isNull() ? null : name.asString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * One page of full-text hits in relevance order, with the total number of matching consultants.
+ */
+public record TextSearchHits(
+        long total,
+        List<Hit> hits
+) {
+
+    public record Hit(String consultantId, double score) {
+    }
+}
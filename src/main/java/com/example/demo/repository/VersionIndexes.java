@@ -0,0 +1,42 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+/**
+ * Indexes behind the stamp-only queries of {@link VersionRepository}: the highest stamp per label is read from a
+ * range index instead of a label scan. Created at startup by {@link com.example.demo.config.SchemaInitializer}, which
+ * also drops the indexes on {@code version}, where stamps were kept before they moved off the optimistic lock.
+ */
+public final class VersionIndexes {
+
+    public static final List<String> DEFINITIONS = List.of(
+            """
+            CREATE CONSTRAINT version_sequence_name IF NOT EXISTS
+            FOR (s:VersionSequence) REQUIRE s.name IS UNIQUE
+            """,
+            """
+            CREATE INDEX consultant_stamp IF NOT EXISTS
+            FOR (n:Consultant) ON (n.stamp)
+            """,
+            """
+            CREATE INDEX project_stamp IF NOT EXISTS
+            FOR (n:Project) ON (n.stamp)
+            """,
+            """
+            CREATE INDEX skill_stamp IF NOT EXISTS
+            FOR (n:Skill) ON (n.stamp)
+            """,
+            """
+            CREATE INDEX company_stamp IF NOT EXISTS
+            FOR (n:Company) ON (n.stamp)
+            """,
+            "DROP INDEX consultant_version IF EXISTS",
+            "DROP INDEX project_version IF EXISTS",
+            "DROP INDEX skill_version IF EXISTS",
+            "DROP INDEX company_version IF EXISTS"
+    );
+
+    private VersionIndexes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.repository;
+
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.neo4j.driver.Value;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Version stamps for conditional reads. Every write sets the node's {@code stamp} to the next value of a single
+ * {@code VersionSequence} node, so stamps increase across all entity types. The stamp is its own property, apart
+ * from the optimistic-lock {@code version} that SDN maintains. Stamps are read with stamp-only queries that never
+ * load an entity: a single entity by its own stamp and a digest of the ids and stamps of the nodes its response
+ * shows, a collection by the highest stamp of every label it shows (from {@link VersionIndexes}) and the node and
+ * relationship counts (from the count store).
+ */
+@Repository
+@RequiredArgsConstructor
+public class VersionRepository {
+
+    private static final Map<EntityType, Shape> SHAPES = new EnumMap<>(Map.of(
+            EntityType.CONSULTANT, new Shape("Consultant", List.of("HAS_SKILL", "ASSIGNED_TO"),
+                    List.of("Skill", "Project")),
+            EntityType.PROJECT, new Shape("Project", List.of("OWNED_BY", "REQUIRES_SKILL"),
+                    List.of("Company", "Skill")),
+            EntityType.SKILL, new Shape("Skill", List.of(), List.of()),
+            EntityType.COMPANY, new Shape("Company", List.of(), List.of())));
+
+    private static final String STAMP = """
+            MERGE (s:VersionSequence {name: 'versions'})
+            ON CREATE SET s.value = 0
+            SET s.value = s.value + 1
+            WITH s
+            MATCH (n:%s {id: $id})
+            SET n.stamp = s.value
+            """;
+
+    private static final String FIND_BY_ID = """
+            MATCH (n:%s {id: $id})
+            OPTIONAL MATCH (n)-[%s]->(related)
+            RETURN coalesce(n.stamp, 0) AS version,
+                   count(related) AS counted,
+                   collect(related.id + ':' + coalesce(related.stamp, 0)) AS related
+            """;
+
+    private static final String FIND_ALL = """
+            CALL {
+            %s
+            }
+            WITH max(version) AS version
+            CALL {
+            %s
+            }
+            RETURN coalesce(version, 0) AS version, sum(counted) AS counted
+            """;
+
+    private static final String MAX_VERSION = """
+            MATCH (n:%s) WHERE n.stamp IS NOT NULL
+            RETURN n.stamp AS version ORDER BY version DESC LIMIT 1""";
+
+    private static final String NODE_COUNT = "MATCH (n:%s) RETURN count(n) AS counted";
+    private static final String RELATIONSHIP_COUNT = "MATCH ()-[r:%s]->() RETURN count(r) AS counted";
+
+    private final Neo4jClient neo4jClient;
+
+    /**
+     * Gives the entity the next stamp; a no-op if it no longer exists.
+     */
+    public void stamp(final EntityType entityType, final String id) {
+        neo4jClient.query(STAMP.formatted(SHAPES.get(entityType).label()))
+                .bind(id).to("id")
+                .run();
+    }
+
+    public Optional<VersionStamp> findById(final EntityType entityType, final String id) {
+        return neo4jClient.query(SHAPES.get(entityType).findById())
+                .bind(id).to("id")
+                .fetchAs(VersionStamp.class)
+                .mappedBy((typeSystem, record) -> new VersionStamp(
+                        record.get("version").asLong(),
+                        record.get("counted").asLong(),
+                        digest(record.get("related").asList(Value::asString))))
+                .one();
+    }
+
+    public VersionStamp findAll(final EntityType entityType) {
+        return neo4jClient.query(SHAPES.get(entityType).findAll())
+                .fetchAs(VersionStamp.class)
+                .mappedBy((typeSystem, record) -> new VersionStamp(
+                        record.get("version").asLong(), record.get("counted").asLong()))
+                .one()
+                .orElse(new VersionStamp(0, 0));
+    }
+
+    /**
+     * Order-independent 64-bit FNV-1a digest of the {@code id:stamp} pairs of the related nodes; 0 for none.
+     */
+    private static long digest(final List<String> related) {
+        if (related.isEmpty()) {
+            return 0;
+        }
+        final List<String> sorted = related.stream().sorted().toList();
+        long hash = 0xcbf29ce484222325L;
+        for (final String pair : sorted) {
+            for (int i = 0; i < pair.length(); i++) {
+                hash = (hash ^ pair.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ '|') * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * The nodes a response of this type shows: its own label, reached through {@code relationships}, whose nodes
+     * carry the {@code relatedLabels}.
+     */
+    private record Shape(String label, List<String> relationships, List<String> relatedLabels) {
+
+        String findById() {
+            if (relationships.isEmpty()) {
+                return "MATCH (n:%s {id: $id}) RETURN coalesce(n.stamp, 0) AS version, 0 AS counted, [] AS related"
+                        .formatted(label);
+            }
+            return FIND_BY_ID.formatted(label, ":" + String.join("|", relationships));
+        }
+
+        String findAll() {
+            final String maxVersions = Stream.concat(Stream.of(label), relatedLabels.stream())
+                    .map(MAX_VERSION::formatted)
+                    .collect(Collectors.joining("\nUNION ALL\n"));
+            final String counts = Stream.concat(
+                            Stream.of(NODE_COUNT.formatted(label)),
+                            relationships.stream().map(RELATIONSHIP_COUNT::formatted))
+                    .collect(Collectors.joining("\nUNION ALL\n"));
+            return FIND_ALL.formatted(maxVersions, counts);
+        }
+    }
+}
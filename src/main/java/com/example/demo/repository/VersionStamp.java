@@ -0,0 +1,26 @@
+package com.example.demo.repository;
+
+/**
+ * What a response was built from: the stamp of its node, or for a collection the highest stamp of the nodes it
+ * shows; how many nodes and relationships it counts; and, for a single entity, a digest of the ids and stamps of the
+ * related nodes it shows. Stamps come from one cluster-wide sequence, so any write raises the stamp of what it
+ * wrote; a delete lowers {@code count} or changes {@code related}. Equal stamps therefore mean an unchanged response.
+ */
+public record VersionStamp(
+        long version,
+        long count,
+        long related
+) {
+
+    public VersionStamp(final long version, final long count) {
+        this(version, count, 0);
+    }
+
+    /**
+     * The stamp as a weak entity tag, quoted for the {@code ETag} header. Weak, because the same stamp is served in
+     * every negotiated encoding (JSON, CBOR, Smile), which are not byte-for-byte equal.
+     */
+    public String eTag() {
+        return "W/\"" + version + "-" + count + "-" + Long.toHexString(related) + "\"";
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.serializer;
+
+import com.example.demo.dto.request.Fieldset;
+import com.example.demo.dto.response.ConsultantResponse;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Project;
+import com.example.demo.model.Skill;
+import com.example.demo.model.relationship.AssignedTo;
+import com.example.demo.model.relationship.HasSkill;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Writes a {@link Consultant} exactly as {@link ConsultantResponse} would be written.
+ */
+public final class ConsultantResponseSerializer extends ResponseSerializer<Consultant> {
+
+    public ConsultantResponseSerializer() {
+        super(Consultant.class);
+    }
+
+    @Override
+    protected void writeFields(final Consultant consultant,
+                               final Fieldset fieldset,
+                               final JsonGenerator generator,
+                               final SerializerProvider provider) throws IOException {
+        if (fieldset.includes("id")) {
+            generator.writeStringField("id", consultant.getId());
+        }
+        if (fieldset.includes("name")) {
+            generator.writeStringField("name", consultant.getName());
+        }
+        if (fieldset.includes("email")) {
+            generator.writeStringField("email", consultant.getEmail());
+        }
+        if (fieldset.includes("yearsOfExperience")) {
+            writeInteger(generator, "yearsOfExperience", consultant.getYearsOfExperience());
+        }
+        if (fieldset.includes("availability")) {
+            writeBoolean(generator, "availability", consultant.getAvailability());
+        }
+        if (fieldset.includes("wantsNewProject")) {
+            writeBoolean(generator, "wantsNewProject", consultant.getWantsNewProject());
+        }
+        if (fieldset.includes("openToRemote")) {
+            writeBoolean(generator, "openToRemote", consultant.getOpenToRemote());
+        }
+        if (fieldset.includes("skills")) {
+            writeSkills(generator, consultant.getSkills());
+        }
+        if (fieldset.includes("projectAssignments")) {
+            writeProjectAssignments(generator, provider, consultant.getProjectAssignments());
+        }
+    }
+
+    private static void writeSkills(final JsonGenerator generator, final Set<HasSkill> skills) throws IOException {
+        generator.writeArrayFieldStart("skills");
+        if (skills != null) {
+            for (final HasSkill hasSkill : skills) {
+                final Skill skill = hasSkill.getSkill();
+                generator.writeStartObject();
+                generator.writeStringField("skillId", skill != null ? skill.getId() : null);
+                generator.writeStringField("skillName", skill != null ? skill.getName() : null);
+                writeInteger(generator, "skillYearsOfExperience", hasSkill.getSkillYearsOfExperience());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeProjectAssignments(final JsonGenerator generator,
+                                                final SerializerProvider provider,
+                                                final Set<AssignedTo> assignments) throws IOException {
+        generator.writeArrayFieldStart("projectAssignments");
+        if (assignments != null) {
+            for (final AssignedTo assignedTo : assignments) {
+                final Project project = assignedTo.getProject();
+                generator.writeStartObject();
+                generator.writeStringField("projectId", project != null ? project.getId() : null);
+                generator.writeStringField("projectName", project != null ? project.getName() : null);
+                generator.writeStringField("role", assignedTo.getRole());
+                writeInteger(generator, "allocationPercent", assignedTo.getAllocationPercent());
+                writeBoolean(generator, "isActive", assignedTo.getIsActive());
+                writeDate(generator, provider, "startDate", assignedTo.getStartDate());
+                writeDate(generator, provider, "endDate", assignedTo.getEndDate());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.serializer;
+
+import com.example.demo.dto.request.Fieldset;
+import com.example.demo.dto.response.ProjectResponse;
+import com.example.demo.model.Company;
+import com.example.demo.model.Project;
+import com.example.demo.model.Skill;
+import com.example.demo.model.relationship.RequiresSkill;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes a {@link Project} exactly as {@link ProjectResponse} would be written. The nested company is always
+ * written whole, as the nested {@code CompanyResponse} is.
+ */
+public final class ProjectResponseSerializer extends ResponseSerializer<Project> {
+
+    public ProjectResponseSerializer() {
+        super(Project.class);
+    }
+
+    @Override
+    protected void writeFields(final Project project,
+                               final Fieldset fieldset,
+                               final JsonGenerator generator,
+                               final SerializerProvider provider) throws IOException {
+        if (fieldset.includes("id")) {
+            generator.writeStringField("id", project.getId());
+        }
+        if (fieldset.includes("name")) {
+            generator.writeStringField("name", project.getName());
+        }
+        if (fieldset.includes("requirements")) {
+            writeRequirements(generator, project.getRequirements());
+        }
+        if (fieldset.includes("startDate")) {
+            writeDate(generator, provider, "startDate", project.getStartDate());
+        }
+        if (fieldset.includes("endDate")) {
+            writeDate(generator, provider, "endDate", project.getEndDate());
+        }
+        if (fieldset.includes("company")) {
+            writeCompany(generator, project.getCompany());
+        }
+        if (fieldset.includes("requiredSkills")) {
+            writeRequiredSkills(generator, project.getRequiredSkills());
+        }
+        if (fieldset.includes("roles")) {
+            writeRoles(generator, project.getRoles());
+        }
+    }
+
+    private static void writeRequirements(final JsonGenerator generator,
+                                          final List<String> requirements) throws IOException {
+        generator.writeFieldName("requirements");
+        if (requirements == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (final String requirement : requirements) {
+            generator.writeString(requirement);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeCompany(final JsonGenerator generator, final Company company) throws IOException {
+        generator.writeFieldName("company");
+        if (company == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("id", company.getId());
+        generator.writeStringField("name", company.getName());
+        generator.writeStringField("field", company.getField());
+        generator.writeEndObject();
+    }
+
+    private static void writeRequiredSkills(final JsonGenerator generator,
+                                            final Set<RequiresSkill> requiredSkills) throws IOException {
+        generator.writeArrayFieldStart("requiredSkills");
+        if (requiredSkills != null) {
+            for (final RequiresSkill requiresSkill : requiredSkills) {
+                final Skill skill = requiresSkill.getSkill();
+                generator.writeStartObject();
+                generator.writeStringField("skillId", skill != null ? skill.getId() : null);
+                generator.writeStringField("skillName", skill != null ? skill.getName() : null);
+                writeInteger(generator, "minYearsOfExperience", requiresSkill.getMinYearsOfExperience());
+                writeBoolean(generator, "isMandatory", requiresSkill.getIsMandatory());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeRoles(final JsonGenerator generator,
+                                   final Map<String, Integer> roles) throws IOException {
+        generator.writeObjectFieldStart("roles");
+        for (final Map.Entry<String, Integer> role : roles.entrySet()) {
+            writeInteger(generator, role.getKey(), role.getValue());
+        }
+        generator.writeEndObject();
+    }
+}
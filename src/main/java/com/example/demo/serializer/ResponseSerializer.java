@@ -0,0 +1,68 @@
+package com.example.demo.serializer;
+
+import com.example.demo.config.TopLevelFieldFilter;
+import com.example.demo.dto.request.Fieldset;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes an entity straight to the generator in the shape of its response DTO, so list endpoints skip building a
+ * DTO, its builder and the nested response sets for every element. Subclasses write fields in the DTO's
+ * declaration order with the same null handling, and honour sparse fieldsets like the DTO's {@code @JsonFilter}.
+ */
+public abstract class ResponseSerializer<T> extends StdSerializer<T> {
+
+    protected ResponseSerializer(final Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public final void serialize(final T value,
+                                final JsonGenerator generator,
+                                final SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        writeFields(value, TopLevelFieldFilter.fieldsetOf(value, generator, provider), generator, provider);
+        generator.writeEndObject();
+    }
+
+    protected abstract void writeFields(T value,
+                                        Fieldset fieldset,
+                                        JsonGenerator generator,
+                                        SerializerProvider provider) throws IOException;
+
+    protected static void writeInteger(final JsonGenerator generator,
+                                       final String name,
+                                       final Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static void writeBoolean(final JsonGenerator generator,
+                                       final String name,
+                                       final Boolean value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value);
+        }
+    }
+
+    /**
+     * Delegates to the mapper's date serializer, so the format follows the application's Jackson settings.
+     */
+    protected static void writeDate(final JsonGenerator generator,
+                                    final SerializerProvider provider,
+                                    final String name,
+                                    final LocalDateTime value) throws IOException {
+        provider.defaultSerializeField(name, value, generator);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-size ring of serialized change events, shared by every change-stream subscriber. Appends are serialized;
+ * reads take no lock: entries are immutable and published through the volatile head, and a slot overwritten while
+ * it is being copied is detected by its sequence number. A reader that has caught up parks its own thread and is
+ * unparked individually by the next append, so an event wakes only the subscribers that are actually waiting and
+ * none of them queue on a shared lock to read it.
+ */
+final class ChangeRing {
+
+    private final Entry[] entries;
+    private final Set<Thread> waiting = ConcurrentHashMap.newKeySet();
+    private volatile long head;
+    private volatile boolean closed;
+
+    ChangeRing(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("change-stream.buffer-size must be positive");
+        }
+        this.entries = new Entry[capacity];
+    }
+
+    /**
+     * Sequence number of the newest entry; 0 before the first append.
+     */
+    long head() {
+        return head;
+    }
+
+    /**
+     * True if the entries after {@code seq} are all still in the ring.
+     */
+    boolean canResumeAfter(final long seq) {
+        final long current = head;
+        return seq >= 0 && seq <= current && current - seq <= entries.length;
+    }
+
+    synchronized long append(final String name, final String data) {
+        final long seq = head + 1;
+        entries[(int) (seq % entries.length)] = new Entry(seq, name, data);
+        head = seq;
+        waiting.forEach(LockSupport::unpark);
+        return seq;
+    }
+
+    /**
+     * Entries after {@code cursor}, waiting up to {@code timeoutNanos} for one if there are none yet. Empty on
+     * timeout or close; null if the cursor fell out of the ring.
+     */
+    List<Entry> read(final long cursor, final long timeoutNanos) throws InterruptedException {
+        if (head == cursor) {
+            await(cursor, timeoutNanos);
+        }
+        final long end = head;
+        if (cursor > end || end - cursor > entries.length) {
+            return null;
+        }
+        if (end == cursor) {
+            return Collections.emptyList();
+        }
+        final List<Entry> read = new ArrayList<>((int) (end - cursor));
+        for (long seq = cursor + 1; seq <= end; seq++) {
+            final Entry entry = entries[(int) (seq % entries.length)];
+            if (entry.seq() != seq) {
+                return null;
+            }
+            read.add(entry);
+        }
+        return read;
+    }
+
+    /**
+     * Wakes every waiting reader; reads no longer wait afterwards.
+     */
+    void close() {
+        closed = true;
+        waiting.forEach(LockSupport::unpark);
+    }
+
+    private void await(final long cursor, final long timeoutNanos) throws InterruptedException {
+        final Thread reader = Thread.currentThread();
+        final long deadline = System.nanoTime() + timeoutNanos;
+        waiting.add(reader);
+        try {
+            while (head == cursor && !closed) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiting.remove(reader);
+        }
+    }
+
+    record Entry(long seq, String name, String data) {
+    }
+}
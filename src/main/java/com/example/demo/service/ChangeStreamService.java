@@ -0,0 +1,209 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ChangeStreamProperties;
+import com.example.demo.dto.response.ChangeEventResponse;
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.mapper.ChangeEventMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-sent change events for dashboards. Every write event is serialized once into a shared {@link ChangeRing} of
+ * {@code change-stream.buffer-size} entries; subscribers only keep a cursor into it, so publishing costs the same
+ * with one subscriber or thousands. Each subscriber is drained by its own virtual thread, which parks when caught up
+ * and is woken on its own by the next event. A slow client only falls behind itself: once it lags more than the
+ * buffer, it is sent a {@code resync} event and moved to the head, and is expected to reload what it shows. Event
+ * ids are {@code <epoch>-<seq>}; a reconnect with a {@code Last-Event-ID} still in the buffer resumes without gaps,
+ * any other id (too old, or from before a restart) gets a {@code resync} first.
+ */
+@Service
+@Slf4j
+public class ChangeStreamService implements MeterBinder {
+
+    private static final String RESYNC = "resync";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final ChangeStreamProperties changeStreamProperties;
+    private final ObjectMapper objectMapper;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final ChangeRing ring;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong resyncs = new AtomicLong();
+    private volatile boolean running = true;
+
+    public ChangeStreamService(final ChangeStreamProperties changeStreamProperties, final ObjectMapper objectMapper) {
+        this.changeStreamProperties = changeStreamProperties;
+        this.objectMapper = objectMapper;
+        this.ring = new ChangeRing(changeStreamProperties.bufferSize());
+    }
+
+    /**
+     * Opens a stream starting after {@code lastEventId}, or at the head if it is null.
+     */
+    public SseEmitter subscribe(final String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(changeStreamProperties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(final String lastEventId, final SseEmitter emitter) {
+        final long current = ring.head();
+        final Long resumeFrom = resumePosition(lastEventId, current);
+        final Subscriber subscriber = new Subscriber(emitter, resumeFrom != null ? resumeFrom : current,
+                lastEventId != null && resumeFrom == null);
+        emitter.onCompletion(subscriber::disconnect);
+        emitter.onTimeout(subscriber::disconnect);
+        emitter.onError(ex -> subscriber.disconnect());
+        subscribers.add(subscriber);
+        Thread.ofVirtual().name("change-stream").start(subscriber::run);
+        log.debug("[ChangeStreamService] - SUBSCRIBE: lastEventId: {}, subscribers: {}",
+                lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.entityId() == null) {
+            append(RESYNC, resyncData("remote"));
+        } else {
+            append(ChangeEventMapper.toResponse(event));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentChanged(final AssignmentChangedEvent event) {
+        append(ChangeEventMapper.toResponse(event));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("staffing.change.stream.subscribers", subscribers, Set::size)
+                .description("Open change-stream connections")
+                .register(registry);
+        FunctionCounter.builder("staffing.change.stream.events", ring, ChangeRing::head)
+                .description("Change events published to the stream")
+                .register(registry);
+        FunctionCounter.builder("staffing.change.stream.resyncs", resyncs, AtomicLong::get)
+                .description("Subscribers that fell behind the buffer or resumed from an unknown event id")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        ring.close();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void append(final ChangeEventResponse response) {
+        try {
+            append(ChangeEventMapper.toEventName(response), objectMapper.writeValueAsString(response));
+        } catch (final JsonProcessingException ex) {
+            log.error("[ChangeStreamService] - SERIALIZE_FAILED: event: {}, message: {}",
+                    ChangeEventMapper.toEventName(response), ex.getMessage());
+        }
+    }
+
+    private void append(final String name, final String data) {
+        ring.append(name, data);
+    }
+
+    private Long resumePosition(final String lastEventId, final long current) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return current;
+        }
+        final int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return null;
+        }
+        try {
+            final long seq = Long.parseLong(lastEventId.substring(separator + 1));
+            return seq <= current && ring.canResumeAfter(seq) ? seq : null;
+        } catch (final NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private String eventId(final long seq) {
+        return epoch + '-' + seq;
+    }
+
+    private static String resyncData(final String reason) {
+        return "{\"reason\":\"" + reason + "\"}";
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final boolean resyncFirst;
+        private volatile boolean open = true;
+        private long cursor;
+
+        private Subscriber(final SseEmitter emitter, final long cursor, final boolean resyncFirst) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resyncFirst = resyncFirst;
+        }
+
+        private void run() {
+            final long heartbeatNanos = changeStreamProperties.heartbeatInterval().toNanos();
+            try {
+                if (resyncFirst) {
+                    resync("unknown-last-event-id");
+                }
+                while (open && running) {
+                    final List<ChangeRing.Entry> entries = ring.read(cursor, heartbeatNanos);
+                    if (entries == null) {
+                        cursor = ring.head();
+                        resync("overflow");
+                    } else if (entries.isEmpty()) {
+                        emitter.send(SseEmitter.event().comment(HEARTBEAT));
+                    } else {
+                        for (final ChangeRing.Entry entry : entries) {
+                            emitter.send(SseEmitter.event()
+                                    .id(eventId(entry.seq()))
+                                    .name(entry.name())
+                                    .data(entry.data()));
+                            cursor = entry.seq();
+                        }
+                    }
+                }
+            } catch (final IOException | IllegalStateException ex) {
+                log.debug("[ChangeStreamService] - DISCONNECTED: cursor: {}, message: {}", cursor, ex.getMessage());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                final boolean stillOpen = open;
+                disconnect();
+                if (stillOpen) {
+                    emitter.complete();
+                }
+            }
+        }
+
+        private void resync(final String reason) throws IOException {
+            resyncs.incrementAndGet();
+            log.debug("[ChangeStreamService] - RESYNC: reason: {}, cursor: {}", reason, cursor);
+            emitter.send(SseEmitter.event().id(eventId(cursor)).name(RESYNC).data(resyncData(reason)));
+        }
+
+        private void disconnect() {
+            open = false;
+            subscribers.remove(this);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.demo.service;
 
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
 import com.example.demo.model.Company;
 import com.example.demo.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,25 +19,30 @@ import java.util.Optional;
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public Company create(final Company company) {
         log.info("[CompanyService] - CREATE: name: {}", company.getName());
 
-        if (companyRepository.existsByName(company.getName())) {
+        if (referenceDataCache.findCompanyByName(company.getName()).isPresent()) {
             throw new IllegalArgumentException("Company already exists with name: " + company.getName());
         }
 
-        return companyRepository.save(company);
+        final Company saved = companyRepository.save(company);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.COMPANY, saved.getId()));
+        return saved;
     }
 
     public Optional<Company> findById(final String id) {
         log.debug("[CompanyService] - FIND_BY_ID: id: {}", id);
-        return companyRepository.findById(id);
+        return referenceDataCache.findCompanyById(id);
     }
 
     public List<Company> findAll() {
         log.debug("[CompanyService] - FIND_ALL");
-        return companyRepository.findAll();
+        return referenceDataCache.findAllCompanies();
     }
 
     public List<Company> findByField(final String field) {
@@ -46,6 +55,7 @@ public class CompanyService {
         return companyRepository.findByNameContainingIgnoreCase(query);
     }
 
+    @Transactional
     public Company update(final String id, final Company updatedCompany) {
         log.info("[CompanyService] - UPDATE: id: {}", id);
         final Company existingCompany = companyRepository.findById(id)
@@ -54,11 +64,15 @@ public class CompanyService {
         existingCompany.setName(updatedCompany.getName());
         existingCompany.setField(updatedCompany.getField());
 
-        return companyRepository.save(existingCompany);
+        final Company saved = companyRepository.save(existingCompany);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.COMPANY, saved.getId()));
+        return saved;
     }
 
+    @Transactional
     public void delete(final String id) {
         log.info("[CompanyService] - DELETE: id: {}", id);
         companyRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.COMPANY, id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SearchProperties.SearchStrategyType;
+import com.example.demo.model.Consultant;
+import com.example.demo.repository.ConsultantSearchCriteria;
+
+import java.util.List;
+
+/**
+ * One way of executing a consultant search. The active strategy is selected with {@code search.strategy},
+ * which allows the implementations to be compared side by side.
+ */
+public interface ConsultantSearchStrategy {
+
+    SearchStrategyType type();
+
+    List<Consultant> search(ConsultantSearchCriteria criteria);
+}
@@ -1,34 +1,71 @@
 package com.example.demo.service;
 
+import com.example.demo.config.NetworkProperties;
 import com.example.demo.config.ScoringProperties;
+import com.example.demo.config.SearchProperties;
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.ConsultantSkillChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.index.ColleagueNetworkIndex;
+import com.example.demo.index.ConsultantSimilarityIndex;
+import com.example.demo.index.NetworkMember;
+import com.example.demo.index.NetworkPathStep;
+import com.example.demo.index.RoleDictionary;
+import com.example.demo.index.RoleVocabularyIndex;
+import com.example.demo.index.SkillHierarchyIndex;
+import com.example.demo.index.SkillSynonymIndex;
 import com.example.demo.model.Consultant;
 import com.example.demo.model.Project;
-import com.example.demo.model.Skill;
 import com.example.demo.model.relationship.AssignedTo;
-import com.example.demo.model.relationship.HasSkill;
 import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.ConsultantSearchCriteria;
+import com.example.demo.repository.FetchDepth;
 import com.example.demo.repository.ProjectRepository;
-import com.example.demo.repository.SkillRepository;
+import com.example.demo.repository.RoleDefinition;
+import com.example.demo.repository.TextSearchHits;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ConsultantService {
 
+    private static final int MAX_TEXT_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SIMILAR_CONSULTANTS = 50;
+    private static final int MAX_MULTI_GET_IDS = 500;
+
     private final ConsultantRepository consultantRepository;
-    private final SkillRepository skillRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final ProjectRepository projectRepository;
+    private final SearchProperties searchProperties;
     private final ScoringProperties scoringProperties;
-
-
+    private final List<ConsultantSearchStrategy> searchStrategies;
+    private final SearchCoalescer searchCoalescer;
+    private final ConsultantWriteCoordinator consultantWriteCoordinator;
+    private final SkillSynonymIndex skillSynonymIndex;
+    private final SkillHierarchyIndex skillHierarchyIndex;
+    private final RoleVocabularyIndex roleVocabularyIndex;
+    private final RoleDictionary roleDictionary;
+    private final ConsultantSimilarityIndex consultantSimilarityIndex;
+    private final ColleagueNetworkIndex colleagueNetworkIndex;
+    private final NetworkProperties networkProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+
+    @Transactional
     public Consultant create(final Consultant consultant) {
         log.info("[ConsultantService] - CREATE: email: {}", consultant.getEmail());
 
@@ -37,7 +74,9 @@ public class ConsultantService {
         }
 
         recalculateAvailability(consultant);
-        return consultantRepository.save(consultant);
+        final Consultant saved = consultantRepository.save(consultant);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.CONSULTANT, saved.getId()));
+        return saved;
     }
 
     public Optional<Consultant> findById(final String id) {
@@ -45,6 +84,24 @@ public class ConsultantService {
         return consultantRepository.findById(id);
     }
 
+    public Optional<Consultant> findById(final String id, final FetchDepth fetchDepth) {
+        log.debug("[ConsultantService] - FIND_BY_ID: id: {}, fetch: {}", id, fetchDepth);
+        return fetchDepth == FetchDepth.DEEP
+                ? consultantRepository.findById(id)
+                : consultantRepository.findShallowByIds(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * Loads the consultants with the given ids in one query; ids that do not exist are left out.
+     */
+    public List<Consultant> findAllByIds(final List<String> ids, final FetchDepth fetchDepth) {
+        final List<String> distinctIds = distinctIds(ids);
+        log.debug("[ConsultantService] - FIND_ALL_BY_IDS: ids: {}, fetch: {}", distinctIds.size(), fetchDepth);
+        return fetchDepth == FetchDepth.DEEP
+                ? consultantRepository.findAllForResults(distinctIds)
+                : consultantRepository.findShallowByIds(distinctIds);
+    }
+
     public Optional<Consultant> findByEmail(final String email) {
         log.debug("[ConsultantService] - FIND_BY_EMAIL: email: {}", email);
         return consultantRepository.findByEmail(email);
@@ -55,6 +112,11 @@ public class ConsultantService {
         return consultantRepository.findAll();
     }
 
+    public List<Consultant> findAll(final FetchDepth fetchDepth) {
+        log.debug("[ConsultantService] - FIND_ALL: fetch: {}", fetchDepth);
+        return fetchDepth == FetchDepth.DEEP ? consultantRepository.findAll() : consultantRepository.findAllShallow();
+    }
+
     public List<Consultant> findAvailable() {
         log.debug("[ConsultantService] - FIND_AVAILABLE");
         return consultantRepository.findByAvailabilityTrue();
@@ -67,7 +129,7 @@ public class ConsultantService {
 
     public List<Consultant> findBySkillNames(final List<String> skillNames) {
         log.debug("[ConsultantService] - FIND_BY_SKILL_NAMES: skills: {}", skillNames);
-        return consultantRepository.findBySkillNames(skillNames);
+        return consultantRepository.findBySkillNames(expandSkillNames(skillNames));
     }
 
     public List<Consultant> findAvailableWithMinExperience(final Integer minYears) {
@@ -88,61 +150,148 @@ public class ConsultantService {
                 skillNames, roles, availability, wantsNewProject,
                 openToRemote, previousCompanies, startDate);
 
-        final List<String> safeSkillNames = skillNames != null ? skillNames : Collections.emptyList();
-        final List<String> safeRoles = roles != null ? roles : Collections.emptyList();
-        final List<String> safePreviousCompanies = previousCompanies != null ? previousCompanies : Collections.emptyList();
-        return consultantRepository.searchConsultants(
-                safeSkillNames,
-                safeRoles,
+        final List<String> expandedRoles = roleVocabularyIndex.expand(roles);
+        final ConsultantSearchCriteria criteria = new ConsultantSearchCriteria(
+                expandSkillNames(skillNames),
+                expandedRoles,
+                roleDictionary.matchIds(expandedRoles),
                 availability,
                 wantsNewProject,
                 openToRemote,
-                safePreviousCompanies,
-                startDate,
+                previousCompanies,
+                startDate
+        );
+        final ConsultantSearchStrategy strategy = searchStrategy();
+        return searchProperties.coalesce()
+                ? searchCoalescer.execute(criteria, strategy::search)
+                : strategy.search(criteria);
+    }
+
+    public ConsultantTextSearchResult textSearch(final String query, final int page, final int size) {
+        log.info("[ConsultantService] - TEXT_SEARCH: query: {}, page: {}, size: {}", query, page, size);
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Text search query must not be blank");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_TEXT_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_TEXT_SEARCH_PAGE_SIZE);
+        }
+
+        final TextSearchHits hits = consultantRepository.textSearch(
+                query,
+                scoringProperties.nameWeight(),
                 scoringProperties.skillWeight(),
                 scoringProperties.roleWeight(),
-                scoringProperties.companyWeight()
+                page * size,
+                size
         );
+        final List<String> ids = hits.hits().stream().map(TextSearchHits.Hit::consultantId).toList();
+        final Map<String, Consultant> consultantsById = consultantRepository.findAllForResults(ids).stream()
+                .collect(Collectors.toMap(Consultant::getId, Function.identity()));
+        final List<ScoredConsultant> results = hits.hits().stream()
+                .filter(hit -> consultantsById.containsKey(hit.consultantId()))
+                .map(hit -> new ScoredConsultant(
+                        consultantsById.get(hit.consultantId()), hit.score()))
+                .toList();
+        return new ConsultantTextSearchResult(results, hits.total());
+    }
+
+    /**
+     * Consultants with the most similar skills (weighted by years) and past companies, most similar first.
+     * Empty if the consultant does not exist.
+     */
+    public Optional<List<ScoredConsultant>> findSimilar(final String id, final int limit) {
+        log.info("[ConsultantService] - FIND_SIMILAR: id: {}, limit: {}", id, limit);
+
+        if (limit < 1 || limit > MAX_SIMILAR_CONSULTANTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SIMILAR_CONSULTANTS);
+        }
+        if (!consultantRepository.existsById(id)) {
+            return Optional.empty();
+        }
+
+        final List<ConsultantSimilarityIndex.Similarity> similarities = consultantSimilarityIndex.findSimilar(id, limit);
+        final Map<String, Consultant> consultantsById = consultantRepository.findAllForResults(
+                        similarities.stream().map(ConsultantSimilarityIndex.Similarity::consultantId).toList())
+                .stream()
+                .collect(Collectors.toMap(Consultant::getId, Function.identity()));
+        return Optional.of(similarities.stream()
+                .filter(similarity -> consultantsById.containsKey(similarity.consultantId()))
+                .map(similarity -> new ScoredConsultant(
+                        consultantsById.get(similarity.consultantId()), similarity.similarity()))
+                .toList());
+    }
+
+    /**
+     * Colleagues within {@code depth} shared-project hops, nearest first. Empty if the consultant does not exist.
+     */
+    public Optional<List<NetworkMember>> findNetwork(final String id, final int depth) {
+        log.info("[ConsultantService] - FIND_NETWORK: id: {}, depth: {}", id, depth);
+        validateDepth(depth);
+        if (!consultantRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(colleagueNetworkIndex.network(id, depth, networkProperties.maxResults()));
+    }
+
+    /**
+     * Shortest chain of shared projects between two consultants within {@code network.max-depth} hops.
+     * Empty if either consultant does not exist; an empty path if they are not connected.
+     */
+    public Optional<List<NetworkPathStep>> findNetworkPath(final String fromId, final String toId) {
+        log.info("[ConsultantService] - FIND_NETWORK_PATH: fromId: {}, toId: {}", fromId, toId);
+        if (!consultantRepository.existsById(fromId) || !consultantRepository.existsById(toId)) {
+            return Optional.empty();
+        }
+        return Optional.of(colleagueNetworkIndex.path(fromId, toId, networkProperties.maxDepth()));
     }
 
     public Consultant update(final String id, final Consultant updatedConsultant) {
         log.info("[ConsultantService] - UPDATE: id: {}", id);
-        final Consultant existingConsultant = consultantRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + id));
+        return consultantWriteCoordinator.execute(id, () -> {
+            final Consultant existingConsultant = consultantRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + id));
 
-        existingConsultant.setName(updatedConsultant.getName());
-        existingConsultant.setEmail(updatedConsultant.getEmail());
-        existingConsultant.setYearsOfExperience(updatedConsultant.getYearsOfExperience());
-        existingConsultant.setWantsNewProject(updatedConsultant.getWantsNewProject());
-        existingConsultant.setOpenToRemote(updatedConsultant.getOpenToRemote());
+            existingConsultant.setName(updatedConsultant.getName());
+            existingConsultant.setEmail(updatedConsultant.getEmail());
+            existingConsultant.setYearsOfExperience(updatedConsultant.getYearsOfExperience());
+            existingConsultant.setWantsNewProject(updatedConsultant.getWantsNewProject());
+            existingConsultant.setOpenToRemote(updatedConsultant.getOpenToRemote());
 
-        // Availability is derived from active assignments — ignore whatever the client sent
-        recalculateAvailability(existingConsultant);
+            // Availability is derived from active assignments — ignore whatever the client sent
+            recalculateAvailability(existingConsultant);
 
-        return consultantRepository.save(existingConsultant);
+            return publishUpdated(consultantRepository.save(existingConsultant));
+        });
     }
 
+    @Transactional
     public void delete(final String id) {
         log.info("[ConsultantService] - DELETE: id: {}", id);
         consultantRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.CONSULTANT, id));
     }
 
     public Consultant addSkill(final String consultantId, final String skillId, final Integer skillYearsOfExperience) {
         log.info("[ConsultantService] - ADD_SKILL: consultantId: {}, skillId: {}, skillYearsOfExperience: {}",
                 consultantId, skillId, skillYearsOfExperience);
 
-        final Consultant consultant = consultantRepository.findById(consultantId)
-                .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + consultantId));
-
-        final Skill skill = skillRepository.findById(skillId)
-                .orElseThrow(() -> new IllegalArgumentException("Skill not found with id: " + skillId));
-
-        final HasSkill hasSkill = new HasSkill();
-        hasSkill.setSkill(skill);
-        hasSkill.setSkillYearsOfExperience(skillYearsOfExperience);
-
-        consultant.getSkills().add(hasSkill);
-        return consultantRepository.save(consultant);
+        return consultantWriteCoordinator.execute(consultantId, () -> {
+            referenceDataCache.findSkillById(skillId)
+                    .orElseThrow(() -> new IllegalArgumentException("Skill not found with id: " + skillId));
+
+            if (!consultantRepository.linkSkill(consultantId, skillId, skillYearsOfExperience)) {
+                throw consultantRepository.existsById(consultantId)
+                        ? new IllegalArgumentException("Skill not found with id: " + skillId)
+                        : new IllegalArgumentException("Consultant not found with id: " + consultantId);
+            }
+            final Consultant saved = publishUpdated(consultantRepository.findById(consultantId).orElseThrow());
+            eventPublisher.publishEvent(ConsultantSkillChangedEvent.local(consultantId, skillId, ChangeType.CREATED));
+            return saved;
+        });
     }
 
     public Consultant assignToProject(final String consultantId, final String projectId,
@@ -150,24 +299,30 @@ public class ConsultantService {
                                       final Boolean isActive, final LocalDateTime startDate, final LocalDateTime endDate) {
         log.info("[ConsultantService] - ASSIGN_TO_PROJECT: consultantId: {}, projectId: {}", consultantId, projectId);
 
-        final Consultant consultant = consultantRepository.findById(consultantId)
-                .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + consultantId));
-
-        final Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + projectId));
-
-        final AssignedTo assignedTo = new AssignedTo();
-        assignedTo.setProject(project);
-        assignedTo.setRole(role);
-        assignedTo.setAllocationPercent(allocationPercent != null ? allocationPercent : 100);
-        assignedTo.setIsActive(isActive != null ? isActive : true);
-        if (startDate != null) assignedTo.setStartDate(startDate);
-        if (endDate != null) assignedTo.setEndDate(endDate);
-
-        consultant.getProjectAssignments().add(assignedTo);
-        recalculateAvailability(consultant);
-
-        return consultantRepository.save(consultant);
+        return consultantWriteCoordinator.execute(consultantId, () -> {
+            final Consultant consultant = consultantRepository.findById(consultantId)
+                    .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + consultantId));
+
+            final Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + projectId));
+
+            final AssignedTo assignedTo = new AssignedTo();
+            assignedTo.setProject(project);
+            final RoleDefinition roleDefinition = roleDictionary.intern(role);
+            if (roleDefinition != null) {
+                assignedTo.setRole(roleDefinition.name());
+                assignedTo.setRoleId(roleDefinition.roleId());
+            }
+            assignedTo.setAllocationPercent(allocationPercent != null ? allocationPercent : 100);
+            assignedTo.setIsActive(isActive != null ? isActive : true);
+            if (startDate != null) assignedTo.setStartDate(startDate);
+            if (endDate != null) assignedTo.setEndDate(endDate);
+
+            consultant.getProjectAssignments().add(assignedTo);
+            recalculateAvailability(consultant);
+
+            return publishAssignmentChanged(consultantRepository.save(consultant), projectId, ChangeType.CREATED);
+        });
     }
 
     /**
@@ -177,22 +332,24 @@ public class ConsultantService {
     public Consultant deactivateProjectAssignment(final String consultantId, final String projectId) {
         log.info("[ConsultantService] - DEACTIVATE_PROJECT: consultantId: {}, projectId: {}", consultantId, projectId);
 
-        final Consultant consultant = consultantRepository.findById(consultantId)
-                .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + consultantId));
+        return consultantWriteCoordinator.execute(consultantId, () -> {
+            final Consultant consultant = consultantRepository.findById(consultantId)
+                    .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + consultantId));
 
-        final AssignedTo assignment = consultant.getProjectAssignments().stream()
-                .filter(a -> a.getProject() != null && projectId.equals(a.getProject().getId()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Consultant %s has no assignment to project %s".formatted(consultantId, projectId)));
+            final AssignedTo assignment = consultant.getProjectAssignments().stream()
+                    .filter(a -> a.getProject() != null && projectId.equals(a.getProject().getId()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Consultant %s has no assignment to project %s".formatted(consultantId, projectId)));
 
-        assignment.setIsActive(false);
-        if (assignment.getEndDate() == null) {
-            assignment.setEndDate(LocalDateTime.now());
-        }
+            assignment.setIsActive(false);
+            if (assignment.getEndDate() == null) {
+                assignment.setEndDate(LocalDateTime.now());
+            }
 
-        recalculateAvailability(consultant);
-        return consultantRepository.save(consultant);
+            recalculateAvailability(consultant);
+            return publishAssignmentChanged(consultantRepository.save(consultant), projectId, ChangeType.UPDATED);
+        });
     }
 
     /**
@@ -202,21 +359,51 @@ public class ConsultantService {
     public Consultant removeProjectAssignment(final String consultantId, final String projectId) {
         log.info("[ConsultantService] - REMOVE_PROJECT: consultantId: {}, projectId: {}", consultantId, projectId);
 
-        final Consultant consultant = consultantRepository.findById(consultantId)
-                .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + consultantId));
+        return consultantWriteCoordinator.execute(consultantId, () -> {
+            final Consultant consultant = consultantRepository.findById(consultantId)
+                    .orElseThrow(() -> new IllegalArgumentException("Consultant not found with id: " + consultantId));
 
-        final boolean removed = consultant.getProjectAssignments()
-                .removeIf(a -> a.getProject() != null && projectId.equals(a.getProject().getId()));
+            final boolean removed = consultant.getProjectAssignments()
+                    .removeIf(a -> a.getProject() != null && projectId.equals(a.getProject().getId()));
 
-        if (!removed) {
-            throw new IllegalArgumentException(
-                    "Consultant %s has no assignment to project %s".formatted(consultantId, projectId));
+            if (!removed) {
+                throw new IllegalArgumentException(
+                        "Consultant %s has no assignment to project %s".formatted(consultantId, projectId));
+            }
+
+            recalculateAvailability(consultant);
+            return publishAssignmentChanged(consultantRepository.save(consultant), projectId, ChangeType.DELETED);
+        });
+    }
+
+
+    private static List<String> distinctIds(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
         }
+        if (ids.size() > MAX_MULTI_GET_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_MULTI_GET_IDS + " ids can be requested at once");
+        }
+        return ids.stream().distinct().toList();
+    }
 
-        recalculateAvailability(consultant);
-        return consultantRepository.save(consultant);
+    private void validateDepth(final int depth) {
+        if (depth < 1 || depth > networkProperties.maxDepth()) {
+            throw new IllegalArgumentException("depth must be between 1 and " + networkProperties.maxDepth());
+        }
     }
 
+    private Consultant publishUpdated(final Consultant consultant) {
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.CONSULTANT, consultant.getId()));
+        return consultant;
+    }
+
+    private Consultant publishAssignmentChanged(final Consultant consultant, final String projectId,
+                                                final ChangeType changeType) {
+        publishUpdated(consultant);
+        eventPublisher.publishEvent(AssignmentChangedEvent.local(consultant.getId(), projectId, changeType));
+        return consultant;
+    }
 
     private void recalculateAvailability(final Consultant consultant) {
         final boolean hasActiveAssignment = consultant.getProjectAssignments().stream()
@@ -225,4 +412,16 @@ public class ConsultantService {
         log.debug("[ConsultantService] - RECALCULATE_AVAILABILITY: consultant: {}, hasActive: {}, availability: {}",
                 consultant.getName(), hasActiveAssignment, consultant.getAvailability());
     }
-}
\ No newline at end of file
+
+    private ConsultantSearchStrategy searchStrategy() {
+        return searchStrategies.stream()
+                .filter(strategy -> strategy.type() == searchProperties.strategy())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "No consultant search strategy registered for: " + searchProperties.strategy()));
+    }
+
+    private List<String> expandSkillNames(final List<String> skillNames) {
+        return skillHierarchyIndex.expand(skillSynonymIndex.canonicalize(skillNames));
+    }
+}
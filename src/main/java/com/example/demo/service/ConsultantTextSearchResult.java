@@ -0,0 +1,11 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+/**
+ * One page of full-text search results in relevance order.
+ */
+public record ConsultantTextSearchResult(
+        List<ScoredConsultant> results,
+        long total
+) {}
@@ -0,0 +1,96 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ConsultantWriteProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.exceptions.TransientException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes read-modify-write cycles on the same consultant aggregate.
+ * Writes are guarded by a lock stripe chosen from the consultant id, so two coordinators
+ * updating the same consultant in this instance never interleave. Every attempt runs in its own
+ * transaction, together with the events it publishes to in-transaction listeners. Conflicts that
+ * still slip through (optimistic version mismatch from another instance, Neo4j deadlocks and other
+ * transient errors) roll the attempt back and are retried with jittered exponential backoff,
+ * re-reading the aggregate on every attempt.
+ */
+@Component
+@Slf4j
+public class ConsultantWriteCoordinator {
+
+    private final ConsultantWriteProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] stripes;
+
+    public ConsultantWriteCoordinator(final ConsultantWriteProperties properties,
+                                      final PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stripes = new ReentrantLock[Math.max(1, properties.lockStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T execute(final String consultantId, final Supplier<T> write) {
+        final ReentrantLock lock = stripeFor(consultantId);
+        lock.lock();
+        try {
+            return executeWithRetry(consultantId, write);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T executeWithRetry(final String consultantId, final Supplier<T> write) {
+        final int maxAttempts = Math.max(1, properties.maxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (final TransientDataAccessException | TransientException ex) {
+                if (attempt >= maxAttempts) {
+                    log.warn("[ConsultantWriteCoordinator] - RETRIES_EXHAUSTED: consultantId: {}, attempts: {}",
+                            consultantId, attempt);
+                    throw ex;
+                }
+                final long backoffMillis = jitteredBackoffMillis(attempt);
+                log.debug("[ConsultantWriteCoordinator] - RETRY: consultantId: {}, attempt: {}, backoffMs: {}, cause: {}",
+                        consultantId, attempt, backoffMillis, ex.getMessage());
+                sleep(backoffMillis, ex);
+            }
+        }
+    }
+
+    private ReentrantLock stripeFor(final String consultantId) {
+        final int hash = consultantId != null ? consultantId.hashCode() : 0;
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private long jitteredBackoffMillis(final int attempt) {
+        final Duration initialBackoff = properties.initialBackoff() != null ? properties.initialBackoff() : Duration.ZERO;
+        final Duration maxBackoff = properties.maxBackoff() != null ? properties.maxBackoff() : initialBackoff;
+        final long exponential = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        final long capped = Math.min(Math.max(exponential, 0), maxBackoff.toMillis());
+        if (capped <= 1) {
+            return capped;
+        }
+        return ThreadLocalRandom.current().nextLong(capped / 2, capped + 1);
+    }
+
+    private void sleep(final long millis, final RuntimeException cause) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ScoringProperties;
+import com.example.demo.config.SearchProperties.SearchStrategyType;
+import com.example.demo.model.Consultant;
+import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.ConsultantSearchCriteria;
+import com.example.demo.repository.SearchFilter;
+import com.example.demo.repository.SearchShape;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs every supplied criterion as its own narrow query on a virtual thread, merges the
+ * per-criterion id → match-count maps and applies the {@link ScoringProperties} weights in Java.
+ * Only the ranked result ids are hydrated, in a single query.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FanOutSearchStrategy implements ConsultantSearchStrategy {
+
+    private final ConsultantRepository consultantRepository;
+    private final ScoringProperties scoringProperties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public SearchStrategyType type() {
+        return SearchStrategyType.FAN_OUT;
+    }
+
+    @Override
+    public List<Consultant> search(final ConsultantSearchCriteria criteria) {
+        final SearchShape shape = SearchShape.of(criteria);
+        final boolean checkOverlap = shape.contains(SearchFilter.AVAILABLE_ONLY)
+                && shape.contains(SearchFilter.START_DATE);
+
+        final CompletableFuture<Map<String, Boolean>> candidates = submit(() -> consultantRepository
+                .findCandidateAvailability(criteria.wantsNewProject(), criteria.openToRemote()));
+        final CompletableFuture<Map<String, Long>> skillMatches = shape.contains(SearchFilter.SKILLS)
+                ? submit(() -> consultantRepository.countSkillMatches(criteria.skillNames()))
+                : empty();
+        final CompletableFuture<Map<String, Long>> roleMatches = shape.contains(SearchFilter.ROLES)
+                ? submit(() -> consultantRepository.countRoleMatches(criteria.roleIds()))
+                : empty();
+        final CompletableFuture<Map<String, Long>> companyMatches = shape.contains(SearchFilter.PREVIOUS_COMPANIES)
+                ? submit(() -> consultantRepository.countCompanyMatches(criteria.previousCompanies()))
+                : empty();
+        final CompletableFuture<Map<String, Long>> overlapping = checkOverlap
+                ? submit(() -> consultantRepository.countOverlappingAssignments(criteria.startDate()))
+                : empty();
+
+        final List<String> rankedIds = rank(shape, checkOverlap, join(candidates), join(skillMatches),
+                join(roleMatches), join(companyMatches), join(overlapping));
+        log.debug("[FanOutSearchStrategy] - SEARCH: shape: {}, results: {}", shape.signature(), rankedIds.size());
+        return consultantRepository.findAllForResults(rankedIds);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private List<String> rank(final SearchShape shape,
+                              final boolean checkOverlap,
+                              final Map<String, Boolean> candidates,
+                              final Map<String, Long> skillMatches,
+                              final Map<String, Long> roleMatches,
+                              final Map<String, Long> companyMatches,
+                              final Map<String, Long> overlapping) {
+        final boolean availableOnly = shape.contains(SearchFilter.AVAILABLE_ONLY);
+        return candidates.entrySet().stream()
+                .filter(candidate -> {
+                    final boolean isAvailable = Boolean.TRUE.equals(candidate.getValue())
+                            || (checkOverlap && !overlapping.containsKey(candidate.getKey()));
+                    return !availableOnly || isAvailable;
+                })
+                .map(candidate -> new ScoredCandidate(
+                        candidate.getKey(),
+                        skillMatches.getOrDefault(candidate.getKey(), 0L),
+                        roleMatches.getOrDefault(candidate.getKey(), 0L),
+                        companyMatches.getOrDefault(candidate.getKey(), 0L)))
+                .filter(candidate -> !shape.hasMatchCriteria() || candidate.hasAnyMatch())
+                .sorted(Comparator.comparingLong(this::score).reversed())
+                .map(ScoredCandidate::id)
+                .toList();
+    }
+
+    private long score(final ScoredCandidate candidate) {
+        return candidate.skillMatches() * scoringProperties.skillWeight()
+                + candidate.roleMatches() * scoringProperties.roleWeight()
+                + candidate.companyMatches() * scoringProperties.companyWeight();
+    }
+
+    private <T> CompletableFuture<T> submit(final Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    private static CompletableFuture<Map<String, Long>> empty() {
+        return CompletableFuture.completedFuture(Collections.emptyMap());
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record ScoredCandidate(String id, long skillMatches, long roleMatches, long companyMatches) {
+
+        boolean hasAnyMatch() {
+            return skillMatches > 0 || roleMatches > 0 || companyMatches > 0;
+        }
+    }
+}
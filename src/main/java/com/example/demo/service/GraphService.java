@@ -0,0 +1,141 @@
+package com.example.demo.service;
+
+import com.example.demo.config.SubgraphProperties;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.GraphEdge;
+import com.example.demo.repository.GraphNode;
+import com.example.demo.repository.SubgraphRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class GraphService {
+
+    private static final Map<String, String> LABELS_BY_TYPE = Map.of(
+            "consultant", "Consultant",
+            "project", "Project",
+            "skill", "Skill",
+            "company", "Company");
+
+    private final SubgraphRepository subgraphRepository;
+    private final SubgraphProperties subgraphProperties;
+    private final Cache<SubgraphKey, Subgraph> subgraphs;
+
+    public GraphService(final SubgraphRepository subgraphRepository, final SubgraphProperties subgraphProperties) {
+        this.subgraphRepository = subgraphRepository;
+        this.subgraphProperties = subgraphProperties;
+        this.subgraphs = Caffeine.newBuilder()
+                .maximumSize(subgraphProperties.cacheSize())
+                .expireAfterWrite(subgraphProperties.cacheTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Neighbourhood of up to {@code depth} relationships around an entity, capped at {@code maxNodes} nodes.
+     * Empty if the entity does not exist. Levels are read in one transaction, so the element ids carried from one
+     * level to the next stay valid.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Subgraph> findSubgraph(final String type, final String id, final int depth, final int maxNodes) {
+        log.info("[GraphService] - FIND_SUBGRAPH: type: {}, id: {}, depth: {}, maxNodes: {}", type, id, depth, maxNodes);
+
+        final String label = LABELS_BY_TYPE.get(type.toLowerCase(Locale.ROOT));
+        if (label == null) {
+            throw new IllegalArgumentException("Unknown entity type: " + type);
+        }
+        if (depth < 1 || depth > subgraphProperties.maxDepth()) {
+            throw new IllegalArgumentException("depth must be between 1 and " + subgraphProperties.maxDepth());
+        }
+        if (maxNodes < 1 || maxNodes > subgraphProperties.maxNodes()) {
+            throw new IllegalArgumentException("maxNodes must be between 1 and " + subgraphProperties.maxNodes());
+        }
+
+        return Optional.ofNullable(subgraphs.get(new SubgraphKey(label, id, depth, maxNodes), this::extract));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.entityType() != EntityType.ROLE) {
+            subgraphs.invalidateAll();
+        }
+    }
+
+    private Subgraph extract(final SubgraphKey key) {
+        final Optional<GraphNode> root = subgraphRepository.findNode(key.label(), key.id());
+        if (root.isEmpty()) {
+            return null;
+        }
+
+        final List<GraphNode> nodes = new ArrayList<>();
+        final Map<String, Integer> positions = new HashMap<>();
+        final Set<Subgraph.Edge> edges = new LinkedHashSet<>();
+        nodes.add(root.get());
+        positions.put(root.get().elementId(), 0);
+        boolean truncated = false;
+
+        List<String> frontier = List.of(root.get().elementId());
+        for (int level = 0; level < key.depth() && !frontier.isEmpty(); level++) {
+            final int limit = subgraphProperties.maxEdgesPerLevel();
+            final int perNode = Math.max(1, limit / frontier.size());
+            final List<GraphEdge> neighbours = subgraphRepository.findNeighbours(frontier, perNode, limit);
+            truncated |= neighbours.size() >= limit || anyAtCap(neighbours, perNode);
+
+            final List<String> next = new ArrayList<>();
+            for (final GraphEdge edge : neighbours) {
+                final String elementId = edge.neighbour().elementId();
+                Integer neighbour = positions.get(elementId);
+                if (neighbour == null) {
+                    if (nodes.size() >= key.maxNodes()) {
+                        truncated = true;
+                        continue;
+                    }
+                    neighbour = nodes.size();
+                    nodes.add(edge.neighbour());
+                    positions.put(elementId, neighbour);
+                    next.add(elementId);
+                }
+                final int from = positions.get(edge.fromElementId());
+                edges.add(edge.outgoing()
+                        ? new Subgraph.Edge(from, neighbour, edge.type())
+                        : new Subgraph.Edge(neighbour, from, edge.type()));
+            }
+            frontier = next;
+        }
+
+        log.debug("[GraphService] - EXTRACTED: root: {}, nodes: {}, edges: {}, truncated: {}",
+                key.id(), nodes.size(), edges.size(), truncated);
+        return new Subgraph(List.copyOf(nodes), List.copyOf(edges), truncated);
+    }
+
+    /**
+     * True if some node returned as many relationships as it was allowed, so it may have more.
+     */
+    private static boolean anyAtCap(final List<GraphEdge> neighbours, final int perNode) {
+        final Map<String, Integer> counts = new HashMap<>();
+        for (final GraphEdge edge : neighbours) {
+            if (counts.merge(edge.fromElementId(), 1, Integer::sum) >= perNode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record SubgraphKey(String label, String id, int depth, int maxNodes) {
+    }
+}
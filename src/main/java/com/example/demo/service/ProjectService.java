@@ -1,15 +1,17 @@
 package com.example.demo.service;
 
-import com.example.demo.model.Company;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.index.SkillHierarchyIndex;
+import com.example.demo.index.SkillSynonymIndex;
 import com.example.demo.model.Project;
-import com.example.demo.model.Skill;
-import com.example.demo.model.relationship.RequiresSkill;
-import com.example.demo.repository.CompanyRepository;
+import com.example.demo.repository.FetchDepth;
 import com.example.demo.repository.ProjectRepository;
-import com.example.demo.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +21,15 @@ import java.util.Optional;
 @Slf4j
 public class ProjectService {
 
+    private static final int MAX_MULTI_GET_IDS = 500;
+
     private final ProjectRepository projectRepository;
-    private final CompanyRepository companyRepository;
-    private final SkillRepository skillRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final SkillSynonymIndex skillSynonymIndex;
+    private final SkillHierarchyIndex skillHierarchyIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public Project create(final Project project) {
         log.info("[ProjectService] - CREATE: name: {}", project.getName());
 
@@ -30,7 +37,9 @@ public class ProjectService {
             throw new IllegalArgumentException("Project already exists with name: " + project.getName());
         }
 
-        return projectRepository.save(project);
+        final Project saved = projectRepository.save(project);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.PROJECT, saved.getId()));
+        return saved;
     }
 
     public Optional<Project> findById(final String id) {
@@ -38,6 +47,24 @@ public class ProjectService {
         return projectRepository.findById(id);
     }
 
+    public Optional<Project> findById(final String id, final FetchDepth fetchDepth) {
+        log.debug("[ProjectService] - FIND_BY_ID: id: {}, fetch: {}", id, fetchDepth);
+        return fetchDepth == FetchDepth.DEEP
+                ? projectRepository.findById(id)
+                : projectRepository.findShallowByIds(List.of(id)).stream().findFirst();
+    }
+
+    /**
+     * Loads the projects with the given ids in one query; ids that do not exist are left out.
+     */
+    public List<Project> findAllByIds(final List<String> ids, final FetchDepth fetchDepth) {
+        final List<String> distinctIds = distinctIds(ids);
+        log.debug("[ProjectService] - FIND_ALL_BY_IDS: ids: {}, fetch: {}", distinctIds.size(), fetchDepth);
+        return fetchDepth == FetchDepth.DEEP
+                ? projectRepository.findDeepByIds(distinctIds)
+                : projectRepository.findShallowByIds(distinctIds);
+    }
+
     public Optional<Project> findByName(final String name) {
         log.debug("[ProjectService] - FIND_BY_NAME: name: {}", name);
         return projectRepository.findByName(name);
@@ -48,6 +75,11 @@ public class ProjectService {
         return projectRepository.findAll();
     }
 
+    public List<Project> findAll(final FetchDepth fetchDepth) {
+        log.debug("[ProjectService] - FIND_ALL: fetch: {}", fetchDepth);
+        return fetchDepth == FetchDepth.DEEP ? projectRepository.findAll() : projectRepository.findAllShallow();
+    }
+
     public List<Project> findByCompanyId(final String companyId) {
         log.debug("[ProjectService] - FIND_BY_COMPANY_ID: companyId: {}", companyId);
         return projectRepository.findByCompanyId(companyId);
@@ -55,9 +87,10 @@ public class ProjectService {
 
     public List<Project> findByRequiredSkillNames(final List<String> skillNames) {
         log.debug("[ProjectService] - FIND_BY_REQUIRED_SKILL_NAMES: skills: {}", skillNames);
-        return projectRepository.findByRequiredSkillNames(skillNames);
+        return projectRepository.findByRequiredSkillNames(expandSkillNames(skillNames));
     }
 
+    @Transactional
     public Project update(final String id, final Project updatedProject) {
         log.info("[ProjectService] - UPDATE: id: {}", id);
         final Project existingProject = projectRepository.findById(id)
@@ -68,44 +101,70 @@ public class ProjectService {
         existingProject.setStartDate(updatedProject.getStartDate());
         existingProject.setEndDate(updatedProject.getEndDate());
 
-        return projectRepository.save(existingProject);
+        return publishUpdated(projectRepository.save(existingProject));
     }
 
+    @Transactional
     public void delete(final String id) {
         log.info("[ProjectService] - DELETE: id: {}", id);
         projectRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.PROJECT, id));
     }
 
+    @Transactional
     public Project assignCompany(final String projectId, final String companyId) {
         log.info("[ProjectService] - ASSIGN_COMPANY: projectId: {}, companyId: {}", projectId, companyId);
 
-        final Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + projectId));
-
-        final Company company = companyRepository.findById(companyId)
+        referenceDataCache.findCompanyById(companyId)
                 .orElseThrow(() -> new IllegalArgumentException("Company not found with id: " + companyId));
 
-        project.setCompany(company);
-        return projectRepository.save(project);
+        if (!projectRepository.linkCompany(projectId, companyId)) {
+            throw notLinked(projectId, "Company not found with id: " + companyId);
+        }
+        return publishUpdated(projectRepository.findById(projectId).orElseThrow());
     }
 
+    @Transactional
     public Project addRequiredSkill(final String projectId, final String skillId,
                                     final Integer minYearsOfExperience, final Boolean isMandatory) {
         log.info("[ProjectService] - ADD_REQUIRED_SKILL: projectId: {}, skillId: {}, minYears: {}, mandatory: {}",
                 projectId, skillId, minYearsOfExperience, isMandatory);
 
-        final Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + projectId));
-
-        final Skill skill = skillRepository.findById(skillId)
+        referenceDataCache.findSkillById(skillId)
                 .orElseThrow(() -> new IllegalArgumentException("Skill not found with id: " + skillId));
 
-        final RequiresSkill requiresSkill = new RequiresSkill();
-        requiresSkill.setSkill(skill);
-        requiresSkill.setMinYearsOfExperience(minYearsOfExperience);
-        requiresSkill.setIsMandatory(isMandatory);
+        if (!projectRepository.linkRequiredSkill(projectId, skillId, minYearsOfExperience, isMandatory)) {
+            throw notLinked(projectId, "Skill not found with id: " + skillId);
+        }
+        return publishUpdated(projectRepository.findById(projectId).orElseThrow());
+    }
+
+    /**
+     * Explains a link that matched nothing: the project is missing, or the reference node was deleted after the
+     * cache last saw it.
+     */
+    private IllegalArgumentException notLinked(final String projectId, final String referenceMissing) {
+        return projectRepository.existsById(projectId)
+                ? new IllegalArgumentException(referenceMissing)
+                : new IllegalArgumentException("Project not found with id: " + projectId);
+    }
+
+    private Project publishUpdated(final Project project) {
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.PROJECT, project.getId()));
+        return project;
+    }
+
+    private static List<String> distinctIds(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (ids.size() > MAX_MULTI_GET_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_MULTI_GET_IDS + " ids can be requested at once");
+        }
+        return ids.stream().distinct().toList();
+    }
 
-        project.getRequiredSkills().add(requiresSkill);
-        return projectRepository.save(project);
+    private List<String> expandSkillNames(final List<String> skillNames) {
+        return skillHierarchyIndex.expand(skillSynonymIndex.canonicalize(skillNames));
     }
-}
\ No newline at end of file
+}
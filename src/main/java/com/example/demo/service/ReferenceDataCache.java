@@ -0,0 +1,159 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReferenceDataProperties;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.model.Company;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.CompanyRepository;
+import com.example.demo.repository.SkillRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Size- and TTL-bounded local cache of the Skill and Company reference data, by id, by name and as the full list.
+ * Skills and companies are few and rarely change, so the read endpoints and the existence and duplicate-name checks
+ * skip the database. Cached instances are shared between requests and never linked or saved: writes that link to a
+ * skill or company check it exists here and then create the relationship by id in Cypher, without loading the node.
+ * A skill or company change, local or relayed from another replica, evicts that entity and the cached list; the TTL
+ * is a backstop for missed changes.
+ * Hit, miss and eviction statistics are exposed as {@code cache.*} meters tagged with the cache name.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache implements MeterBinder {
+
+    private final ReferenceCache<Skill> skills;
+    private final ReferenceCache<Company> companies;
+
+    public ReferenceDataCache(final SkillRepository skillRepository,
+                              final CompanyRepository companyRepository,
+                              final ReferenceDataProperties referenceDataProperties) {
+        this.skills = new ReferenceCache<>("skills", referenceDataProperties,
+                Skill::getId, skillRepository::findById, skillRepository::findByName, skillRepository::findAll);
+        this.companies = new ReferenceCache<>("companies", referenceDataProperties,
+                Company::getId, companyRepository::findById, companyRepository::findByName, companyRepository::findAll);
+    }
+
+    public Optional<Skill> findSkillById(final String id) {
+        return skills.findById(id);
+    }
+
+    public Optional<Skill> findSkillByName(final String name) {
+        return skills.findByName(name);
+    }
+
+    public List<Skill> findAllSkills() {
+        return skills.findAll();
+    }
+
+    public Optional<Company> findCompanyById(final String id) {
+        return companies.findById(id);
+    }
+
+    public Optional<Company> findCompanyByName(final String name) {
+        return companies.findByName(name);
+    }
+
+    public List<Company> findAllCompanies() {
+        return companies.findAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.entityType() == EntityType.SKILL) {
+            log.debug("[ReferenceDataCache] - INVALIDATE: type: {}, id: {}", event.entityType(), event.entityId());
+            skills.invalidate(event.entityId());
+        } else if (event.entityType() == EntityType.COMPANY) {
+            log.debug("[ReferenceDataCache] - INVALIDATE: type: {}, id: {}", event.entityType(), event.entityId());
+            companies.invalidate(event.entityId());
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        skills.bindTo(registry);
+        companies.bindTo(registry);
+    }
+
+    private static final class ReferenceCache<T> {
+
+        private static final String ALL = "*";
+
+        private final String name;
+        private final Cache<String, T> byId;
+        private final Cache<String, T> byName;
+        private final Cache<String, List<T>> all;
+        private final Function<T, String> idOf;
+        private final Function<String, Optional<T>> idLoader;
+        private final Function<String, Optional<T>> nameLoader;
+        private final Supplier<List<T>> allLoader;
+
+        ReferenceCache(final String name,
+                       final ReferenceDataProperties properties,
+                       final Function<T, String> idOf,
+                       final Function<String, Optional<T>> idLoader,
+                       final Function<String, Optional<T>> nameLoader,
+                       final Supplier<List<T>> allLoader) {
+            this.name = name;
+            this.byId = newCache(properties);
+            this.byName = newCache(properties);
+            this.all = newCache(properties);
+            this.idOf = idOf;
+            this.idLoader = idLoader;
+            this.nameLoader = nameLoader;
+            this.allLoader = allLoader;
+        }
+
+        Optional<T> findById(final String id) {
+            return Optional.ofNullable(byId.get(id, key -> idLoader.apply(key).orElse(null)));
+        }
+
+        Optional<T> findByName(final String name) {
+            return Optional.ofNullable(byName.get(name, key -> nameLoader.apply(key).orElse(null)));
+        }
+
+        List<T> findAll() {
+            return all.get(ALL, key -> List.copyOf(allLoader.get()));
+        }
+
+        /**
+         * Evicts one entity and the cached list, or everything when {@code id} is null.
+         */
+        void invalidate(final String id) {
+            if (id == null) {
+                byId.invalidateAll();
+                byName.invalidateAll();
+            } else {
+                byId.invalidate(id);
+                byName.asMap().values().removeIf(cached -> id.equals(idOf.apply(cached)));
+            }
+            all.invalidateAll();
+        }
+
+        void bindTo(final MeterRegistry registry) {
+            CaffeineCacheMetrics.monitor(registry, byId, "reference." + name + ".by-id");
+            CaffeineCacheMetrics.monitor(registry, byName, "reference." + name + ".by-name");
+            CaffeineCacheMetrics.monitor(registry, all, "reference." + name + ".all");
+        }
+
+        private static <V> Cache<String, V> newCache(final ReferenceDataProperties properties) {
+            return Caffeine.newBuilder()
+                    .maximumSize(properties.cacheSize())
+                    .expireAfterWrite(properties.cacheTtl())
+                    .recordStats()
+                    .build();
+        }
+    }
+}
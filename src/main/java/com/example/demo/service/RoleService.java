@@ -0,0 +1,33 @@
+package com.example.demo.service;
+
+import com.example.demo.index.RoleDictionary;
+import com.example.demo.repository.RoleDefinition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoleService {
+
+    private final RoleDictionary roleDictionary;
+
+    public List<RoleDefinition> findAll() {
+        log.debug("[RoleService] - FIND_ALL");
+        return roleDictionary.findAll();
+    }
+
+    /**
+     * Makes an alternative title resolve to an existing role. Empty if the role does not exist.
+     */
+    @Transactional
+    public Optional<RoleDefinition> addAlias(final int roleId, final String alias) {
+        log.info("[RoleService] - ADD_ALIAS: roleId: {}, alias: {}", roleId, alias);
+        return roleDictionary.addAlias(roleId, alias);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Consultant;
+
+public record ScoredConsultant(
+        Consultant consultant,
+        double score
+) {}
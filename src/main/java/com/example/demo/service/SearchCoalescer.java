@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.model.Consultant;
+import com.example.demo.repository.ConsultantSearchCriteria;
+import com.example.demo.repository.SearchShape;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Single-flight execution of consultant searches: concurrent calls with equal normalized criteria share one
+ * in-flight search and receive the same result (including the same entity instances, which callers only read).
+ * A call only joins a search that started after the last write this instance saw commit; if a write has committed
+ * since, the call runs a fresh search, which later equal calls join instead. A client therefore always sees its own
+ * writes, because a write's response is only sent once its after-commit listeners, this one included, have run.
+ * Writes by other replicas count once the change log relays them. Nothing is kept once a search completes.
+ * Executions and joined calls are counted per {@link SearchShape} signature; the joined count is the number of
+ * searches the database was spared.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchCoalescer {
+
+    public static final String EXECUTIONS = "staffing.search.executions";
+    public static final String COALESCED = "staffing.search.coalesced";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong committedChanges = new AtomicLong();
+    private final Map<ConsultantSearchCriteria, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public List<Consultant> execute(final ConsultantSearchCriteria criteria,
+                                    final Function<ConsultantSearchCriteria, List<Consultant>> search) {
+        final ConsultantSearchCriteria key = criteria.normalized();
+        final String shape = SearchShape.of(key).signature();
+        final Flight flight = new Flight(committedChanges.get(), new CompletableFuture<>());
+        final Flight running = inFlight.compute(key, (ignored, current) ->
+                current != null && current.startedAfter() >= flight.startedAfter() ? current : flight);
+        if (running != flight) {
+            counter(COALESCED, "Searches that joined an identical in-flight search", shape).increment();
+            log.debug("[SearchCoalescer] - JOIN: shape: {}", shape);
+            return join(running.result());
+        }
+
+        counter(EXECUTIONS, "Searches executed against the database", shape).increment();
+        try {
+            final List<Consultant> result = List.copyOf(search.apply(key));
+            flight.result().complete(result);
+            return result;
+        } catch (final RuntimeException | Error ex) {
+            flight.result().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Counts committed writes, local or relayed. Every write, including assignment, skill and hierarchy changes,
+     * publishes an {@link EntityChangedEvent}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        committedChanges.incrementAndGet();
+    }
+
+    private Counter counter(final String name, final String description, final String shape) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("shape", shape)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A running search and the number of committed changes it was started after.
+     */
+    private record Flight(long startedAfter, CompletableFuture<List<Consultant>> result) {
+    }
+
+    private static List<Consultant> join(final CompletableFuture<List<Consultant>> running) {
+        try {
+            return running.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ScoringProperties;
+import com.example.demo.config.SearchProperties.SearchStrategyType;
+import com.example.demo.model.Consultant;
+import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.ConsultantSearchCriteria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Runs the whole search as a single Cypher statement generated for the supplied filter combination.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShapeSpecificSearchStrategy implements ConsultantSearchStrategy {
+
+    private final ConsultantRepository consultantRepository;
+    private final ScoringProperties scoringProperties;
+
+    @Override
+    public SearchStrategyType type() {
+        return SearchStrategyType.SHAPE_SPECIFIC;
+    }
+
+    @Override
+    public List<Consultant> search(final ConsultantSearchCriteria criteria) {
+        return consultantRepository.searchByShape(
+                criteria,
+                scoringProperties.skillWeight(),
+                scoringProperties.roleWeight(),
+                scoringProperties.companyWeight()
+        );
+    }
+}
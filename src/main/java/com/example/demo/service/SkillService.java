@@ -1,10 +1,16 @@
 package com.example.demo.service;
 
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.event.SkillHierarchyChangedEvent;
+import com.example.demo.index.SkillHierarchyIndex;
 import com.example.demo.model.Skill;
 import com.example.demo.repository.SkillRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,25 +21,31 @@ import java.util.Optional;
 public class SkillService {
 
     private final SkillRepository skillRepository;
+    private final SkillHierarchyIndex skillHierarchyIndex;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public Skill create(final Skill skill) {
         log.info("[SkillService] - CREATE: name: {}", skill.getName());
 
-        if (skillRepository.existsByName(skill.getName())) {
+        if (referenceDataCache.findSkillByName(skill.getName()).isPresent()) {
             throw new IllegalArgumentException("Skill already exists with name: " + skill.getName());
         }
 
-        return skillRepository.save(skill);
+        final Skill saved = skillRepository.save(skill);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.SKILL, saved.getId()));
+        return saved;
     }
 
     public Optional<Skill> findById(final String id) {
         log.debug("[SkillService] - FIND_BY_ID: id: {}", id);
-        return skillRepository.findById(id);
+        return referenceDataCache.findSkillById(id);
     }
 
     public List<Skill> findAll() {
         log.debug("[SkillService] - FIND_ALL");
-        return skillRepository.findAll();
+        return referenceDataCache.findAllSkills();
     }
 
     public List<Skill> search(final String query) {
@@ -41,6 +53,7 @@ public class SkillService {
         return skillRepository.findByNameContainingIgnoreCase(query);
     }
 
+    @Transactional
     public Skill update(final String id, final Skill updatedSkill) {
         log.info("[SkillService] - UPDATE: id: {}", id);
         final Skill existingSkill = skillRepository.findById(id)
@@ -49,11 +62,57 @@ public class SkillService {
         existingSkill.setName(updatedSkill.getName());
         existingSkill.setSynonyms(updatedSkill.getSynonyms());
 
-        return skillRepository.save(existingSkill);
+        final Skill saved = skillRepository.save(existingSkill);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SKILL, saved.getId()));
+        return saved;
     }
 
+    @Transactional
     public void delete(final String id) {
         log.info("[SkillService] - DELETE: id: {}", id);
         skillRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.SKILL, id));
     }
-}
\ No newline at end of file
+
+    /**
+     * Makes a skill a subskill of another, so searching for the parent also matches the skill.
+     */
+    @Transactional
+    public void addParent(final String id, final String parentId) {
+        log.info("[SkillService] - ADD_PARENT: id: {}, parentId: {}", id, parentId);
+
+        if (id.equals(parentId)) {
+            throw new IllegalArgumentException("Skill cannot be a subskill of itself: " + id);
+        }
+        referenceDataCache.findSkillById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Skill not found with id: " + id));
+        referenceDataCache.findSkillById(parentId)
+                .orElseThrow(() -> new IllegalArgumentException("Skill not found with id: " + parentId));
+        if (skillHierarchyIndex.isSubskillOf(parentId, id)
+                || !skillRepository.linkSubskill(id, parentId)) {
+            throw new IllegalArgumentException(
+                    "Skill " + parentId + " is already a subskill of " + id + "; linking would create a cycle");
+        }
+
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SKILL, id));
+        eventPublisher.publishEvent(SkillHierarchyChangedEvent.linked(id, parentId));
+    }
+
+    @Transactional
+    public void removeParent(final String id, final String parentId) {
+        log.info("[SkillService] - REMOVE_PARENT: id: {}, parentId: {}", id, parentId);
+        if (skillRepository.unlinkSubskill(id, parentId)) {
+            eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SKILL, id));
+            eventPublisher.publishEvent(SkillHierarchyChangedEvent.unlinked(id, parentId));
+        }
+    }
+
+    /**
+     * Transitive subskills of a skill, or empty if the skill does not exist.
+     */
+    public Optional<List<Skill>> findSubskills(final String id) {
+        log.debug("[SkillService] - FIND_SUBSKILLS: id: {}", id);
+        return referenceDataCache.findSkillById(id)
+                .map(skill -> skillRepository.findAllById(skillHierarchyIndex.subskillIds(id)));
+    }
+}
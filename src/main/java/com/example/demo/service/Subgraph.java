@@ -0,0 +1,19 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.GraphNode;
+
+import java.util.List;
+
+/**
+ * A bounded neighbourhood. Edges refer to nodes by their position in {@code nodes}; the root is always first.
+ * {@code truncated} is set when a node or relationship cap cut the neighbourhood short.
+ */
+public record Subgraph(
+        List<GraphNode> nodes,
+        List<Edge> edges,
+        boolean truncated
+) {
+
+    public record Edge(int source, int target, String type) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.service;
+
+import com.example.demo.index.AutocompleteIndex;
+import com.example.demo.index.Suggestion;
+import com.example.demo.index.SuggestionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionService {
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    public List<Suggestion> suggest(final String prefix, final SuggestionType type, final Integer limit) {
+        log.debug("[SuggestionService] - SUGGEST: prefix: {}, type: {}, limit: {}", prefix, type, limit);
+        final int maxSuggestions = autocompleteIndex.maxSuggestions();
+        if (limit != null && (limit < 1 || limit > maxSuggestions)) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxSuggestions);
+        }
+        return autocompleteIndex.suggest(prefix, type, limit != null ? limit : maxSuggestions);
+    }
+}
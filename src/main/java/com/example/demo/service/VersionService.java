@@ -0,0 +1,54 @@
+package com.example.demo.service;
+
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.VersionRepository;
+import com.example.demo.repository.VersionStamp;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Keeps the version stamps behind conditional GETs. Every local write is stamped from its
+ * {@link EntityChangedEvent}, inside the write's transaction and before any other listener runs, so the new
+ * stamp commits together with the write and is visible by the time the change is announced (for example on the
+ * change stream). Roles carry no stamp: the role list is not served conditionally.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VersionService {
+
+    private final VersionRepository versionRepository;
+
+    /**
+     * The stamp of the entity's response, or empty if the entity does not exist.
+     */
+    public Optional<VersionStamp> findVersion(final EntityType entityType, final String id) {
+        return versionRepository.findById(entityType, id);
+    }
+
+    /**
+     * The stamp of the list of every entity of the type.
+     */
+    public VersionStamp findCollectionVersion(final EntityType entityType) {
+        return versionRepository.findAll(entityType);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.remote() || event.entityId() == null || event.changeType() == ChangeType.DELETED
+                || event.entityType() == EntityType.ROLE) {
+            return;
+        }
+        versionRepository.stamp(event.entityType(), event.entityId());
+        log.debug("[VersionService] - STAMP: type: {}, id: {}", event.entityType(), event.entityId());
+    }
+}
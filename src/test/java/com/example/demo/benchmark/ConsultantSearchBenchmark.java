@@ -0,0 +1,115 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.index.RoleDictionary;
+import com.example.demo.model.Company;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.CompanyRepository;
+import com.example.demo.repository.ConsultantSearchCriteria;
+import com.example.demo.repository.SearchFilter;
+import com.example.demo.repository.SkillRepository;
+import com.example.demo.service.FanOutSearchStrategy;
+import com.example.demo.service.ShapeSpecificSearchStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-shape statements and the parallel fan-out over every combination of search filters
+ * (2^7 shapes) against the sample data set.
+ * Requires Docker. Run with {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=ConsultantSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConsultantSearchBenchmark {
+
+    private static final int FILTER_COMBINATIONS = 128;
+    private static final int SAMPLE_SIZE = 3;
+    private static final List<String> SAMPLE_ROLES = List.of("developer", "lead");
+
+    @Param({"shape-specific", "fan-out"})
+    public String strategy;
+
+    private SampleDataApplication application;
+    private ShapeSpecificSearchStrategy shapeSpecific;
+    private FanOutSearchStrategy fanOut;
+    private List<ConsultantSearchCriteria> combinations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (1 << SearchFilter.values().length != FILTER_COMBINATIONS) {
+            throw new IllegalStateException("FILTER_COMBINATIONS must cover every SearchFilter combination");
+        }
+        application = new SampleDataApplication();
+        shapeSpecific = application.bean(ShapeSpecificSearchStrategy.class);
+        fanOut = application.bean(FanOutSearchStrategy.class);
+
+        final List<String> skillNames = application.bean(SkillRepository.class).findAll().stream()
+                .limit(SAMPLE_SIZE)
+                .map(Skill::getName)
+                .toList();
+        final List<String> companyNames = application.bean(CompanyRepository.class).findAll().stream()
+                .limit(SAMPLE_SIZE)
+                .map(Company::getName)
+                .toList();
+        final List<Integer> roleIds = application.bean(RoleDictionary.class).matchIds(SAMPLE_ROLES);
+
+        combinations = new ArrayList<>();
+        for (int mask = 0; mask < FILTER_COMBINATIONS; mask++) {
+            combinations.add(new ConsultantSearchCriteria(
+                    has(mask, SearchFilter.SKILLS) ? skillNames : List.of(),
+                    has(mask, SearchFilter.ROLES) ? SAMPLE_ROLES : List.of(),
+                    has(mask, SearchFilter.ROLES) ? roleIds : List.of(),
+                    has(mask, SearchFilter.AVAILABLE_ONLY) ? Boolean.TRUE : null,
+                    has(mask, SearchFilter.WANTS_NEW_PROJECT) ? Boolean.TRUE : null,
+                    has(mask, SearchFilter.OPEN_TO_REMOTE) ? Boolean.TRUE : null,
+                    has(mask, SearchFilter.PREVIOUS_COMPANIES) ? companyNames : List.of(),
+                    has(mask, SearchFilter.START_DATE) ? LocalDateTime.now().plusMonths(1) : null));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILTER_COMBINATIONS)
+    public void allFilterCombinations(final Blackhole blackhole) {
+        for (final ConsultantSearchCriteria criteria : combinations) {
+            blackhole.consume(search(criteria));
+        }
+    }
+
+    private List<Consultant> search(final ConsultantSearchCriteria criteria) {
+        return switch (strategy) {
+            case "fan-out" -> fanOut.search(criteria);
+            default -> shapeSpecific.search(criteria);
+        };
+    }
+
+    private static boolean has(final int mask, final SearchFilter filter) {
+        return (mask & (1 << filter.ordinal())) != 0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.index.BkTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares BK-tree lookups with a linear Levenshtein scan over 10k distinct terms, for misspelt queries
+ * at edit distance 1 and 2. Run with {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=FuzzyMatchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuzzyMatchBenchmark {
+
+    private static final int TERMS = 10_000;
+    private static final int QUERIES = 100;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+    @Param({"1", "2"})
+    public int maxDistance;
+
+    private List<String> vocabulary;
+    private BkTree tree;
+    private List<String> queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        final Set<String> terms = new LinkedHashSet<>();
+        while (terms.size() < TERMS) {
+            terms.add(randomWord(random, 4 + random.nextInt(9)));
+        }
+        vocabulary = new ArrayList<>(terms);
+        tree = new BkTree();
+        vocabulary.forEach(tree::add);
+
+        queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(misspell(random, vocabulary.get(random.nextInt(TERMS))));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void bkTree(final Blackhole blackhole) {
+        for (final String query : queries) {
+            blackhole.consume(tree.search(query, maxDistance));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void linearScan(final Blackhole blackhole) {
+        for (final String query : queries) {
+            final List<String> matches = new ArrayList<>();
+            for (final String term : vocabulary) {
+                if (BkTree.levenshtein(query, term) <= maxDistance) {
+                    matches.add(term);
+                }
+            }
+            blackhole.consume(matches);
+        }
+    }
+
+    private static String randomWord(final Random random, final int length) {
+        final StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return word.toString();
+    }
+
+    private static String misspell(final Random random, final String term) {
+        final StringBuilder misspelt = new StringBuilder(term);
+        final int position = random.nextInt(misspelt.length());
+        switch (random.nextInt(3)) {
+            case 0 -> misspelt.deleteCharAt(position);
+            case 1 -> misspelt.insert(position, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            default -> misspelt.setCharAt(position, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return misspelt.toString();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.response.ConsultantResponse;
+import com.example.demo.mapper.ConsultantMapper;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Project;
+import com.example.demo.model.Skill;
+import com.example.demo.model.relationship.AssignedTo;
+import com.example.demo.model.relationship.HasSkill;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares encoding a {@code GET /api/v1/consultants} response as JSON, gzipped JSON, CBOR and Smile, using mappers
+ * configured like the application's. Payload sizes are printed once per trial.
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=ResponseEncodingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    private static final int SKILLS = 200;
+    private static final int PROJECTS = 100;
+
+    @Param({"100", "1000"})
+    public int consultants;
+
+    private List<ConsultantResponse> responses;
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        responses = ConsultantMapper.toResponseList(sampleConsultants(consultants));
+        json = mapper(new JsonFactory());
+        cbor = mapper(new CBORFactory());
+        smile = mapper(new SmileFactory());
+        System.out.printf("%nPayload bytes for %d consultants: json=%d, json+gzip=%d, cbor=%d, smile=%d%n",
+                consultants, json().length, jsonGzip().length, cbor().length, smile().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            json.writeValue(gzip, responses);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smile.writeValueAsBytes(responses);
+    }
+
+    private static ObjectMapper mapper(final JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .build();
+    }
+
+    /**
+     * Consultants with 5-15 skills and 1-4 assignments each, drawn from a shared pool of skills and projects.
+     */
+    static List<Consultant> sampleConsultants(final int count) {
+        final Random random = new Random(42);
+        final List<Skill> skills = new ArrayList<>(SKILLS);
+        for (int i = 0; i < SKILLS; i++) {
+            final Skill skill = new Skill();
+            skill.setId("skill-" + i);
+            skill.setName("Skill " + i);
+            skills.add(skill);
+        }
+        final List<Project> projects = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            final Project project = new Project();
+            project.setId("project-" + i);
+            project.setName("Project " + i);
+            projects.add(project);
+        }
+
+        final List<Consultant> consultants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Consultant consultant = new Consultant();
+            consultant.setId("consultant-" + i);
+            consultant.setName("Consultant " + i);
+            consultant.setEmail("consultant" + i + "@example.com");
+            consultant.setYearsOfExperience(random.nextInt(25));
+            consultant.setAvailability(random.nextBoolean());
+            consultant.setWantsNewProject(random.nextBoolean());
+            consultant.setOpenToRemote(random.nextBoolean());
+            for (int s = 5 + random.nextInt(11); s > 0; s--) {
+                final HasSkill hasSkill = new HasSkill();
+                hasSkill.setSkill(skills.get(random.nextInt(SKILLS)));
+                hasSkill.setSkillYearsOfExperience(1 + random.nextInt(15));
+                consultant.getSkills().add(hasSkill);
+            }
+            for (int a = 1 + random.nextInt(4); a > 0; a--) {
+                final AssignedTo assignedTo = new AssignedTo();
+                assignedTo.setProject(projects.get(random.nextInt(PROJECTS)));
+                assignedTo.setRole("Developer");
+                assignedTo.setRoleId(1);
+                assignedTo.setAllocationPercent(50 + random.nextInt(51));
+                assignedTo.setIsActive(random.nextBoolean());
+                assignedTo.setStartDate(LocalDateTime.of(2024, 1 + random.nextInt(12), 1, 9, 0));
+                consultant.getProjectAssignments().add(assignedTo);
+            }
+            consultants.add(consultant);
+        }
+        return consultants;
+    }
+}
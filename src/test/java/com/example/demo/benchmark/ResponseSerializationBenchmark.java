@@ -0,0 +1,68 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.mapper.ConsultantMapper;
+import com.example.demo.model.Consultant;
+import com.example.demo.serializer.ConsultantResponseSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a {@code GET /api/v1/consultants} response through {@link ConsultantMapper} and the response
+ * DTOs with writing the entities through {@link ConsultantResponseSerializer}. Output goes to a null stream so the
+ * gc profiler's {@code gc.alloc.rate.norm} shows only the per-request garbage of each path.
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=ResponseSerializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    public int consultants;
+
+    private List<Consultant> entities;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = ResponseEncodingBenchmark.sampleConsultants(consultants);
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .modulesToInstall(new SimpleModule().addSerializer(new ConsultantResponseSerializer()))
+                .build();
+    }
+
+    @Benchmark
+    public void responseDtos() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), ConsultantMapper.toResponseList(entities));
+    }
+
+    @Benchmark
+    public void streamingSerializer() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), entities);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DataDrivenStaffingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.Neo4jContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Starts Neo4j in Docker and the full application on a random port, with the sample data loaded by
+ * {@code DataLoader}. Used by benchmarks that need a realistic graph.
+ */
+final class SampleDataApplication implements AutoCloseable {
+
+    private final Neo4jContainer<?> neo4jContainer = new Neo4jContainer<>(DockerImageName.parse("neo4j:5"))
+            .withAdminPassword("password");
+    private final ConfigurableApplicationContext context;
+
+    SampleDataApplication(final String... additionalProperties) {
+        neo4jContainer.start();
+        context = new SpringApplicationBuilder(DataDrivenStaffingApplication.class)
+                .properties(
+                        "server.port=0",
+                        "warm-up.enabled=false",
+                        "spring.neo4j.uri=" + neo4jContainer.getBoltUrl(),
+                        "spring.neo4j.authentication.password=" + neo4jContainer.getAdminPassword())
+                .properties(additionalProperties)
+                .run();
+    }
+
+    <T> T bean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        neo4jContainer.stop();
+    }
+}
@@ -2,15 +2,28 @@ package com.example.demo.controller;
 
 import com.example.demo.config.Neo4jTestContainerConfig;
 import com.example.demo.dto.request.CreateConsultantRequest;
+import com.example.demo.dto.request.UpdateConsultantRequest;
+import com.example.demo.model.Project;
+import com.example.demo.service.ConsultantService;
+import com.example.demo.service.ProjectService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
 /**
  * FULL integration test:
  * - Starts Neo4j in Docker (Testcontainers)
@@ -29,6 +42,12 @@ class ConsultantControllerTest extends Neo4jTestContainerConfig {
     @Autowired
     private Neo4jClient neo4jClient;
 
+    @Autowired
+    private ConsultantService consultantService;
+
+    @Autowired
+    private ProjectService projectService;
+
 
 
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -56,4 +75,151 @@ class ConsultantControllerTest extends Neo4jTestContainerConfig {
                 .andExpect(jsonPath("$.field").value("Technology"));
     }*/
 
+    @Test
+    void shouldGetConsultantsByIdsInRequestOrder() throws Exception {
+        String first = shouldCreateConsultantInternal("Ola Nordmann", "ola@test.no");
+        String second = shouldCreateConsultantInternal("Kari Nordmann", "kari@test.no");
+
+        mockMvc.perform(get("/api/v1/consultants")
+                        .param("ids", second + ",missing-id," + first)
+                        .with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].id").value(second))
+                .andExpect(jsonPath("$.items[0].value.name").value("Kari Nordmann"))
+                .andExpect(jsonPath("$.items[1].id").value("missing-id"))
+                .andExpect(jsonPath("$.items[1].found").value(false))
+                .andExpect(jsonPath("$.items[2].value.name").value("Ola Nordmann"))
+                .andExpect(jsonPath("$.missing[0]").value("missing-id"));
+    }
+
+    @Test
+    void shouldRejectUnknownFetchDepth() throws Exception {
+        String id = shouldCreateConsultantInternal("Ola Nordmann", "ola@test.no");
+
+        mockMvc.perform(get("/api/v1/consultants")
+                        .param("ids", id)
+                        .param("fetch", "everything")
+                        .with(oauth2Login()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        String id = shouldCreateConsultantInternal("Ola Nordmann", "ola@test.no");
+
+        mockMvc.perform(get("/api/v1/consultants/{id}", id)
+                        .param("fields", "name,availability")
+                        .with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.name").value("Ola Nordmann"))
+                .andExpect(jsonPath("$.availability").value(true))
+                .andExpect(jsonPath("$.email").doesNotExist())
+                .andExpect(jsonPath("$.skills").doesNotExist());
+    }
+
+    @Test
+    void shouldAnswerUnchangedConsultantWithNotModified() throws Exception {
+        String id = shouldCreateConsultantInternal("Ola Nordmann", "ola@test.no");
+
+        String eTag = mockMvc.perform(get("/api/v1/consultants/{id}", id)
+                        .with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/consultants/{id}", id)
+                        .header("If-None-Match", eTag)
+                        .with(oauth2Login()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andExpect(content().string(""));
+
+        var update = new UpdateConsultantRequest("Ola Nordmann", "ola.nordmann@test.no", 6, true, true);
+        mockMvc.perform(put("/api/v1/consultants/{id}", id)
+                        .with(oauth2Login())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/consultants/{id}", id)
+                        .header("If-None-Match", eTag)
+                        .with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.email").value("ola.nordmann@test.no"));
+    }
+
+    @Test
+    void shouldChangeConsultantETagWhenAssignedProjectChangesOrIsDeleted() throws Exception {
+        String id = shouldCreateConsultantInternal("Ola Nordmann", "ola@test.no");
+        Project project = new Project();
+        project.setName("Apollo");
+        String projectId = projectService.create(project).getId();
+        consultantService.assignToProject(id, projectId, "Developer", 50, true, null, null);
+
+        String assigned = mockMvc.perform(get("/api/v1/consultants/{id}", id).with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        Project renamed = new Project();
+        renamed.setName("Artemis");
+        projectService.update(projectId, renamed);
+
+        String afterRename = mockMvc.perform(get("/api/v1/consultants/{id}", id)
+                        .header("If-None-Match", assigned)
+                        .with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectAssignments[0].projectName").value("Artemis"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        projectService.delete(projectId);
+
+        mockMvc.perform(get("/api/v1/consultants/{id}", id)
+                        .header("If-None-Match", afterRename)
+                        .with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(afterRename)))
+                .andExpect(jsonPath("$.projectAssignments").isEmpty());
+    }
+
+    @Test
+    void shouldChangeCollectionETagWhenConsultantIsCreated() throws Exception {
+        shouldCreateConsultantInternal("Ola Nordmann", "ola@test.no");
+
+        String eTag = mockMvc.perform(get("/api/v1/consultants").with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/v1/consultants")
+                        .header("If-None-Match", eTag)
+                        .with(oauth2Login()))
+                .andExpect(status().isNotModified());
+
+        shouldCreateConsultantInternal("Kari Nordmann", "kari@test.no");
+
+        mockMvc.perform(get("/api/v1/consultants")
+                        .header("If-None-Match", eTag)
+                        .with(oauth2Login()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    /**
+     * Helper method to create consultants inside tests.
+     */
+    private String shouldCreateConsultantInternal(String name, String email) throws Exception {
+        var request = createConsultantRequest(name, email, 5, true, false, true);
+
+        var mvcResult = mockMvc.perform(post("/api/v1/consultants")
+                        .with(oauth2Login())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        String response = mvcResult.getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asText();
+    }
 }
@@ -0,0 +1,244 @@
+package com.example.demo.event;
+
+import com.example.demo.config.Neo4jTestContainerConfig;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.model.Company;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Project;
+import com.example.demo.repository.ChangeLogEntry;
+import com.example.demo.repository.ChangeLogEntry.Kind;
+import com.example.demo.repository.ChangeLogRepository;
+import com.example.demo.repository.RoleDefinition;
+import com.example.demo.service.CompanyService;
+import com.example.demo.service.ConsultantService;
+import com.example.demo.service.ProjectService;
+import com.example.demo.service.RoleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache coherence between replicas sharing one database.
+ * - Starts Neo4j in Docker (Testcontainers)
+ * - Plays the other replica by writing to the database and the change log directly
+ * - Verifies that polling evicts exactly what the other replica changed, including roles
+ * - Verifies that entries commit and roll back with the write that appended them
+ */
+@SpringBootTest(properties = "change-log.poll-interval=1h")
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class ChangeLogRelayTest extends Neo4jTestContainerConfig {
+
+    private static final String OTHER_REPLICA = "other-replica";
+
+    @Autowired
+    private ChangeLogRelay changeLogRelay;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private ConsultantService consultantService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private Neo4jClient neo4jClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @BeforeEach
+    void cleanDatabase() {
+        neo4jClient.query("MATCH (n) DETACH DELETE n").run();
+        changeLogRelay.poll();
+    }
+
+    @Test
+    void create_localWrite_isAppendedWithOwnInstanceId() {
+        // given
+        final Company company = companyService.create(newCompany("Acme"));
+
+        // when
+        final List<ChangeLogEntry> entries = changeLogRepository.findAfter(0, 10);
+
+        // then
+        assertThat(entries).singleElement().satisfies(entry -> {
+            assertThat(entry.entityType()).isEqualTo(EntityType.COMPANY);
+            assertThat(entry.entityId()).isEqualTo(company.getId());
+            assertThat(entry.changeType()).isEqualTo(ChangeType.CREATED);
+            assertThat(entry.instanceId()).isEqualTo(changeLogRelay.instanceId());
+        });
+        assertThat(changeLogRelay.poll()).isZero();
+    }
+
+    @Test
+    void poll_writeByOtherReplica_evictsCachedEntity() {
+        // given
+        final Company company = companyService.create(newCompany("Acme"));
+        changeLogRelay.poll();
+        assertThat(companyService.findById(company.getId())).get()
+                .extracting(Company::getName).isEqualTo("Acme");
+
+        neo4jClient.query("MATCH (c:Company {id: $id}) SET c.name = 'Acme Renamed'")
+                .bind(company.getId()).to("id")
+                .run();
+        changeLogRepository.append(EntityType.COMPANY, company.getId(), ChangeType.UPDATED, OTHER_REPLICA);
+        assertThat(companyService.findById(company.getId())).get()
+                .extracting(Company::getName).isEqualTo("Acme");
+
+        // when
+        final int applied = changeLogRelay.poll();
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        assertThat(companyService.findById(company.getId())).get()
+                .extracting(Company::getName).isEqualTo("Acme Renamed");
+    }
+
+    @Test
+    void assignToProject_localWrite_appendsAssignmentEntry() {
+        // given
+        final Consultant consultant = consultantService.create(newConsultant());
+        final Project project = projectService.create(newProject());
+
+        // when
+        consultantService.assignToProject(consultant.getId(), project.getId(), "Developer", 100, true, null, null);
+
+        // then
+        assertThat(changeLogRepository.findAfter(0, 10))
+                .filteredOn(entry -> entry.kind() == Kind.ASSIGNMENT)
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.entityId()).isEqualTo(consultant.getId());
+                    assertThat(entry.relatedId()).isEqualTo(project.getId());
+                    assertThat(entry.changeType()).isEqualTo(ChangeType.CREATED);
+                });
+    }
+
+    @Test
+    void poll_assignmentByOtherReplica_republishesRemoteAssignment() {
+        // given
+        changeLogRepository.append(Kind.ASSIGNMENT, EntityType.CONSULTANT, "consultant-1", "project-1",
+                ChangeType.DELETED, OTHER_REPLICA);
+
+        // when
+        final int applied = changeLogRelay.poll();
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        assertThat(applicationEvents.stream(AssignmentChangedEvent.class))
+                .containsExactly(AssignmentChangedEvent.remote("consultant-1", "project-1", ChangeType.DELETED));
+    }
+
+    @Test
+    void poll_hierarchyByOtherReplica_republishesRemoteLink() {
+        // given
+        changeLogRepository.append(Kind.SKILL_HIERARCHY, EntityType.SKILL, "skill-1", "skill-2",
+                ChangeType.CREATED, OTHER_REPLICA);
+
+        // when
+        final int applied = changeLogRelay.poll();
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        assertThat(applicationEvents.stream(SkillHierarchyChangedEvent.class))
+                .containsExactly(SkillHierarchyChangedEvent.remote("skill-1", "skill-2", true));
+    }
+
+    @Test
+    void addAlias_localWrite_appendsRoleEntry() {
+        // given
+        neo4jClient.query("CREATE (:Role {key: 'qa lead', roleId: 41, name: 'QA Lead', aliases: []})").run();
+
+        // when
+        roleService.addAlias(41, "Test Lead");
+
+        // then
+        assertThat(changeLogRepository.findAfter(0, 10)).singleElement().satisfies(entry -> {
+            assertThat(entry.kind()).isEqualTo(Kind.ENTITY);
+            assertThat(entry.entityType()).isEqualTo(EntityType.ROLE);
+            assertThat(entry.entityId()).isEqualTo("41");
+            assertThat(entry.changeType()).isEqualTo(ChangeType.UPDATED);
+        });
+    }
+
+    @Test
+    void poll_roleByOtherReplica_rebuildsRoleDictionary() {
+        // given
+        roleService.findAll();
+        neo4jClient.query("CREATE (:Role {key: 'data steward', roleId: 42, name: 'Data Steward', aliases: []})").run();
+        changeLogRepository.append(EntityType.ROLE, "42", ChangeType.CREATED, OTHER_REPLICA);
+        assertThat(roleService.findAll()).extracting(RoleDefinition::name).doesNotContain("Data Steward");
+
+        // when
+        final int applied = changeLogRelay.poll();
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        assertThat(roleService.findAll()).extracting(RoleDefinition::name).contains("Data Steward");
+    }
+
+    @Test
+    void create_writeRolledBack_leavesNoEntry() {
+        // given
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            companyService.create(newCompany("Rolled Back"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(changeLogRepository.findAfter(0, 10)).isEmpty();
+        assertThat(neo4jClient.query("MATCH (c:Company) RETURN count(c) AS companies")
+                .fetchAs(Long.class).one()).contains(0L);
+        assertThat(changeLogRelay.poll()).isZero();
+    }
+
+    private static Consultant newConsultant() {
+        final Consultant consultant = new Consultant();
+        consultant.setName("Relay Tester");
+        consultant.setEmail("relay@test.no");
+        consultant.setYearsOfExperience(5);
+        consultant.setWantsNewProject(true);
+        consultant.setOpenToRemote(true);
+        return consultant;
+    }
+
+    private static Project newProject() {
+        final Project project = new Project();
+        project.setName("Relay project");
+        return project;
+    }
+
+    private static Company newCompany(final String name) {
+        final Company company = new Company();
+        company.setName(name);
+        company.setField("Technology");
+        return company;
+    }
+}
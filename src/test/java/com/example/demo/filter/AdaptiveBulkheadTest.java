@@ -0,0 +1,144 @@
+package com.example.demo.filter;
+
+import com.example.demo.filter.AdaptiveBulkhead.Admission;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Admission and limit adaptation of a single bulkhead.
+ * - Fills the bulkhead and its queue to check both rejection reasons
+ * - Feeds fast and slow latency samples to check that the limit grows and backs off
+ */
+class AdaptiveBulkheadTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void tryAcquire_queueFull_rejectsWithoutWaiting() throws Exception {
+        // given
+        final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(1, 1, 1, 0, 0, 0.9);
+        assertThat(bulkhead.tryAcquire(0)).isEqualTo(Admission.ADMITTED);
+
+        // when
+        final Admission admission = bulkhead.tryAcquire(TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertThat(admission).isEqualTo(Admission.QUEUE_FULL);
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_noPermitFreed_timesOut() throws Exception {
+        // given
+        final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(1, 1, 1, 1, 0, 0.9);
+        bulkhead.tryAcquire(0);
+
+        // when
+        final Admission admission = bulkhead.tryAcquire(TimeUnit.MILLISECONDS.toNanos(20));
+
+        // then
+        assertThat(admission).isEqualTo(Admission.TIMED_OUT);
+        assertThat(bulkhead.waiting()).isZero();
+    }
+
+    @Test
+    void release_queuedRequest_isAdmitted() throws Exception {
+        // given
+        final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(1, 1, 1, 1, 0, 0.9);
+        final long start = System.nanoTime();
+        bulkhead.tryAcquire(0);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            final Future<Admission> queued = executor.submit(() -> bulkhead.tryAcquire(TimeUnit.SECONDS.toNanos(10)));
+            waitForQueue(bulkhead);
+
+            // when
+            bulkhead.release(start, true);
+
+            // then
+            assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo(Admission.ADMITTED);
+        }
+        assertThat(bulkhead.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void release_fastRequestsAtCapacity_raiseLimit() throws Exception {
+        // given
+        final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(2, 1, 4, 0, THRESHOLD, 0.5);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            bulkhead.tryAcquire(0);
+            bulkhead.tryAcquire(0);
+            final long start = System.nanoTime();
+            bulkhead.release(start, true);
+            bulkhead.release(start, true);
+        }
+
+        // then
+        assertThat(bulkhead.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_slowRequests_lowerLimitOncePerBurst() throws Exception {
+        // given
+        final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(8, 2, 8, 0, THRESHOLD, 0.5);
+        final long burstStart = System.nanoTime();
+        for (int i = 0; i < 8; i++) {
+            bulkhead.tryAcquire(0);
+        }
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(THRESHOLD) + 50);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            bulkhead.release(burstStart, true);
+        }
+        final int afterBurst = bulkhead.limit();
+        bulkhead.tryAcquire(0);
+        bulkhead.release(burstStart, true);
+
+        // then
+        assertThat(afterBurst).isEqualTo(4);
+        assertThat(bulkhead.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_asyncRequest_keepsLimit() throws Exception {
+        // given
+        final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(4, 1, 8, 0, THRESHOLD, 0.5);
+        bulkhead.tryAcquire(0);
+
+        // when
+        bulkhead.release(System.nanoTime() - 2 * THRESHOLD, false);
+
+        // then
+        assertThat(bulkhead.limit()).isEqualTo(4);
+        assertThat(bulkhead.inFlight()).isZero();
+    }
+
+    @Test
+    void constructor_invalidLimits_throws() {
+        // when / then
+        assertThatThrownBy(() -> new AdaptiveBulkhead(10, 2, 8, 0, 0, 0.9))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveBulkhead(4, 2, 8, 0, 0, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void waitForQueue(final AdaptiveBulkhead bulkhead) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (bulkhead.waiting() == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Request was not queued in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Levenshtein distance and bounded lookups of the BK-tree.
+ * - Checks distances for insertions, deletions and substitutions
+ * - Checks that a lookup returns exactly the terms within the distance, closest first
+ * - Compares every lookup with a brute-force scan of the vocabulary
+ */
+class BkTreeTest {
+
+    private static final List<String> TERMS = List.of(
+            "book", "books", "boo", "boon", "cook", "cake", "cape", "cart", "back", "developer", "architect");
+
+    @Test
+    void levenshtein_editsOfEachKind_countsEveryEdit() {
+        // when / then
+        assertThat(BkTree.levenshtein("book", "book")).isZero();
+        assertThat(BkTree.levenshtein("book", "books")).isEqualTo(1);
+        assertThat(BkTree.levenshtein("books", "book")).isEqualTo(1);
+        assertThat(BkTree.levenshtein("book", "cook")).isEqualTo(1);
+        assertThat(BkTree.levenshtein("book", "back")).isEqualTo(2);
+        assertThat(BkTree.levenshtein("achitekt", "architect")).isEqualTo(2);
+        assertThat(BkTree.levenshtein("", "cart")).isEqualTo(4);
+    }
+
+    @Test
+    void add_duplicateTerm_isStoredOnce() {
+        // given
+        final BkTree tree = tree();
+
+        // when
+        tree.add("book");
+
+        // then
+        assertThat(tree.size()).isEqualTo(TERMS.size());
+        assertThat(tree.search("book", 0)).containsExactly(new BkTree.Match("book", 0));
+    }
+
+    @Test
+    void search_withinOneEdit_returnsClosestFirst() {
+        // given
+        final BkTree tree = tree();
+
+        // when
+        final List<BkTree.Match> matches = tree.search("book", 1);
+
+        // then
+        assertThat(matches.getFirst()).isEqualTo(new BkTree.Match("book", 0));
+        assertThat(matches.subList(1, matches.size())).containsExactlyInAnyOrder(
+                new BkTree.Match("books", 1),
+                new BkTree.Match("boo", 1),
+                new BkTree.Match("boon", 1),
+                new BkTree.Match("cook", 1));
+    }
+
+    @Test
+    void search_noTermWithinDistance_returnsEmpty() {
+        // when / then
+        assertThat(tree().search("zebra", 2)).isEmpty();
+        assertThat(new BkTree().search("book", 2)).isEmpty();
+    }
+
+    @Test
+    void search_anyQueryAndDistance_matchesBruteForce() {
+        // given
+        final BkTree tree = tree();
+
+        for (final String query : List.of("book", "bake", "cap", "developr", "archtect", "x")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                // when
+                final List<BkTree.Match> matches = tree.search(query, maxDistance);
+
+                // then
+                final int limit = maxDistance;
+                final List<BkTree.Match> expected = TERMS.stream()
+                        .map(term -> new BkTree.Match(term, BkTree.levenshtein(query, term)))
+                        .filter(match -> match.distance() <= limit)
+                        .toList();
+                assertThat(matches).as("%s within %d", query, maxDistance)
+                        .containsExactlyInAnyOrderElementsOf(expected);
+                assertThat(matches).isSortedAccordingTo(
+                        (left, right) -> Integer.compare(left.distance(), right.distance()));
+            }
+        }
+    }
+
+    private static BkTree tree() {
+        final BkTree tree = new BkTree();
+        TERMS.forEach(tree::add);
+        return tree;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.demo.index;
+
+import com.example.demo.index.NetworkPathStep.NodeType;
+import com.example.demo.repository.ConsultantProjects;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSR build, traversal and in-place patching of the colleague graph.
+ * - Builds small graphs and checks network levels and shortest paths
+ * - Patches edges and nodes and checks traversal sees them without a rebuild
+ * - Patches past the compaction threshold and compares with a graph built from scratch
+ */
+class ColleagueGraphTest {
+
+    private static final List<ConsultantProjects> CONSULTANTS = List.of(
+            consultant("alice", "p1"),
+            consultant("bob", "p1", "p2"),
+            consultant("carol", "p2"),
+            consultant("dave", "p3"));
+
+    @Test
+    void network_sharedProjects_returnsColleaguesByDistance() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        final List<NetworkMember> direct = graph.network("alice", 1, 10);
+        final List<NetworkMember> extended = graph.network("alice", 2, 10);
+
+        // then
+        assertThat(direct).containsExactly(new NetworkMember("bob", "Name bob", 1));
+        assertThat(extended).containsExactly(
+                new NetworkMember("bob", "Name bob", 1),
+                new NetworkMember("carol", "Name carol", 2));
+        assertThat(graph.network("dave", 4, 10)).isEmpty();
+        assertThat(graph.network("unknown", 1, 10)).isEmpty();
+    }
+
+    @Test
+    void network_limitReached_stopsEarly() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        final List<NetworkMember> members = graph.network("alice", 2, 1);
+
+        // then
+        assertThat(members).extracting(NetworkMember::consultantId).containsExactly("bob");
+    }
+
+    @Test
+    void path_twoHops_returnsConsultantProjectChain() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        final List<NetworkPathStep> path = graph.path("alice", "carol", 2);
+
+        // then
+        assertThat(path).containsExactly(
+                new NetworkPathStep(NodeType.CONSULTANT, "alice", "Name alice"),
+                new NetworkPathStep(NodeType.PROJECT, "p1", "Project p1"),
+                new NetworkPathStep(NodeType.CONSULTANT, "bob", "Name bob"),
+                new NetworkPathStep(NodeType.PROJECT, "p2", "Project p2"),
+                new NetworkPathStep(NodeType.CONSULTANT, "carol", "Name carol"));
+        assertThat(graph.path("alice", "carol", 1)).isEmpty();
+        assertThat(graph.path("alice", "dave", 4)).isEmpty();
+    }
+
+    @Test
+    void link_knownNodes_addsEdgeInPlace() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        final boolean linked = graph.link("dave", "p1");
+
+        // then
+        assertThat(linked).isTrue();
+        assertThat(graph.network("alice", 1, 10)).extracting(NetworkMember::consultantId)
+                .containsExactlyInAnyOrder("bob", "dave");
+        assertThat(graph.link("dave", "p1")).isTrue();
+        assertThat(graph.network("dave", 1, 10)).extracting(NetworkMember::consultantId)
+                .containsExactlyInAnyOrder("alice", "bob");
+    }
+
+    @Test
+    void link_unknownProject_returnsFalse() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when / then
+        assertThat(graph.link("alice", "p9")).isFalse();
+        assertThat(graph.link("unknown", "p1")).isFalse();
+    }
+
+    @Test
+    void unlink_sharedProject_separatesColleagues() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        graph.unlink("bob", "p2");
+
+        // then
+        assertThat(graph.network("alice", 2, 10)).extracting(NetworkMember::consultantId).containsExactly("bob");
+        assertThat(graph.path("alice", "carol", 4)).isEmpty();
+    }
+
+    @Test
+    void putConsultant_newConsultantAndProject_appendsNodes() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        graph.putConsultant(consultant("erin", "p2", "p4"));
+        graph.putConsultant(consultant("frank", "p4"));
+
+        // then
+        assertThat(graph.network("carol", 1, 10)).extracting(NetworkMember::consultantId)
+                .containsExactlyInAnyOrder("bob", "erin");
+        assertThat(graph.path("frank", "carol", 2)).extracting(NetworkPathStep::id)
+                .containsExactly("frank", "p4", "erin", "p2", "carol");
+    }
+
+    @Test
+    void putConsultant_changedProjects_replacesOnlyDifferingEdges() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        graph.putConsultant(new ConsultantProjects("bob", "Robert", Map.of("p2", "Project p2", "p3", "Project p3")));
+
+        // then
+        assertThat(graph.network("alice", 4, 10)).isEmpty();
+        assertThat(graph.network("carol", 1, 10)).containsExactly(new NetworkMember("bob", "Robert", 1));
+        assertThat(graph.network("dave", 1, 10)).extracting(NetworkMember::consultantId).containsExactly("bob");
+    }
+
+    @Test
+    void removeConsultant_dropsNodeAndItsEdges() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        graph.removeConsultant("bob");
+
+        // then
+        assertThat(graph.network("alice", 4, 10)).isEmpty();
+        assertThat(graph.network("bob", 1, 10)).isEmpty();
+        assertThat(graph.path("alice", "carol", 4)).isEmpty();
+    }
+
+    @Test
+    void removeProject_disconnectsItsConsultants() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        graph.removeProject("p1");
+
+        // then
+        assertThat(graph.network("alice", 4, 10)).isEmpty();
+        assertThat(graph.network("bob", 1, 10)).extracting(NetworkMember::consultantId).containsExactly("carol");
+        assertThat(graph.link("alice", "p1")).isFalse();
+    }
+
+    @Test
+    void rename_updatesNamesInResults() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+
+        // when
+        graph.renameConsultant("bob", "Robert");
+        graph.renameProject("p1", "Apollo");
+
+        // then
+        assertThat(graph.path("alice", "bob", 1)).extracting(NetworkPathStep::name)
+                .containsExactly("Name alice", "Apollo", "Robert");
+    }
+
+    @Test
+    void patches_pastCompactionThreshold_matchFreshBuild() {
+        // given
+        final ColleagueGraph graph = ColleagueGraph.build(CONSULTANTS);
+        final List<ConsultantProjects> expected = new ArrayList<>(CONSULTANTS);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            final ConsultantProjects consultant = consultant("c" + i, "hub" + i % 7, "p" + i % 3);
+            graph.putConsultant(consultant);
+            expected.add(consultant);
+        }
+        for (int i = 0; i < 200; i += 5) {
+            graph.removeConsultant("c" + i);
+            final String removed = "c" + i;
+            expected.removeIf(consultant -> consultant.consultantId().equals(removed));
+        }
+        graph.removeConsultant("dave");
+        expected.removeIf(consultant -> consultant.consultantId().equals("dave"));
+
+        // then
+        final ColleagueGraph rebuilt = ColleagueGraph.build(expected);
+        for (final ConsultantProjects consultant : expected) {
+            assertThat(graph.network(consultant.consultantId(), 2, 1_000))
+                    .containsExactlyInAnyOrderElementsOf(rebuilt.network(consultant.consultantId(), 2, 1_000));
+        }
+        assertThat(graph.network("c0", 2, 1_000)).isEmpty();
+        assertThat(graph.path("alice", "c1", 4)).hasSameSizeAs(rebuilt.path("alice", "c1", 4));
+    }
+
+    private static ConsultantProjects consultant(final String id, final String... projectIds) {
+        final Map<String, String> projects = new LinkedHashMap<>();
+        for (final String projectId : projectIds) {
+            projects.put(projectId, "Project " + projectId);
+        }
+        return new ConsultantProjects(id, "Name " + id, projects);
+    }
+}
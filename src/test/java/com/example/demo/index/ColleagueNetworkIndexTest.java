@@ -0,0 +1,134 @@
+package com.example.demo.index;
+
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.model.Consultant;
+import com.example.demo.repository.ConsultantProjects;
+import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Which change events patch the colleague network in place and which reload it, against mocked repositories.
+ * - Loads the graph once, applies events, and counts the repository reads they cause
+ */
+class ColleagueNetworkIndexTest {
+
+    private ConsultantRepository consultantRepository;
+    private ColleagueNetworkIndex index;
+
+    @BeforeEach
+    void setUp() {
+        consultantRepository = mock(ConsultantRepository.class);
+        when(consultantRepository.findConsultantProjects(isNull())).thenReturn(List.of(
+                new ConsultantProjects("alice", "Alice", Map.of("p1", "Apollo")),
+                new ConsultantProjects("bob", "Bob", Map.of("p1", "Apollo", "p2", "Gemini")),
+                new ConsultantProjects("carol", "Carol", Map.of("p2", "Gemini"))));
+        index = new ColleagueNetworkIndex(consultantRepository, mock(ProjectRepository.class));
+    }
+
+    @Test
+    void onAssignmentChanged_knownProject_patchesWithoutQuery() {
+        // given
+        index.network("alice", 1, 10);
+
+        // when
+        index.onAssignmentChanged(AssignmentChangedEvent.local("carol", "p1", ChangeType.CREATED));
+
+        // then
+        assertThat(index.network("alice", 1, 10)).extracting(NetworkMember::consultantId)
+                .containsExactlyInAnyOrder("bob", "carol");
+        verify(consultantRepository, times(1)).findConsultantProjects(any());
+    }
+
+    @Test
+    void onAssignmentChanged_unknownProject_readsOnlyThatConsultant() {
+        // given
+        index.network("alice", 1, 10);
+        when(consultantRepository.findConsultantProjects(List.of("alice"))).thenReturn(List.of(
+                new ConsultantProjects("alice", "Alice", Map.of("p1", "Apollo", "p3", "Mercury"))));
+
+        // when
+        index.onAssignmentChanged(AssignmentChangedEvent.local("alice", "p3", ChangeType.CREATED));
+        index.onAssignmentChanged(AssignmentChangedEvent.local("carol", "p3", ChangeType.CREATED));
+
+        // then
+        assertThat(index.path("alice", "carol", 1)).extracting(NetworkPathStep::name)
+                .containsExactly("Alice", "Mercury", "Carol");
+        verify(consultantRepository, times(1)).findConsultantProjects(isNull());
+        verify(consultantRepository, times(1)).findConsultantProjects(List.of("alice"));
+        verify(consultantRepository, never()).findConsultantProjects(List.of("carol"));
+    }
+
+    @Test
+    void onAssignmentChanged_removedOrDeactivated_onlyRemovalDropsEdge() {
+        // given
+        index.network("alice", 1, 10);
+
+        // when
+        index.onAssignmentChanged(AssignmentChangedEvent.local("bob", "p2", ChangeType.UPDATED));
+        final List<NetworkMember> afterDeactivation = index.network("carol", 1, 10);
+        index.onAssignmentChanged(AssignmentChangedEvent.remote("bob", "p2", ChangeType.DELETED));
+
+        // then
+        assertThat(afterDeactivation).extracting(NetworkMember::consultantId).containsExactly("bob");
+        assertThat(index.network("carol", 1, 10)).isEmpty();
+        verify(consultantRepository, times(1)).findConsultantProjects(any());
+    }
+
+    @Test
+    void onEntityChanged_consultantUpdated_onlyRenames() {
+        // given
+        index.network("alice", 1, 10);
+        final Consultant renamed = new Consultant();
+        renamed.setId("bob");
+        renamed.setName("Robert");
+        when(consultantRepository.findShallowByIds(List.of("bob"))).thenReturn(List.of(renamed));
+
+        // when
+        index.onEntityChanged(EntityChangedEvent.updated(EntityType.CONSULTANT, "bob"));
+
+        // then
+        assertThat(index.network("alice", 1, 10)).containsExactly(new NetworkMember("bob", "Robert", 1));
+        verify(consultantRepository, times(1)).findConsultantProjects(any());
+    }
+
+    @Test
+    void onEntityChanged_notLoaded_readsNothing() {
+        // when
+        index.onEntityChanged(EntityChangedEvent.updated(EntityType.CONSULTANT, "bob"));
+        index.onAssignmentChanged(AssignmentChangedEvent.local("alice", "p9", ChangeType.CREATED));
+
+        // then
+        verify(consultantRepository, never()).findShallowByIds(any());
+        verify(consultantRepository, never()).findConsultantProjects(any());
+    }
+
+    @Test
+    void onEntityChanged_resync_reloadsOnNextUse() {
+        // given
+        index.network("alice", 1, 10);
+
+        // when
+        index.onEntityChanged(EntityChangedEvent.resync(EntityType.CONSULTANT));
+        index.network("alice", 1, 10);
+
+        // then
+        verify(consultantRepository, times(2)).findConsultantProjects(isNull());
+    }
+}
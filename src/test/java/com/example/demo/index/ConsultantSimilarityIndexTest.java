@@ -0,0 +1,199 @@
+package com.example.demo.index;
+
+import com.example.demo.config.SimilarityProperties;
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.ConsultantSkillChangedEvent;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.index.ConsultantSimilarityIndex.Similarity;
+import com.example.demo.repository.ConsultantRepository;
+import com.example.demo.repository.SimilarityFeatures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MinHash signatures and LSH bucketing of the similarity index, against a mocked repository.
+ * - Checks that signatures only depend on the features, not on their order or the index instance
+ * - Checks that only consultants sharing a band bucket are scored
+ * - Checks which change events re-read a consultant's features
+ * - Reads while other threads refresh and rebuild, and checks a lookup never sees a partial index
+ */
+class ConsultantSimilarityIndexTest {
+
+    private static final SimilarityProperties PROPERTIES = new SimilarityProperties(64, 16, 5);
+
+    private ConsultantRepository consultantRepository;
+
+    @BeforeEach
+    void setUp() {
+        consultantRepository = mock(ConsultantRepository.class);
+        when(consultantRepository.findSimilarityFeatures(isNull())).thenReturn(List.of(
+                features("alice", skills("Java", 5, "Spring", 3), Set.of("Acme")),
+                features("bob", skills("Spring", 3, "Java", 5), Set.of("Acme")),
+                features("carol", skills("Java", 5, "Kotlin", 2), Set.of("Acme", "Initech")),
+                features("dave", skills("Cobol", 10, "Fortran", 8), Set.of("Globex")),
+                features("erin", Map.of(), Set.of())));
+    }
+
+    @Test
+    void findSimilar_sameFeaturesInOtherOrder_estimatesFullSimilarity() {
+        // given
+        final ConsultantSimilarityIndex index = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+
+        // when
+        final List<Similarity> similar = index.findSimilar("alice", 10);
+
+        // then
+        assertThat(similar).first().isEqualTo(new Similarity("bob", 1.0));
+    }
+
+    @Test
+    void findSimilar_separateIndexes_returnSameEstimates() {
+        // given
+        final ConsultantSimilarityIndex first = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+        final ConsultantSimilarityIndex second = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+
+        // when
+        final List<Similarity> fromFirst = first.findSimilar("carol", 10);
+        final List<Similarity> fromSecond = second.findSimilar("carol", 10);
+
+        // then
+        assertThat(fromFirst).isNotEmpty().isEqualTo(fromSecond);
+    }
+
+    @Test
+    void findSimilar_disjointFeatures_shareNoBucket() {
+        // given
+        final ConsultantSimilarityIndex index = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+
+        // when
+        final List<Similarity> similar = index.findSimilar("dave", 10);
+
+        // then
+        assertThat(similar).isEmpty();
+        assertThat(index.findSimilar("alice", 10)).extracting(Similarity::consultantId).doesNotContain("dave");
+    }
+
+    @Test
+    void findSimilar_consultantWithoutFeatures_isEmpty() {
+        // given
+        final ConsultantSimilarityIndex index = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+
+        // when / then
+        assertThat(index.findSimilar("erin", 10)).isEmpty();
+        assertThat(index.findSimilar("unknown", 10)).isEmpty();
+    }
+
+    @Test
+    void onEntityChanged_consultantUpdated_keepsSignatureWithoutQuery() {
+        // given
+        final ConsultantSimilarityIndex index = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+        index.findSimilar("alice", 10);
+
+        // when
+        index.onEntityChanged(EntityChangedEvent.updated(EntityType.CONSULTANT, "alice"));
+        index.onAssignmentChanged(AssignmentChangedEvent.local("alice", "project-1", ChangeType.UPDATED));
+
+        // then
+        verify(consultantRepository, never()).findSimilarityFeatures(List.of("alice"));
+        assertThat(index.findSimilar("alice", 10)).first().isEqualTo(new Similarity("bob", 1.0));
+        verify(consultantRepository, times(1)).findSimilarityFeatures(isNull());
+    }
+
+    @Test
+    void onConsultantSkillChanged_refreshesOnlyThatConsultant() {
+        // given
+        final ConsultantSimilarityIndex index = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+        index.findSimilar("alice", 10);
+        when(consultantRepository.findSimilarityFeatures(List.of("dave"))).thenReturn(List.of(
+                features("dave", skills("Java", 5, "Spring", 3), Set.of("Acme"))));
+
+        // when
+        index.onConsultantSkillChanged(ConsultantSkillChangedEvent.local("dave", "skill-java", ChangeType.CREATED));
+
+        // then
+        assertThat(index.findSimilar("alice", 10)).contains(new Similarity("dave", 1.0));
+        verify(consultantRepository, times(1)).findSimilarityFeatures(isNull());
+        verify(consultantRepository, times(2)).findSimilarityFeatures(any());
+    }
+
+    @Test
+    void onAssignmentChanged_assignmentRemoved_refreshesConsultant() {
+        // given
+        final ConsultantSimilarityIndex index = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+        index.findSimilar("alice", 10);
+        when(consultantRepository.findSimilarityFeatures(List.of("bob"))).thenReturn(List.of(
+                features("bob", skills("Spring", 3, "Java", 5), Set.of())));
+
+        // when
+        index.onAssignmentChanged(AssignmentChangedEvent.local("bob", "project-1", ChangeType.DELETED));
+
+        // then
+        assertThat(index.findSimilar("alice", 10))
+                .filteredOn(similarity -> similarity.consultantId().equals("bob"))
+                .allSatisfy(similarity -> assertThat(similarity.similarity()).isLessThan(1.0));
+    }
+
+    @Test
+    void findSimilar_concurrentRefreshesAndRebuilds_neverSeesPartialIndex() throws Exception {
+        // given
+        final ConsultantSimilarityIndex index = new ConsultantSimilarityIndex(consultantRepository, PROPERTIES);
+        index.findSimilar("alice", 10);
+        when(consultantRepository.findSimilarityFeatures(List.of("dave"))).thenReturn(List.of(
+                features("dave", skills("Cobol", 10, "Fortran", 8), Set.of("Globex"))));
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                if (i % 10 == 0) {
+                    index.onEntityChanged(EntityChangedEvent.updated(EntityType.SKILL, "skill-java"));
+                } else {
+                    index.onConsultantSkillChanged(
+                            ConsultantSkillChangedEvent.local("dave", "skill-cobol", ChangeType.CREATED));
+                }
+            }
+        });
+        writer.start();
+
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                // when
+                final List<Similarity> similar = index.findSimilar("alice", 10);
+
+                // then
+                assertThat(similar).first().isEqualTo(new Similarity("bob", 1.0));
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    private static SimilarityFeatures features(final String consultantId, final Map<String, Integer> skillYears,
+                                               final Set<String> companies) {
+        return new SimilarityFeatures(consultantId, skillYears, companies);
+    }
+
+    private static Map<String, Integer> skills(final String first, final int firstYears,
+                                               final String second, final int secondYears) {
+        final Map<String, Integer> skills = new LinkedHashMap<>();
+        skills.put(first, firstYears);
+        skills.put(second, secondYears);
+        return skills;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.index;
+
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.repository.RoleDefinition;
+import com.example.demo.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Normalizing, interning and matching roles, against a mocked repository.
+ * - Resolves known titles and aliases from the dictionary without writing
+ * - Interns new titles and drops the dictionary, inside a transaction only once it commits
+ * - Publishes a ROLE change for every added role or alias, and rebuilds on ROLE changes from other replicas
+ * - Rejects an alias that already resolves to another role
+ * - Matches search terms against role names and aliases
+ */
+class RoleDictionaryTest {
+
+    private static final RoleDefinition TECH_LEAD = new RoleDefinition(1, "Tech Lead", List.of("lead engineer"));
+    private static final RoleDefinition ARCHITECT = new RoleDefinition(2, "Solution Architect", List.of());
+    private static final RoleDefinition LEAD_DEVELOPER = new RoleDefinition(3, "Lead Developer", List.of());
+    private static final RoleDefinition DATA_ENGINEER = new RoleDefinition(4, "Data Engineer", List.of());
+
+    private RoleRepository roleRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        roleRepository = mock(RoleRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(roleRepository.findAll()).thenReturn(List.of(TECH_LEAD, ARCHITECT, LEAD_DEVELOPER));
+    }
+
+    @Test
+    void normalize_mixedCaseAndWhitespace_collapsesAndFolds() {
+        // when / then
+        assertThat(RoleDictionary.normalize("  Tech \t Lead\n")).isEqualTo("tech lead");
+        assertThat(RoleDictionary.normalize("tech lead")).isEqualTo("tech lead");
+    }
+
+    @Test
+    void intern_knownNameOrAlias_returnsExistingRoleWithoutWriting() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+
+        // when
+        final RoleDefinition byName = dictionary.intern(" TECH  lead ");
+        final RoleDefinition byAlias = dictionary.intern("Lead Engineer");
+
+        // then
+        assertThat(byName).isEqualTo(TECH_LEAD);
+        assertThat(byAlias).isEqualTo(TECH_LEAD);
+        assertThat(dictionary.intern("  ")).isNull();
+        verify(roleRepository, never()).intern(anyString(), anyString());
+        verify(roleRepository, times(1)).findAll();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void intern_newTitle_storesDisplayNameAndRebuilds() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+        dictionary.findAll();
+        when(roleRepository.intern("data engineer", "Data Engineer")).thenReturn(DATA_ENGINEER);
+        when(roleRepository.findAll()).thenReturn(List.of(TECH_LEAD, ARCHITECT, LEAD_DEVELOPER, DATA_ENGINEER));
+
+        // when
+        final RoleDefinition interned = dictionary.intern(" Data   Engineer ");
+
+        // then
+        assertThat(interned).isEqualTo(DATA_ENGINEER);
+        assertThat(dictionary.findAll()).contains(DATA_ENGINEER);
+        verify(roleRepository, times(2)).findAll();
+        verify(eventPublisher).publishEvent(EntityChangedEvent.created(EntityType.ROLE, "4"));
+    }
+
+    @Test
+    void intern_insideTransaction_dropsDictionaryOnlyAfterCommit() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+        dictionary.findAll();
+        when(roleRepository.intern("data engineer", "Data Engineer")).thenReturn(DATA_ENGINEER);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            dictionary.intern("Data Engineer");
+            when(roleRepository.findAll()).thenReturn(List.of(TECH_LEAD, ARCHITECT, LEAD_DEVELOPER, DATA_ENGINEER));
+            final List<RoleDefinition> beforeCommit = dictionary.findAll();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(beforeCommit).doesNotContain(DATA_ENGINEER);
+            assertThat(dictionary.findAll()).contains(DATA_ENGINEER);
+            verify(roleRepository, times(2)).findAll();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void addAlias_aliasOfAnotherRole_isRejected() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+
+        // when / then
+        assertThatThrownBy(() -> dictionary.addAlias(ARCHITECT.roleId(), "Lead  Engineer"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Tech Lead");
+        assertThatThrownBy(() -> dictionary.addAlias(ARCHITECT.roleId(), "lead developer"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Lead Developer");
+        verify(roleRepository, never()).addAlias(anyInt(), anyString());
+    }
+
+    @Test
+    void addAlias_newOrOwnAlias_storesNormalizedAlias() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+        final RoleDefinition updated = new RoleDefinition(1, "Tech Lead", List.of("lead engineer", "team lead"));
+        when(roleRepository.addAlias(1, "team lead")).thenReturn(Optional.of(updated));
+        when(roleRepository.addAlias(1, "lead engineer")).thenReturn(Optional.of(TECH_LEAD));
+
+        // when
+        final Optional<RoleDefinition> added = dictionary.addAlias(1, " Team Lead");
+        final Optional<RoleDefinition> repeated = dictionary.addAlias(1, "LEAD ENGINEER");
+
+        // then
+        assertThat(added).contains(updated);
+        assertThat(repeated).contains(TECH_LEAD);
+        verify(eventPublisher, times(2)).publishEvent(EntityChangedEvent.updated(EntityType.ROLE, "1"));
+    }
+
+    @Test
+    void addAlias_unknownRole_isEmptyAndKeepsDictionary() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+        when(roleRepository.addAlias(99, "ghost")).thenReturn(Optional.empty());
+
+        // when
+        final Optional<RoleDefinition> added = dictionary.addAlias(99, "Ghost");
+        dictionary.findAll();
+
+        // then
+        assertThat(added).isEmpty();
+        verify(roleRepository, times(1)).findAll();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void onEntityChanged_remoteRoleChange_rebuildsOnNextUse() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+        dictionary.findAll();
+
+        // when
+        dictionary.onEntityChanged(EntityChangedEvent.updated(EntityType.ROLE, "1"));
+        dictionary.onEntityChanged(EntityChangedEvent.remote(EntityType.CONSULTANT, "alice", ChangeType.UPDATED));
+        dictionary.findAll();
+        dictionary.onEntityChanged(EntityChangedEvent.remote(EntityType.ROLE, "4", ChangeType.CREATED));
+        dictionary.findAll();
+        dictionary.onEntityChanged(EntityChangedEvent.resync(EntityType.ROLE));
+        dictionary.findAll();
+
+        // then
+        verify(roleRepository, times(3)).findAll();
+    }
+
+    @Test
+    void matchIds_partialTerms_matchNamesAndAliases() {
+        // given
+        final RoleDictionary dictionary = new RoleDictionary(roleRepository, eventPublisher);
+
+        // when / then
+        assertThat(dictionary.matchIds(List.of("LEAD"))).containsExactly(1, 3);
+        assertThat(dictionary.matchIds(List.of("engineer", "architect"))).containsExactly(1, 2);
+        assertThat(dictionary.matchIds(Arrays.asList(" ", null, "tester"))).isEmpty();
+        assertThat(dictionary.matchIds(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.index;
+
+import com.example.demo.config.FuzzyMatchProperties;
+import com.example.demo.event.AssignmentChangedEvent;
+import com.example.demo.event.EntityChangedEvent.ChangeType;
+import com.example.demo.repository.ConsultantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Word-by-word correction of search roles against the vocabulary of assignment role titles.
+ * - Checks the corrected phrase is searched next to the original one
+ * - Checks words shorter than one-edit-min-length are never corrected
+ * - Checks two edits are only allowed from two-edits-min-length on
+ */
+class RoleVocabularyIndexTest {
+
+    private static final FuzzyMatchProperties PROPERTIES = new FuzzyMatchProperties(true, 4, 8);
+
+    private ConsultantRepository consultantRepository;
+
+    @BeforeEach
+    void setUp() {
+        consultantRepository = mock(ConsultantRepository.class);
+        when(consultantRepository.findDistinctRoles()).thenReturn(List.of(
+                "Fullstack Developer", "Solution Architect", "Tech Lead"));
+    }
+
+    @Test
+    void expand_misspeltWord_addsCorrectedPhraseNextToOriginal() {
+        // given
+        final RoleVocabularyIndex index = new RoleVocabularyIndex(consultantRepository, PROPERTIES);
+
+        // when
+        final List<String> expanded = index.expand(List.of(" Fullstak Developer "));
+
+        // then
+        assertThat(expanded).containsExactly("Fullstak Developer", "fullstack developer");
+    }
+
+    @Test
+    void expand_knownWords_keepsOnlyOriginal() {
+        // given
+        final RoleVocabularyIndex index = new RoleVocabularyIndex(consultantRepository, PROPERTIES);
+
+        // when
+        final List<String> expanded = index.expand(List.of("Tech Lead", "developer"));
+
+        // then
+        assertThat(expanded).containsExactly("Tech Lead", "developer");
+    }
+
+    @Test
+    void expand_wordShorterThanOneEditMinLength_isNotCorrected() {
+        // given
+        final RoleVocabularyIndex index = new RoleVocabularyIndex(consultantRepository, PROPERTIES);
+
+        // when
+        final List<String> expanded = index.expand(List.of("tec lead", "tech leed"));
+
+        // then
+        assertThat(expanded).containsExactly("tec lead", "tech leed", "tech lead");
+    }
+
+    @Test
+    void expand_twoEditsBelowTwoEditsMinLength_isNotCorrected() {
+        // given
+        final RoleVocabularyIndex index = new RoleVocabularyIndex(consultantRepository, PROPERTIES);
+
+        // when
+        final List<String> sevenLetters = index.expand(List.of("devloer"));
+        final List<String> eightLetters = index.expand(List.of("achitekt"));
+
+        // then
+        assertThat(sevenLetters).containsExactly("devloer");
+        assertThat(eightLetters).containsExactly("achitekt", "architect");
+    }
+
+    @Test
+    void expand_fuzzyMatchDisabled_returnsRolesWithoutBuilding() {
+        // given
+        final RoleVocabularyIndex index = new RoleVocabularyIndex(consultantRepository,
+                new FuzzyMatchProperties(false, 4, 8));
+
+        // when
+        final List<String> expanded = index.expand(List.of("Fullstak Developer"));
+
+        // then
+        assertThat(expanded).containsExactly("Fullstak Developer");
+        verify(consultantRepository, never()).findDistinctRoles();
+    }
+
+    @Test
+    void onAssignmentChanged_onlyAddedOrRemovedAssignments_rebuildVocabulary() {
+        // given
+        final RoleVocabularyIndex index = new RoleVocabularyIndex(consultantRepository, PROPERTIES);
+        index.expand(List.of("lead"));
+
+        // when
+        index.onAssignmentChanged(AssignmentChangedEvent.local("alice", "apollo", ChangeType.UPDATED));
+        index.expand(List.of("lead"));
+        index.onAssignmentChanged(AssignmentChangedEvent.local("alice", "apollo", ChangeType.CREATED));
+        index.expand(List.of("lead"));
+
+        // then
+        verify(consultantRepository, times(2)).findDistinctRoles();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.demo.index;
+
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.event.SkillHierarchyChangedEvent;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.SkillLink;
+import com.example.demo.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Incremental maintenance of the skill hierarchy closure, against a mocked repository.
+ * - Builds a diamond (Kotlin is a subskill of both JVM and Android, which are subskills of Programming)
+ * - Links and unlinks edges and checks that a skill reachable over a second path stays implied
+ * - Compares the incrementally updated closure with one built from scratch
+ */
+class SkillHierarchyIndexTest {
+
+    private static final List<Skill> SKILLS = List.of(
+            skill("programming", "Programming"),
+            skill("jvm", "JVM"),
+            skill("android", "Android"),
+            skill("kotlin", "Kotlin"),
+            skill("ktor", "Ktor"));
+
+    private SkillRepository skillRepository;
+    private List<SkillLink> links;
+
+    @BeforeEach
+    void setUp() {
+        links = new ArrayList<>(List.of(
+                new SkillLink("jvm", "programming"),
+                new SkillLink("android", "programming"),
+                new SkillLink("kotlin", "jvm"),
+                new SkillLink("kotlin", "android")));
+        skillRepository = mock(SkillRepository.class);
+        when(skillRepository.findAll()).thenReturn(SKILLS);
+        when(skillRepository.findSkillLinks()).thenAnswer(invocation -> List.copyOf(links));
+    }
+
+    @Test
+    void expand_diamond_impliesSharedSubskillOnce() {
+        // given
+        final SkillHierarchyIndex index = new SkillHierarchyIndex(skillRepository);
+
+        // when
+        final List<String> expanded = index.expand(List.of("Programming", "Unknown"));
+
+        // then
+        assertThat(expanded).containsExactly("Programming", "JVM", "Android", "Kotlin", "Unknown");
+        assertThat(index.subskillIds("jvm")).containsExactly("kotlin");
+        assertThat(index.isSubskillOf("kotlin", "programming")).isTrue();
+        assertThat(index.isSubskillOf("programming", "kotlin")).isFalse();
+    }
+
+    @Test
+    void onHierarchyChanged_unlinkOnePathOfDiamond_keepsOtherPath() {
+        // given
+        final SkillHierarchyIndex index = new SkillHierarchyIndex(skillRepository);
+        index.expand(List.of("Programming"));
+
+        // when
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.unlinked("kotlin", "jvm"));
+
+        // then
+        assertThat(index.expand(List.of("JVM"))).containsExactly("JVM");
+        assertThat(index.expand(List.of("Programming"))).contains("Kotlin");
+        assertThat(index.isSubskillOf("kotlin", "programming")).isTrue();
+        assertThat(index.isSubskillOf("kotlin", "jvm")).isFalse();
+        assertThat(index.isSubskillOf("kotlin", "android")).isTrue();
+    }
+
+    @Test
+    void onHierarchyChanged_unlinkBothPathsOfDiamond_detachesSubskill() {
+        // given
+        final SkillHierarchyIndex index = new SkillHierarchyIndex(skillRepository);
+        index.expand(List.of("Programming"));
+
+        // when
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.unlinked("kotlin", "jvm"));
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.remote("kotlin", "android", false));
+
+        // then
+        assertThat(index.expand(List.of("Programming"))).containsExactly("Programming", "JVM", "Android");
+        assertThat(index.isSubskillOf("kotlin", "programming")).isFalse();
+        assertThat(index.subskillIds("programming")).containsExactlyInAnyOrder("jvm", "android");
+    }
+
+    @Test
+    void onHierarchyChanged_linkUnderSharedSubskill_reachesEveryAncestor() {
+        // given
+        final SkillHierarchyIndex index = new SkillHierarchyIndex(skillRepository);
+        index.expand(List.of("Programming"));
+
+        // when
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.linked("ktor", "kotlin"));
+
+        // then
+        assertThat(index.expand(List.of("JVM"))).containsExactly("JVM", "Kotlin", "Ktor");
+        assertThat(index.expand(List.of("Android"))).containsExactly("Android", "Kotlin", "Ktor");
+        assertThat(index.isSubskillOf("ktor", "programming")).isTrue();
+    }
+
+    @Test
+    void onHierarchyChanged_sequenceOfChanges_matchesFreshBuild() {
+        // given
+        final SkillHierarchyIndex index = new SkillHierarchyIndex(skillRepository);
+        index.expand(List.of("Programming"));
+
+        // when
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.linked("ktor", "kotlin"));
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.unlinked("android", "programming"));
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.unlinked("kotlin", "jvm"));
+        index.onHierarchyChanged(SkillHierarchyChangedEvent.linked("android", "jvm"));
+        links.add(new SkillLink("ktor", "kotlin"));
+        links.remove(new SkillLink("android", "programming"));
+        links.remove(new SkillLink("kotlin", "jvm"));
+        links.add(new SkillLink("android", "jvm"));
+
+        // then
+        final SkillHierarchyIndex rebuilt = new SkillHierarchyIndex(skillRepository);
+        for (final Skill skill : SKILLS) {
+            assertThat(index.expand(List.of(skill.getName())))
+                    .containsExactlyInAnyOrderElementsOf(rebuilt.expand(List.of(skill.getName())));
+            assertThat(index.subskillIds(skill.getId()))
+                    .containsExactlyInAnyOrderElementsOf(rebuilt.subskillIds(skill.getId()));
+        }
+    }
+
+    @Test
+    void onEntityChanged_skillRenamed_updatesExpansionsWithoutRebuild() {
+        // given
+        final SkillHierarchyIndex index = new SkillHierarchyIndex(skillRepository);
+        index.expand(List.of("Programming"));
+        when(skillRepository.findById("kotlin")).thenReturn(Optional.of(skill("kotlin", "Kotlin/JVM")));
+
+        // when
+        index.onEntityChanged(EntityChangedEvent.updated(EntityType.SKILL, "kotlin"));
+
+        // then
+        assertThat(index.expand(List.of("Programming"))).containsExactly("Programming", "JVM", "Android", "Kotlin/JVM");
+        assertThat(index.expand(List.of("Kotlin"))).containsExactly("Kotlin");
+        assertThat(index.expand(List.of("Kotlin/JVM"))).containsExactly("Kotlin/JVM");
+        verify(skillRepository, times(1)).findAll();
+    }
+
+    @Test
+    void onEntityChanged_skillDeleted_rebuildsOnNextUse() {
+        // given
+        final SkillHierarchyIndex index = new SkillHierarchyIndex(skillRepository);
+        index.expand(List.of("Programming"));
+
+        // when
+        index.onEntityChanged(EntityChangedEvent.deleted(EntityType.SKILL, "ktor"));
+        index.expand(List.of("Programming"));
+
+        // then
+        verify(skillRepository, times(2)).findAll();
+    }
+
+    private static Skill skill(final String id, final String name) {
+        final Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        return skill;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.index;
+
+import com.example.demo.config.FuzzyMatchProperties;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.model.Skill;
+import com.example.demo.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Resolution of search terms to canonical skill names, against a mocked repository.
+ * - Resolves whole terms by name or synonym, and multi-skill terms through the token trie
+ * - Falls back to the closest names or synonyms when the trie misses
+ * - Passes terms through unchanged when nothing is close enough
+ */
+class SkillSynonymIndexTest {
+
+    private static final FuzzyMatchProperties PROPERTIES = new FuzzyMatchProperties(true, 4, 8);
+
+    private SkillRepository skillRepository;
+
+    @BeforeEach
+    void setUp() {
+        skillRepository = mock(SkillRepository.class);
+        when(skillRepository.findAll()).thenReturn(List.of(
+                skill("Java", "jdk"),
+                skill("Spring Boot", "springboot"),
+                skill("Kubernetes", "k8s"),
+                skill("Kotlin")));
+    }
+
+    @Test
+    void canonicalize_nameOrSynonym_resolvesToCanonicalName() {
+        // given
+        final SkillSynonymIndex index = new SkillSynonymIndex(skillRepository, PROPERTIES);
+
+        // when
+        final List<String> canonical = index.canonicalize(List.of("JDK", " spring boot ", "K8S"));
+
+        // then
+        assertThat(canonical).containsExactly("Java", "Spring Boot", "Kubernetes");
+    }
+
+    @Test
+    void canonicalize_termNamingSeveralSkills_splitsByLongestMatch() {
+        // given
+        final SkillSynonymIndex index = new SkillSynonymIndex(skillRepository, PROPERTIES);
+
+        // when
+        final List<String> canonical = index.canonicalize(List.of("java, spring boot and kotlin"));
+
+        // then
+        assertThat(canonical).containsExactly("Java", "Spring Boot", "Kotlin");
+    }
+
+    @Test
+    void canonicalize_trieMisses_fallsBackToClosestTerm() {
+        // given
+        final SkillSynonymIndex index = new SkillSynonymIndex(skillRepository, PROPERTIES);
+
+        // when
+        final List<String> canonical = index.canonicalize(List.of("kubernets", "Kotln"));
+
+        // then
+        assertThat(canonical).containsExactly("Kubernetes", "Kotlin");
+    }
+
+    @Test
+    void canonicalize_nothingCloseEnough_passesTermThrough() {
+        // given
+        final SkillSynonymIndex index = new SkillSynonymIndex(skillRepository, PROPERTIES);
+
+        // when
+        final List<String> canonical = index.canonicalize(List.of(" Haskell ", "jav"));
+
+        // then
+        assertThat(canonical).containsExactly("Haskell", "jav");
+    }
+
+    @Test
+    void onEntityChanged_skillChanged_rebuildsOnNextUse() {
+        // given
+        final SkillSynonymIndex index = new SkillSynonymIndex(skillRepository, PROPERTIES);
+        index.canonicalize(List.of("java"));
+
+        // when
+        index.onEntityChanged(EntityChangedEvent.updated(EntityType.CONSULTANT, "alice"));
+        index.canonicalize(List.of("java"));
+        index.onEntityChanged(EntityChangedEvent.updated(EntityType.SKILL, "java"));
+        index.canonicalize(List.of("java"));
+
+        // then
+        verify(skillRepository, times(2)).findAll();
+    }
+
+    private static Skill skill(final String name, final String... synonyms) {
+        final Skill skill = new Skill();
+        skill.setId(name.toLowerCase(Locale.ROOT));
+        skill.setName(name);
+        skill.setSynonyms(List.of(synonyms));
+        return skill;
+    }
+}
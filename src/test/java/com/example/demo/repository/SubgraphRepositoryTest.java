@@ -0,0 +1,129 @@
+package com.example.demo.repository;
+
+import com.example.demo.config.Neo4jTestContainerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.summary.Plan;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Subgraph reads against a real database.
+ * - Starts Neo4j in Docker (Testcontainers)
+ * - Looks up roots by label and id and expands neighbours by element id
+ * - Checks a hub does not use up the relationship budget of its level
+ * - Checks the plans of both statements never scan all nodes
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SubgraphRepositoryTest extends Neo4jTestContainerConfig {
+
+    @Autowired
+    private SubgraphRepository subgraphRepository;
+
+    @Autowired
+    private Neo4jClient neo4jClient;
+
+    @BeforeEach
+    void setUp() {
+        neo4jClient.query("MATCH (n) DETACH DELETE n").run();
+        neo4jClient.query("""
+                CREATE (hub:Project {id: 'hub', name: 'Hub'})
+                WITH hub
+                UNWIND range(1, 10) AS i
+                CREATE (:Consultant {id: 'member-' + i, name: 'Member ' + i})-[:ASSIGNED_TO]->(hub)
+                """).run();
+        neo4jClient.query("""
+                CREATE (quiet:Skill {id: 'quiet', name: 'Quiet'})
+                WITH quiet
+                UNWIND range(1, 2) AS i
+                CREATE (:Consultant {id: 'expert-' + i, name: 'Expert ' + i})-[:HAS_SKILL]->(quiet)
+                """).run();
+    }
+
+    @Test
+    void findNode_labelAndId_returnsNodeWithElementId() {
+        // when
+        final GraphNode hub = subgraphRepository.findNode("Project", "hub").orElseThrow();
+
+        // then
+        assertThat(hub.id()).isEqualTo("hub");
+        assertThat(hub.label()).isEqualTo("Project");
+        assertThat(hub.name()).isEqualTo("Hub");
+        assertThat(hub.elementId()).isNotBlank();
+        assertThat(subgraphRepository.findNode("Skill", "hub")).isEmpty();
+        assertThatThrownBy(() -> subgraphRepository.findNode("Role", "hub"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findNeighbours_hubInFrontier_capsEachNodeSeparately() {
+        // given
+        final GraphNode hub = subgraphRepository.findNode("Project", "hub").orElseThrow();
+        final GraphNode quiet = subgraphRepository.findNode("Skill", "quiet").orElseThrow();
+
+        // when
+        final List<GraphEdge> edges = subgraphRepository.findNeighbours(
+                List.of(hub.elementId(), quiet.elementId()), 3, 100);
+
+        // then
+        final Map<String, Long> perNode = edges.stream()
+                .collect(Collectors.groupingBy(GraphEdge::fromElementId, Collectors.counting()));
+        assertThat(perNode).containsEntry(hub.elementId(), 3L).containsEntry(quiet.elementId(), 2L);
+        assertThat(edges).filteredOn(edge -> edge.fromElementId().equals(quiet.elementId()))
+                .extracting(edge -> edge.neighbour().id())
+                .containsExactlyInAnyOrder("expert-1", "expert-2");
+        assertThat(edges).allSatisfy(edge -> {
+            assertThat(edge.outgoing()).isFalse();
+            assertThat(edge.neighbour().label()).isEqualTo("Consultant");
+        });
+    }
+
+    @Test
+    void findNeighbours_totalLimit_stillApplies() {
+        // given
+        final GraphNode hub = subgraphRepository.findNode("Project", "hub").orElseThrow();
+
+        // when
+        final List<GraphEdge> edges = subgraphRepository.findNeighbours(List.of(hub.elementId()), 10, 4);
+
+        // then
+        assertThat(edges).hasSize(4);
+    }
+
+    @Test
+    void statements_plans_neverScanAllNodes() {
+        // when
+        final List<String> nodeOperators = operators(explain(SubgraphRepository.NODE_BY_LABEL.get("Consultant"),
+                Map.of("id", "member-1")));
+        final List<String> neighbourOperators = operators(explain(SubgraphRepository.NEIGHBOURS,
+                Map.of("elementIds", List.of("unknown"), "perNode", 10, "limit", 100)));
+
+        // then
+        assertThat(nodeOperators).noneMatch(operator -> operator.startsWith("AllNodesScan"))
+                .anyMatch(operator -> operator.startsWith("NodeIndexSeek"));
+        assertThat(neighbourOperators).noneMatch(operator -> operator.startsWith("AllNodesScan"))
+                .anyMatch(operator -> operator.startsWith("NodeByElementIdSeek"));
+    }
+
+    private Plan explain(final String statement, final Map<String, Object> parameters) {
+        return neo4jClient.query("EXPLAIN " + statement).bindAll(parameters).run().plan();
+    }
+
+    private static List<String> operators(final Plan plan) {
+        final List<String> operators = new ArrayList<>();
+        operators.add(plan.operatorType());
+        plan.children().forEach(child -> operators.addAll(operators(child)));
+        return operators;
+    }
+}
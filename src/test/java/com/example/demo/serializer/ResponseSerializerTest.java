@@ -0,0 +1,150 @@
+package com.example.demo.serializer;
+
+import com.example.demo.config.TopLevelFieldFilter;
+import com.example.demo.dto.request.Fieldset;
+import com.example.demo.mapper.ConsultantMapper;
+import com.example.demo.mapper.ProjectMapper;
+import com.example.demo.model.Company;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Project;
+import com.example.demo.model.Skill;
+import com.example.demo.model.relationship.AssignedTo;
+import com.example.demo.model.relationship.HasSkill;
+import com.example.demo.model.relationship.RequiresSkill;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Output compatibility of the entity serializers with the response DTOs they replace.
+ * - Writes each entity directly and through its mapper with the same mapper configuration
+ * - Verifies the bytes are identical, with and without a sparse fieldset
+ */
+class ResponseSerializerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+            .modulesToInstall(new SimpleModule()
+                    .addSerializer(new ConsultantResponseSerializer())
+                    .addSerializer(new ProjectResponseSerializer()))
+            .build();
+
+    @Test
+    void serialize_consultant_matchesConsultantResponse() throws Exception {
+        // given
+        final Consultant consultant = consultant();
+        final Consultant unassigned = new Consultant();
+        unassigned.setId("consultant-2");
+
+        // when
+        final String direct = objectMapper.writeValueAsString(List.of(consultant, unassigned));
+        final String mapped = objectMapper.writeValueAsString(
+                ConsultantMapper.toResponseList(List.of(consultant, unassigned)));
+
+        // then
+        assertThat(direct).isEqualTo(mapped);
+    }
+
+    @Test
+    void serialize_project_matchesProjectResponse() throws Exception {
+        // given
+        final Project project = project();
+        final Project bare = new Project();
+        bare.setId("project-2");
+        bare.setRequirements(null);
+
+        // when
+        final String direct = objectMapper.writeValueAsString(List.of(project, bare));
+        final String mapped = objectMapper.writeValueAsString(ProjectMapper.toResponseList(List.of(project, bare)));
+
+        // then
+        assertThat(direct).isEqualTo(mapped);
+    }
+
+    @Test
+    void serialize_withFieldset_trimsLikeTheResponseDtos() throws Exception {
+        // given
+        final ObjectWriter writer = objectMapper.writer(new SimpleFilterProvider()
+                .addFilter(Fieldset.FILTER_ID, new TopLevelFieldFilter(Fieldset.parse("name,skills,company"))));
+
+        // when
+        final String consultant = writer.writeValueAsString(consultant());
+        final String project = writer.writeValueAsString(project());
+
+        // then
+        assertThat(consultant)
+                .isEqualTo(writer.writeValueAsString(ConsultantMapper.toResponse(consultant())))
+                .doesNotContain("email");
+        assertThat(project)
+                .isEqualTo(writer.writeValueAsString(ProjectMapper.toResponse(project())))
+                .contains("\"field\":\"Technology\"")
+                .doesNotContain("requirements");
+    }
+
+    // One skill and one assignment each: the DTO sets are hash sets, so only single elements have a fixed order.
+    private static Consultant consultant() {
+        final Skill skill = new Skill();
+        skill.setId("skill-1");
+        skill.setName("Java");
+        final HasSkill hasSkill = new HasSkill();
+        hasSkill.setSkill(skill);
+        hasSkill.setSkillYearsOfExperience(5);
+
+        final Project project = new Project();
+        project.setId("project-1");
+        project.setName("Apollo");
+        final AssignedTo assignedTo = new AssignedTo();
+        assignedTo.setProject(project);
+        assignedTo.setRole("Developer");
+        assignedTo.setAllocationPercent(80);
+        assignedTo.setIsActive(true);
+        assignedTo.setStartDate(LocalDateTime.of(2024, 3, 1, 9, 0));
+
+        final Consultant consultant = new Consultant();
+        consultant.setId("consultant-1");
+        consultant.setName("Ada \"The Countess\" Lovelace");
+        consultant.setEmail("ada@example.com");
+        consultant.setYearsOfExperience(12);
+        consultant.setAvailability(true);
+        consultant.setWantsNewProject(false);
+        consultant.getSkills().add(hasSkill);
+        consultant.getProjectAssignments().add(assignedTo);
+        return consultant;
+    }
+
+    private static Project project() {
+        final Company company = new Company();
+        company.setId("company-1");
+        company.setName("Acme");
+        company.setField("Technology");
+
+        final Skill skill = new Skill();
+        skill.setId("skill-1");
+        skill.setName("Java");
+        final RequiresSkill requiresSkill = new RequiresSkill();
+        requiresSkill.setSkill(skill);
+        requiresSkill.setMinYearsOfExperience(3);
+        requiresSkill.setIsMandatory(true);
+
+        final Project project = new Project();
+        project.setId("project-1");
+        project.setName("Apollo");
+        project.setRequirements(List.of("Security clearance", "On-site"));
+        project.setStartDate(LocalDateTime.of(2024, 1, 15, 0, 0));
+        project.setCompany(company);
+        project.getRequiredSkills().add(requiresSkill);
+        project.setRoles(Map.of("Developer", 3, "Architect", 1));
+        return project;
+    }
+}
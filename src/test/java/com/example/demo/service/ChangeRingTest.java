@@ -0,0 +1,133 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cursor reads, overflow detection and wakeups of the change-stream ring buffer.
+ * - Appends into a small ring and reads from several cursors
+ * - Parks readers on their own threads and checks appends and close wake them
+ */
+class ChangeRingTest {
+
+    private static final long NO_WAIT = 0;
+    private static final long LONG_WAIT = Duration.ofSeconds(30).toNanos();
+
+    @Test
+    void read_entriesAfterCursor_returnsThemInOrder() throws Exception {
+        // given
+        final ChangeRing ring = new ChangeRing(4);
+        ring.append("created", "1");
+        ring.append("updated", "2");
+        ring.append("deleted", "3");
+
+        // when
+        final List<ChangeRing.Entry> entries = ring.read(1, NO_WAIT);
+
+        // then
+        assertThat(entries).extracting(ChangeRing.Entry::seq).containsExactly(2L, 3L);
+        assertThat(entries).extracting(ChangeRing.Entry::name).containsExactly("updated", "deleted");
+        assertThat(ring.read(3, NO_WAIT)).isEmpty();
+    }
+
+    @Test
+    void read_cursorOverwritten_returnsNull() throws Exception {
+        // given
+        final ChangeRing ring = new ChangeRing(2);
+        for (int i = 1; i <= 5; i++) {
+            ring.append("updated", Integer.toString(i));
+        }
+
+        // when / then
+        assertThat(ring.read(2, NO_WAIT)).isNull();
+        assertThat(ring.read(3, NO_WAIT)).extracting(ChangeRing.Entry::data).containsExactly("4", "5");
+        assertThat(ring.read(6, NO_WAIT)).isNull();
+    }
+
+    @Test
+    void canResumeAfter_onlySequencesStillInRing() {
+        // given
+        final ChangeRing ring = new ChangeRing(2);
+        for (int i = 1; i <= 5; i++) {
+            ring.append("updated", Integer.toString(i));
+        }
+
+        // when / then
+        assertThat(ring.canResumeAfter(2)).isFalse();
+        assertThat(ring.canResumeAfter(3)).isTrue();
+        assertThat(ring.canResumeAfter(5)).isTrue();
+        assertThat(ring.canResumeAfter(6)).isFalse();
+        assertThat(ring.canResumeAfter(-1)).isFalse();
+    }
+
+    @Test
+    void read_caughtUp_wakesOnAppend() throws Exception {
+        // given
+        final ChangeRing ring = new ChangeRing(4);
+        final CompletableFuture<List<ChangeRing.Entry>> reader = read(ring, 0, LONG_WAIT);
+
+        // when
+        awaitWaiting(reader);
+        ring.append("created", "1");
+
+        // then
+        assertThat(reader.get(10, TimeUnit.SECONDS)).extracting(ChangeRing.Entry::data).containsExactly("1");
+    }
+
+    @Test
+    void read_caughtUp_returnsEmptyAfterTimeout() throws Exception {
+        // given
+        final ChangeRing ring = new ChangeRing(4);
+
+        // when
+        final List<ChangeRing.Entry> entries = ring.read(0, Duration.ofMillis(20).toNanos());
+
+        // then
+        assertThat(entries).isEmpty();
+    }
+
+    @Test
+    void close_wakesWaitingReaders() throws Exception {
+        // given
+        final ChangeRing ring = new ChangeRing(4);
+        final CompletableFuture<List<ChangeRing.Entry>> first = read(ring, 0, LONG_WAIT);
+        final CompletableFuture<List<ChangeRing.Entry>> second = read(ring, 0, LONG_WAIT);
+        awaitWaiting(first);
+        awaitWaiting(second);
+
+        // when
+        ring.close();
+
+        // then
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEmpty();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEmpty();
+        assertThat(ring.read(0, LONG_WAIT)).isEmpty();
+    }
+
+    private static CompletableFuture<List<ChangeRing.Entry>> read(final ChangeRing ring, final long cursor,
+                                                                 final long timeoutNanos) {
+        final CompletableFuture<List<ChangeRing.Entry>> result = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                result.complete(ring.read(cursor, timeoutNanos));
+            } catch (final InterruptedException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Gives the reader time to park; the assertions hold either way, this only makes the wakeup path likely.
+     */
+    private static void awaitWaiting(final CompletableFuture<?> reader) throws InterruptedException {
+        Thread.sleep(50);
+        assertThat(reader).isNotDone();
+    }
+}
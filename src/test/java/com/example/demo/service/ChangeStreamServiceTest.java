@@ -0,0 +1,221 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ChangeStreamProperties;
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Resuming and resyncing change-stream subscribers, with emitters that record what they are sent.
+ * - Reconnects with a Last-Event-ID and checks exactly the missed events are replayed
+ * - Reconnects with an unknown id and checks a resync comes first
+ * - Holds a subscriber in a send while the buffer wraps and checks it is resynced to the head
+ */
+class ChangeStreamServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private ChangeStreamService changeStreamService;
+
+    @AfterEach
+    void shutdown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        changeStreamService.shutdown();
+    }
+
+    @Test
+    void subscribe_lastEventIdInBuffer_replaysOnlyMissedEvents() throws Exception {
+        // given
+        changeStreamService = newService(16);
+        final RecordingEmitter first = subscribe(null, false);
+        publish("c1");
+        publish("c2");
+        publish("c3");
+        final List<Frame> seen = first.next(3);
+
+        // when
+        final RecordingEmitter resumed = subscribe(seen.getFirst().id(), false);
+
+        // then
+        assertThat(resumed.next(2)).containsExactlyElementsOf(seen.subList(1, 3));
+        publish("c4");
+        assertThat(resumed.next(1)).extracting(Frame::data).singleElement().asString().contains("\"c4\"");
+    }
+
+    @Test
+    void subscribe_lastEventIdAtHead_waitsForNewEvents() throws Exception {
+        // given
+        changeStreamService = newService(16);
+        final RecordingEmitter first = subscribe(null, false);
+        publish("c1");
+        final Frame last = first.next(1).getFirst();
+
+        // when
+        final RecordingEmitter resumed = subscribe(last.id(), false);
+        publish("c2");
+
+        // then
+        assertThat(resumed.next(1)).extracting(Frame::data).singleElement().asString().contains("\"c2\"");
+    }
+
+    @Test
+    void subscribe_unknownLastEventId_sendsResyncFirst() throws Exception {
+        // given
+        changeStreamService = newService(16);
+        publish("c1");
+
+        // when
+        final RecordingEmitter resumed = subscribe("from-an-earlier-run-7", false);
+        publish("c2");
+
+        // then
+        final List<Frame> frames = resumed.next(2);
+        assertThat(frames.get(0).name()).isEqualTo("resync");
+        assertThat(frames.get(0).data()).contains("unknown-last-event-id");
+        assertThat(frames.get(1).name()).isEqualTo("consultant.updated");
+        assertThat(frames.get(1).data()).contains("\"c2\"");
+    }
+
+    @Test
+    void subscribe_lastEventIdOverwritten_sendsResync() throws Exception {
+        // given
+        changeStreamService = newService(2);
+        final RecordingEmitter first = subscribe(null, false);
+        publish("c1");
+        final String oldest = first.next(1).getFirst().id();
+        for (int i = 2; i <= 4; i++) {
+            publish("c" + i);
+        }
+
+        // when
+        final RecordingEmitter resumed = subscribe(oldest, false);
+
+        // then
+        assertThat(resumed.next(1)).extracting(Frame::name).containsExactly("resync");
+    }
+
+    @Test
+    void slowSubscriber_fallsOutOfBuffer_isResyncedToHead() throws Exception {
+        // given
+        changeStreamService = newService(2);
+        final RecordingEmitter slow = subscribe(null, true);
+        final RecordingEmitter fast = subscribe(null, false);
+        publish("c1");
+        final Frame blockedOn = slow.next(1).getFirst();
+
+        // when
+        final List<Frame> fastFrames = new ArrayList<>(fast.next(1));
+        for (int i = 2; i <= 5; i++) {
+            publish("c" + i);
+            fastFrames.addAll(fast.next(1));
+        }
+        slow.release.countDown();
+        final Frame resync = slow.next(1).getFirst();
+        publish("c6");
+
+        // then
+        assertThat(blockedOn.data()).contains("\"c1\"");
+        assertThat(fastFrames).extracting(Frame::name).doesNotContain("resync");
+        assertThat(resync.name()).isEqualTo("resync");
+        assertThat(resync.data()).contains("overflow");
+        assertThat(resync.id()).isEqualTo(fastFrames.getLast().id());
+        assertThat(slow.next(1)).extracting(Frame::data).singleElement().asString().contains("\"c6\"");
+    }
+
+    private ChangeStreamService newService(final int bufferSize) {
+        return new ChangeStreamService(
+                new ChangeStreamProperties(bufferSize, Duration.ofMinutes(5), Duration.ofMinutes(30)), OBJECT_MAPPER);
+    }
+
+    private RecordingEmitter subscribe(final String lastEventId, final boolean blockFirstSend) {
+        final RecordingEmitter emitter = new RecordingEmitter(blockFirstSend);
+        emitters.add(emitter);
+        changeStreamService.subscribe(lastEventId, emitter);
+        return emitter;
+    }
+
+    private void publish(final String consultantId) {
+        changeStreamService.onEntityChanged(EntityChangedEvent.updated(EntityType.CONSULTANT, consultantId));
+    }
+
+    private record Frame(String id, String name, String data) {
+
+        private static Frame parse(final String text) {
+            String id = null;
+            String name = null;
+            String data = null;
+            for (final String line : text.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    data = line.substring(5);
+                }
+            }
+            return new Frame(id, name, data);
+        }
+    }
+
+    /**
+     * Records every event frame it is sent (heartbeat comments are skipped); optionally blocks inside the first
+     * send until released, like a client that stopped reading.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<Frame> frames = new LinkedBlockingQueue<>();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private boolean block;
+
+        private RecordingEmitter(final boolean blockFirstSend) {
+            this.block = blockFirstSend;
+        }
+
+        @Override
+        public void send(final SseEventBuilder builder) {
+            final String text = builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining());
+            if (text.startsWith(":")) {
+                return;
+            }
+            frames.add(Frame.parse(text));
+            if (block) {
+                block = false;
+                try {
+                    release.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private List<Frame> next(final int count) throws InterruptedException {
+            final List<Frame> next = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final Frame frame = frames.poll(10, TimeUnit.SECONDS);
+                assertThat(frame).as("frame %d of %d", i + 1, count).isNotNull();
+                next.add(frame);
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.service;
+
+import com.example.demo.config.Neo4jTestContainerConfig;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Project;
+import com.example.demo.repository.ConsultantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Stress test for concurrent writes against the same consultant aggregate.
+ * - Starts Neo4j in Docker (Testcontainers)
+ * - Fires many assignments for one consultant at the same instant
+ * - Verifies that no assignment is lost
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConsultantServiceConcurrencyTest extends Neo4jTestContainerConfig {
+
+    private static final int PARALLEL_ASSIGNMENTS = 32;
+
+    @Autowired
+    private ConsultantService consultantService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ConsultantRepository consultantRepository;
+
+    @Autowired
+    private Neo4jClient neo4jClient;
+
+    @BeforeEach
+    void cleanDatabase() {
+        neo4jClient.query("MATCH (n) DETACH DELETE n").run();
+    }
+
+    @Test
+    void assignToProject_concurrentAssignmentsForSameConsultant_keepsEveryAssignment() throws Exception {
+        // given
+        final Consultant consultant = consultantService.create(newConsultant("stress@test.no"));
+        final List<Project> projects = IntStream.range(0, PARALLEL_ASSIGNMENTS)
+                .mapToObj(i -> projectService.create(newProject("Stress project " + i)))
+                .toList();
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_ASSIGNMENTS);
+
+        // when
+        try {
+            final List<Future<Consultant>> futures = new ArrayList<>();
+            for (final Project project : projects) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return consultantService.assignToProject(consultant.getId(), project.getId(),
+                            "Developer", 50, true, null, null);
+                }));
+            }
+            startSignal.countDown();
+            for (final Future<Consultant> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        final Consultant reloaded = consultantService.findById(consultant.getId()).orElseThrow();
+        assertThat(reloaded.getProjectAssignments()).hasSize(PARALLEL_ASSIGNMENTS);
+        assertThat(reloaded.getAvailability()).isFalse();
+    }
+
+    @Test
+    void save_staleConsultantVersion_isRejected() {
+        // given
+        final Consultant consultant = consultantService.create(newConsultant("stale@test.no"));
+        final Consultant firstCopy = consultantRepository.findById(consultant.getId()).orElseThrow();
+        final Consultant staleCopy = consultantRepository.findById(consultant.getId()).orElseThrow();
+
+        // when
+        firstCopy.setYearsOfExperience(10);
+        consultantRepository.save(firstCopy);
+        staleCopy.setYearsOfExperience(1);
+
+        // then
+        assertThatThrownBy(() -> consultantRepository.save(staleCopy))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    private Consultant newConsultant(final String email) {
+        final Consultant consultant = new Consultant();
+        consultant.setName("Stress Tester");
+        consultant.setEmail(email);
+        consultant.setYearsOfExperience(5);
+        consultant.setWantsNewProject(true);
+        consultant.setOpenToRemote(true);
+        return consultant;
+    }
+
+    private Project newProject(final String name) {
+        final Project project = new Project();
+        project.setName(name);
+        return project;
+    }
+}
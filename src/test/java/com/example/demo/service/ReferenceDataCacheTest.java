@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import com.example.demo.config.Neo4jTestContainerConfig;
+import com.example.demo.model.Company;
+import com.example.demo.model.Consultant;
+import com.example.demo.model.Project;
+import com.example.demo.model.Skill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Writes that link to cached reference data create the relationship by id and never save the cached instance back.
+ * - Starts Neo4j in Docker (Testcontainers)
+ * - Warms the cache, then changes the skill or company behind its back (as another replica would before the relay
+ *   evicts it)
+ * - Links it from a project or consultant and checks the stored node keeps the newer properties
+ * - Checks that linking again updates the relationship instead of adding a second one
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceDataCacheTest extends Neo4jTestContainerConfig {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ConsultantService consultantService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private Neo4jClient neo4jClient;
+
+    @BeforeEach
+    void cleanDatabase() {
+        neo4jClient.query("MATCH (n) DETACH DELETE n").run();
+    }
+
+    @Test
+    void assignCompany_staleCachedCompany_keepsStoredProperties() {
+        // given
+        final Company company = new Company();
+        company.setName("Equinor");
+        company.setField("Energy");
+        final String companyId = companyService.create(company).getId();
+        assertThat(companyService.findById(companyId)).isPresent();
+        setProperty("Company", companyId, "field", "Renewables");
+        final Project project = projectService.create(newProject("Wind farm"));
+
+        // when
+        projectService.assignCompany(project.getId(), companyId);
+
+        // then
+        assertThat(readProperty("Company", companyId, "field")).isEqualTo("Renewables");
+        assertThat(projectService.findById(project.getId()).orElseThrow().getCompany().getId()).isEqualTo(companyId);
+    }
+
+    @Test
+    void addRequiredSkill_staleCachedSkill_keepsStoredProperties() {
+        // given
+        final Skill skill = new Skill();
+        skill.setName("Kotlin");
+        final String skillId = skillService.create(skill).getId();
+        assertThat(skillService.findById(skillId)).isPresent();
+        setProperty("Skill", skillId, "name", "Kotlin Multiplatform");
+        final Project project = projectService.create(newProject("Mobile app"));
+
+        // when
+        projectService.addRequiredSkill(project.getId(), skillId, 2, true);
+
+        // then
+        assertThat(readProperty("Skill", skillId, "name")).isEqualTo("Kotlin Multiplatform");
+    }
+
+    @Test
+    void assignCompany_secondCompany_replacesOwner() {
+        // given
+        final String first = newCompany("Equinor");
+        final String second = newCompany("Statkraft");
+        final Project project = projectService.create(newProject("Grid upgrade"));
+        projectService.assignCompany(project.getId(), first);
+
+        // when
+        final Project assigned = projectService.assignCompany(project.getId(), second);
+
+        // then
+        assertThat(assigned.getCompany().getId()).isEqualTo(second);
+        assertThat(countRelationships("Project", project.getId(), "OWNED_BY")).isEqualTo(1);
+    }
+
+    @Test
+    void addSkill_staleCachedSkillLinkedTwice_keepsStoredPropertiesAndOneRelationship() {
+        // given
+        final Skill skill = new Skill();
+        skill.setName("Rust");
+        final String skillId = skillService.create(skill).getId();
+        assertThat(skillService.findById(skillId)).isPresent();
+        setProperty("Skill", skillId, "name", "Rust 2024");
+        final Consultant consultant = new Consultant();
+        consultant.setName("Ada");
+        consultant.setEmail("ada@example.com");
+        final String consultantId = consultantService.create(consultant).getId();
+
+        // when
+        consultantService.addSkill(consultantId, skillId, 2);
+        final Consultant updated = consultantService.addSkill(consultantId, skillId, 4);
+
+        // then
+        assertThat(readProperty("Skill", skillId, "name")).isEqualTo("Rust 2024");
+        assertThat(countRelationships("Consultant", consultantId, "HAS_SKILL")).isEqualTo(1);
+        assertThat(updated.getSkills()).singleElement()
+                .satisfies(hasSkill -> assertThat(hasSkill.getSkillYearsOfExperience()).isEqualTo(4));
+    }
+
+    @Test
+    void addRequiredSkill_unknownSkillOrProject_isRejected() {
+        // given
+        final Project project = projectService.create(newProject("Data platform"));
+        final Skill skill = new Skill();
+        skill.setName("Spark");
+        final String skillId = skillService.create(skill).getId();
+
+        // when / then
+        assertThatThrownBy(() -> projectService.addRequiredSkill(project.getId(), "missing", 1, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Skill not found");
+        assertThatThrownBy(() -> projectService.addRequiredSkill("missing", skillId, 1, true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Project not found");
+    }
+
+    private String newCompany(final String name) {
+        final Company company = new Company();
+        company.setName(name);
+        return companyService.create(company).getId();
+    }
+
+    private long countRelationships(final String label, final String id, final String type) {
+        return neo4jClient.query("MATCH (n:" + label + " {id: $id})-[r]->() WHERE type(r) = $type RETURN count(r)")
+                .bindAll(Map.of("id", id, "type", type))
+                .fetchAs(Long.class)
+                .one()
+                .orElseThrow();
+    }
+
+    private void setProperty(final String label, final String id, final String property, final String value) {
+        neo4jClient.query("MATCH (n:" + label + " {id: $id}) SET n += $properties")
+                .bindAll(Map.of("id", id, "properties", Map.of(property, value)))
+                .run();
+    }
+
+    private String readProperty(final String label, final String id, final String property) {
+        return neo4jClient.query("MATCH (n:" + label + " {id: $id}) RETURN n[$property] AS value")
+                .bindAll(Map.of("id", id, "property", property))
+                .fetchAs(String.class)
+                .one()
+                .orElseThrow();
+    }
+
+    private static Project newProject(final String name) {
+        final Project project = new Project();
+        project.setName(name);
+        return project;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.demo.service;
+
+import com.example.demo.event.EntityChangedEvent;
+import com.example.demo.event.EntityChangedEvent.EntityType;
+import com.example.demo.model.Consultant;
+import com.example.demo.repository.ConsultantSearchCriteria;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Single-flight behaviour of consultant searches.
+ * - Holds the first search open until every caller has joined it
+ * - Verifies that equal searches run once and share the result
+ * - Commits a write while a search is in flight and checks later searches do not join it
+ */
+class SearchCoalescerTest {
+
+    private static final int PARALLEL_SEARCHES = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SearchCoalescer searchCoalescer = new SearchCoalescer(meterRegistry);
+
+    @Test
+    void execute_identicalConcurrentSearches_shareOneExecution() throws Exception {
+        // given
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Consultant> result = List.of(new Consultant());
+
+        // when
+        final List<Future<List<Consultant>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_SEARCHES)) {
+            for (int i = 0; i < PARALLEL_SEARCHES; i++) {
+                final List<String> skills = i % 2 == 0 ? List.of("Java", "Kotlin") : List.of("Kotlin", "Java");
+                futures.add(executor.submit(() -> searchCoalescer.execute(criteria(skills), criteria -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return result;
+                })));
+            }
+            waitForJoins(PARALLEL_SEARCHES - 1);
+            release.countDown();
+
+            // then
+            for (final Future<List<Consultant>> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).containsExactlyElementsOf(result);
+            }
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.get(SearchCoalescer.EXECUTIONS).tag("shape", "SKILLS").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(SearchCoalescer.COALESCED).tag("shape", "SKILLS").counter().count())
+                .isEqualTo(PARALLEL_SEARCHES - 1);
+    }
+
+    @Test
+    void execute_writeCommittedMidSearch_runsFreshSearchThatLaterCallsJoin() throws Exception {
+        // given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Consultant> beforeWrite = List.of(new Consultant());
+        final List<Consultant> afterWrite = List.of(new Consultant(), new Consultant());
+        final AtomicInteger executions = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            final Future<List<Consultant>> stale = executor.submit(() ->
+                    searchCoalescer.execute(criteria(List.of("Java")), criteria -> {
+                        executions.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return beforeWrite;
+                    }));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            searchCoalescer.onEntityChanged(EntityChangedEvent.updated(EntityType.CONSULTANT, "alice"));
+            final CountDownLatch freshStarted = new CountDownLatch(1);
+            final CountDownLatch releaseFresh = new CountDownLatch(1);
+            final Future<List<Consultant>> fresh = executor.submit(() ->
+                    searchCoalescer.execute(criteria(List.of("Java")), criteria -> {
+                        executions.incrementAndGet();
+                        freshStarted.countDown();
+                        await(releaseFresh);
+                        return afterWrite;
+                    }));
+            assertThat(freshStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            final CompletableFuture<List<Consultant>> joined = CompletableFuture.supplyAsync(() ->
+                    searchCoalescer.execute(criteria(List.of("Java")), criteria -> {
+                        executions.incrementAndGet();
+                        return List.of();
+                    }));
+            waitForJoins(1);
+            release.countDown();
+            releaseFresh.countDown();
+
+            // then
+            assertThat(stale.get(10, TimeUnit.SECONDS)).containsExactlyElementsOf(beforeWrite);
+            assertThat(fresh.get(10, TimeUnit.SECONDS)).containsExactlyElementsOf(afterWrite);
+            assertThat(joined.get(10, TimeUnit.SECONDS)).containsExactlyElementsOf(afterWrite);
+        }
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void execute_afterCompletion_runsAgain() {
+        // given
+        final AtomicInteger executions = new AtomicInteger();
+
+        // when
+        searchCoalescer.execute(criteria(List.of("Java")), criteria -> {
+            executions.incrementAndGet();
+            return List.of();
+        });
+        searchCoalescer.execute(criteria(List.of("Java")), criteria -> {
+            executions.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void execute_failingSearch_propagatesAndDoesNotStick() {
+        // when / then
+        assertThatThrownBy(() -> searchCoalescer.execute(criteria(List.of("Java")), criteria -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(searchCoalescer.execute(criteria(List.of("Java")), criteria -> List.of())).isEmpty();
+    }
+
+    private void waitForJoins(final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.find(SearchCoalescer.COALESCED).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Searches did not join in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ConsultantSearchCriteria criteria(final List<String> skillNames) {
+        return new ConsultantSearchCriteria(skillNames, null, null, null, null, null, null, null);
+    }
+}